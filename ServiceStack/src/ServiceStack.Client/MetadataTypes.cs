@@ -85,6 +85,10 @@ public class MetadataTypesConfig
     public bool AddPropertyAccessors { get; set; }
     public bool ExcludeGenericBaseTypes { get; set; }
     public bool SettersReturnThis { get; set; }
+    public bool AddGsonTypeAdapters { get; set; }
+    public bool UseRecords { get; set; }
+    public bool FilePerType { get; set; }
+    public bool AddNativeImageConfig { get; set; }
     public bool AddNullableAnnotations { get; set; }
     public bool MakePropertiesOptional { get; set; }
     public bool ExportAsTypes { get; set; }
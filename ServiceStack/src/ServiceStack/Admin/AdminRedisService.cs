@@ -1,6 +1,7 @@
 #nullable enable
 using System;
 using System.Collections.Generic;
+using System.Linq;
 using System.Threading.Tasks;
 using ServiceStack.Configuration;
 using ServiceStack.DataAnnotations;
@@ -18,6 +19,7 @@ public class AdminRedis : IPost, IReturn<AdminRedisResponse>
     public int? Take { get; set; }
     public int? Position { get; set; }
     public List<string>? Args { get; set; }
+    public List<List<string>>? Commands { get; set; }
 }
 public class AdminRedisResponse : IHasResponseStatus
 {
@@ -26,6 +28,8 @@ public class AdminRedisResponse : IHasResponseStatus
     public Dictionary<string, string>? Info { get; set; }
     public RedisEndpointInfo? Endpoint { get; set; }
     public RedisText? Result { get; set; }
+    public List<RedisText>? Results { get; set; }
+    public int? Position { get; set; }
     public ResponseStatus? ResponseStatus { get; set; }
 }
 
@@ -77,15 +81,18 @@ public async Task<object> Post(AdminRedis request)
         };
 
         if (request.Query != null)
-            to.SearchResults = (await Search(redis, request.Query!, request.Position ?? 0, request.Take ?? feature.QueryLimit)).Results;
+        {
+            var search = await Search(redis, request.Query!, request.Position ?? 0, request.Take ?? feature.QueryLimit);
+            to.SearchResults = search.Results;
+            to.Position = search.Cursor;
+        }
 
         if (request.Args?.Count > 0)
         {
             var firstArg = request.Args[0];
             if (!string.IsNullOrEmpty(firstArg))
             {
-                if (feature.IllegalCommands.Contains(firstArg))
-                    throw new ArgumentException("Command is not allowed");
+                AssertAllowedCommand(feature, firstArg);
 
                 if (firstArg == "INFO")
                 {
@@ -99,9 +106,38 @@ public async Task<object> Post(AdminRedis request)
             }
         }
         
+        if (request.Commands?.Count > 0)
+        {
+            foreach (var command in request.Commands)
+            {
+                if (command == null || command.Count == 0 || string.IsNullOrEmpty(command[0]))
+                    throw new ArgumentException("Command is empty", nameof(request.Commands));
+                AssertAllowedCommand(feature, command[0]);
+            }
+
+            var results = new RedisText?[request.Commands.Count];
+            await using (var pipeline = redis.CreatePipeline())
+            {
+                for (var i = 0; i < request.Commands.Count; i++)
+                {
+                    var index = i;
+                    var args = request.Commands[i].ToArray();
+                    pipeline.QueueCommand(r => r.CustomAsync(args), result => results[index] = result);
+                }
+                await pipeline.FlushAsync();
+            }
+            to.Results = results.ToList()!;
+        }
+        
         return to;
     }
 
+    static void AssertAllowedCommand(AdminRedisFeature feature, string command)
+    {
+        if (feature.IllegalCommands.Contains(command))
+            throw new ArgumentException("Command is not allowed");
+    }
+
     RedisEndpointInfo? ToRedisEndpointInfo(IRedisEndpoint? endpoint) => endpoint == null
         ? null
         : new() {
@@ -169,12 +205,12 @@ public async Task<SearchCursorResult> Search(IRedisClientAsync redis, string que
 repeat
     local r = redis.call('scan', cursor, 'MATCH', pattern, 'COUNT', limit)
     cursor = tonumber(r[1])
+    -- keep every key in the reply, the cursor resumes after the last one so a page can exceed limit
     for k,v in ipairs(r[2]) do
         table.insert(keys, v)
         len = len + 1
-        if len == limit then break end
     end
-until cursor == 0 or len == limit
+until cursor == 0 or len >= limit
 local cursorAttrs = {['cursor'] = cursor, ['results'] = {}}
 if len == 0 then
     return cursorAttrs
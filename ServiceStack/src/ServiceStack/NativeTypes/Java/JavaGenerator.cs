@@ -15,6 +15,12 @@ public class JavaGenerator : ILangGenerator
     public MetadataTypesConfig Config { get; }
     List<string> conflictTypeNames = new();
     List<MetadataType> allTypes;
+    readonly Dictionary<string, List<(string Name, string JsonName, string Type)>> typeFields = new();
+    readonly List<MetadataType> adapterTypes = new();
+    Dictionary<string, StringBuilder> typeFiles;
+    readonly List<string> emittedTypeNames = new();
+    string typeFileHeader;
+    HashSet<string> recordTypeNames = new();
     readonly NativeTypesFeature feature;
 
     public JavaGenerator(MetadataTypesConfig config)
@@ -48,6 +54,16 @@ public JavaGenerator(MetadataTypesConfig config)
     };
 
     public static string JavaIoNamespace = "java.io.*";
+    public static List<string> GsonTypeAdapterImports = new() {
+        "java.io.IOException",
+        "com.google.gson.Gson",
+        "com.google.gson.GsonBuilder",
+        "com.google.gson.JsonElement",
+        "com.google.gson.JsonObject",
+        "com.google.gson.TypeAdapter",
+        "com.google.gson.TypeAdapterFactory",
+        "com.google.gson.stream.*",
+    };
     public static string GSonAnnotationsNamespace = "com.google.gson.annotations.*";
     public static string GSonReflectNamespace = "com.google.gson.reflect.*";
 
@@ -126,6 +142,90 @@ public static bool AddGsonImport
     public bool WithoutOptions { get; set; }
 
     public string GetCode(MetadataTypes metadata, IRequest request, INativeTypesMetadata nativeTypes)
+    {
+        typeFiles = null;
+        return GenerateCode(metadata, request, nativeTypes);
+    }
+
+    /// <summary>
+    /// Emit the DTOs as files in the Package's directory. With FilePerType each Type is a top-level class in its own
+    /// {Type}.java file so incremental compilation only needs to recompile the DTOs that changed, its Header Options
+    /// are written to package-info.java so the contents of unchanged Type files remain identical between updates.
+    /// With AddNativeImageConfig, also includes the GraalVM native-image reflect-config.json for the DTOs.
+    /// </summary>
+    public Dictionary<string, string> GetFiles(MetadataTypes metadata, IRequest request, INativeTypesMetadata nativeTypes)
+    {
+        var dir = Config.Package != null ? Config.Package.Replace('.', '/') + "/" : "";
+        var globalNamespace = (Config.GlobalNamespace ?? DefaultGlobalNamespace).SafeToken();
+        var to = new Dictionary<string, string>();
+        if (Config.FilePerType)
+        {
+            typeFiles = new Dictionary<string, StringBuilder>();
+            to[dir + "package-info.java"] = GenerateCode(metadata, request, nativeTypes);
+
+            var formatter = request.TryResolve<INativeTypesFormatter>();
+            foreach (var entry in typeFiles)
+            {
+                if (entry.Value.Length == 0)
+                    continue;
+                var src = typeFileHeader + entry.Value;
+                to[dir + entry.Key + ".java"] = formatter != null ? formatter.Transform(src, this, request) : src;
+            }
+            typeFiles = null;
+        }
+        else
+        {
+            to[dir + globalNamespace + ".java"] = GetCode(metadata, request, nativeTypes);
+        }
+
+        if (Config.AddNativeImageConfig)
+        {
+            var classPrefix = (Config.Package != null ? Config.Package + "." : "")
+                + (Config.FilePerType ? "" : globalNamespace + "$");
+            to[$"META-INF/native-image/{Config.Package ?? globalNamespace}/{globalNamespace}/reflect-config.json"] =
+                GetNativeImageReflectConfig(classPrefix);
+        }
+        return to;
+    }
+
+    /// <summary>
+    /// GraalVM native-image reflection metadata for Gson to construct each emitted Type and access its fields,
+    /// record components and enum constants
+    /// </summary>
+    public string GetNativeImageReflectConfig(string classPrefix)
+    {
+        var classNames = emittedTypeNames.Select(x => classPrefix + x).ToList();
+        classNames.AddRange(IgnoreTypeNames.OrderBy(x => x).Select(x => "net.servicestack.client." + x));
+
+        var sb = StringBuilderCacheAlt.Allocate();
+        sb.AppendLine("[");
+        for (var i = 0; i < classNames.Count; i++)
+        {
+            sb.AppendLine("  {");
+            sb.AppendLine($"    \"name\": \"{classNames[i]}\",");
+            sb.AppendLine("    \"allDeclaredConstructors\": true,");
+            sb.AppendLine("    \"allDeclaredMethods\": true,");
+            sb.AppendLine("    \"allDeclaredFields\": true");
+            sb.AppendLine(i < classNames.Count - 1 ? "  }," : "  }");
+        }
+        sb.AppendLine("]");
+        return StringBuilderCacheAlt.ReturnAndFree(sb);
+    }
+
+    StringBuilderWrapper CreateTypeFile(string typeName)
+    {
+        var sb = new StringBuilder();
+        typeFiles[typeName.LeftPart('<')] = sb;
+        return new StringBuilderWrapper(sb, indent: 0);
+    }
+
+    string TypeModifiers => typeFiles != null ? "public" : "public static";
+
+    //Types are nested in the dtos class unless they're top-level classes in their own file
+    StringBuilderWrapper IndentType(StringBuilderWrapper sb) => typeFiles != null ? sb : sb.Indent();
+    StringBuilderWrapper UnIndentType(StringBuilderWrapper sb) => typeFiles != null ? sb : sb.UnIndent();
+
+    private string GenerateCode(MetadataTypes metadata, IRequest request, INativeTypesMetadata nativeTypes)
     {
         var formatter = request.TryResolve<INativeTypesFormatter>();
         var typeNamespaces = new HashSet<string>();
@@ -151,6 +251,12 @@ public string GetCode(MetadataTypes metadata, IRequest request, INativeTypesMeta
             }
         }
 
+        if (Config.AddGsonTypeAdapters)
+        {
+            defaultImports.AddIfNotExists(GSonReflectNamespace);
+            GsonTypeAdapterImports.Each(x => defaultImports.AddIfNotExists(x));
+        }
+
         var globalNamespace = Config.GlobalNamespace ?? DefaultGlobalNamespace;
 
         string defaultValue(string k) => request.QueryString[k].IsNullOrEmpty() ? "//" : "";
@@ -170,6 +276,10 @@ public string GetCode(MetadataTypes metadata, IRequest request, INativeTypesMeta
             sb.AppendLine("{0}GlobalNamespace: {1}".Fmt(defaultValue("GlobalNamespace"), globalNamespace));
             sb.AppendLine("{0}AddPropertyAccessors: {1}".Fmt(defaultValue("AddPropertyAccessors"), Config.AddPropertyAccessors));
             sb.AppendLine("{0}SettersReturnThis: {1}".Fmt(defaultValue("SettersReturnThis"), Config.SettersReturnThis));
+            sb.AppendLine("{0}AddGsonTypeAdapters: {1}".Fmt(defaultValue("AddGsonTypeAdapters"), Config.AddGsonTypeAdapters));
+            sb.AppendLine("{0}UseRecords: {1}".Fmt(defaultValue("UseRecords"), Config.UseRecords));
+            sb.AppendLine("{0}FilePerType: {1}".Fmt(defaultValue("FilePerType"), Config.FilePerType));
+            sb.AppendLine("{0}AddNativeImageConfig: {1}".Fmt(defaultValue("AddNativeImageConfig"), Config.AddNativeImageConfig));
             sb.AppendLine("{0}AddServiceStackTypes: {1}".Fmt(defaultValue("AddServiceStackTypes"), Config.AddServiceStackTypes));
             sb.AppendLine("{0}AddResponseStatus: {1}".Fmt(defaultValue("AddResponseStatus"), Config.AddResponseStatus));
             sb.AppendLine("{0}AddDescriptionAsComments: {1}".Fmt(defaultValue("AddDescriptionAsComments"), Config.AddDescriptionAsComments));
@@ -201,6 +311,18 @@ public string GetCode(MetadataTypes metadata, IRequest request, INativeTypesMeta
             sb.AppendLine();
         }
 
+        //Type files only contain their package and imports, the Header Options are only in package-info.java
+        var sbFileHeader = sb;
+        if (typeFiles != null)
+        {
+            sbFileHeader = new StringBuilderWrapper(new StringBuilder());
+            if (Config.Package != null)
+            {
+                sbFileHeader.AppendLine("package {0};".Fmt(Config.Package));
+                sbFileHeader.AppendLine();
+            }
+        }
+
         string lastNS = null;
 
         var existingTypes = new HashSet<string>();
@@ -230,20 +352,33 @@ public string GetCode(MetadataTypes metadata, IRequest request, INativeTypesMeta
             .Where(x => conflictPartialNames.Any(name => x.Name.StartsWith(name)))
             .Map(x => x.Name);
 
-        defaultImports.Each(x => sb.AppendLine("import {0};".Fmt(x)));
-        sb.AppendLine();
+        if (Config.UseRecords)
+            recordTypeNames = GetRecordTypeNames(requestTypes);
+
+        defaultImports.Each(x => sbFileHeader.AppendLine("import {0};".Fmt(x)));
+        sbFileHeader.AppendLine();
 
         var insertCode = InsertCodeFilter?.Invoke(allTypes, Config);
         if (insertCode != null)
-            sb.AppendLine(insertCode);
+            sbFileHeader.AppendLine(insertCode);
 
-        sb.AppendLine("public class {0}".Fmt(globalNamespace.SafeToken()));
-        sb.AppendLine("{");
+        if (typeFiles != null)
+        {
+            typeFileHeader = sbFileHeader.ToString();
+        }
+        else
+        {
+            sb.AppendLine("public class {0}".Fmt(globalNamespace.SafeToken()));
+            sb.AppendLine("{");
+        }
 
         //ServiceStack core interfaces
         foreach (var type in allTypes)
         {
             var fullTypeName = type.GetFullName();
+            var sbType = typeFiles != null && !existingTypes.Contains(fullTypeName)
+                ? CreateTypeFile(Type(type.Name, type.GenericArgs))
+                : sb;
             if (requestTypes.Contains(type))
             {
                 if (!existingTypes.Contains(fullTypeName))
@@ -254,7 +389,7 @@ public string GetCode(MetadataTypes metadata, IRequest request, INativeTypesMeta
                         response = operation.Response;
                     }
 
-                    lastNS = AppendType(ref sb, type, lastNS,
+                    lastNS = AppendType(ref sbType, type, lastNS,
                         new CreateTypeOptions
                         {
                             Routes = metadata.Operations.GetRoutes(type),
@@ -285,7 +420,7 @@ public string GetCode(MetadataTypes metadata, IRequest request, INativeTypesMeta
                 if (!existingTypes.Contains(fullTypeName)
                     && !Config.IgnoreTypesInNamespaces.Contains(type.Namespace))
                 {
-                    lastNS = AppendType(ref sb, type, lastNS,
+                    lastNS = AppendType(ref sbType, type, lastNS,
                         new CreateTypeOptions
                         {
                             IsResponse = true,
@@ -296,17 +431,24 @@ public string GetCode(MetadataTypes metadata, IRequest request, INativeTypesMeta
             }
             else if (types.Contains(type) && !existingTypes.Contains(fullTypeName))
             {
-                lastNS = AppendType(ref sb, type, lastNS,
+                lastNS = AppendType(ref sbType, type, lastNS,
                     new CreateTypeOptions { IsType = true });
 
                 existingTypes.Add(fullTypeName);
             }
         }
 
-        sb.AppendLine();
-        sb.AppendLine("}");
+        if (Config.AddGsonTypeAdapters)
+            AppendGsonTypeAdapters(typeFiles != null ? CreateTypeFile("GsonTypeAdapters") : sb);
 
-        var addCode = AddCodeFilter?.Invoke(allTypes, Config);
+        if (typeFiles == null)
+        {
+            sb.AppendLine();
+            sb.AppendLine("}");
+        }
+
+        //Appended after the global class so only applies to single file output
+        var addCode = typeFiles == null ? AddCodeFilter?.Invoke(allTypes, Config) : null;
         if (addCode != null)
             sb.AppendLine(addCode);
         
@@ -344,7 +486,7 @@ private List<string> RemoveIgnoredTypes(MetadataTypes metadata)
     private string AppendType(ref StringBuilderWrapper sb, MetadataType type, string lastNS,
         CreateTypeOptions options)
     {
-        sb = sb.Indent();
+        sb = IndentType(sb);
 
         sb.AppendLine();
         AppendComments(sb, type.Description);
@@ -356,13 +498,15 @@ private List<string> RemoveIgnoredTypes(MetadataTypes metadata)
         if (type.IsInterface != true) AppendDataContract(sb, type.DataContract);
 
         var typeName = Type(type.Name, type.GenericArgs);
+        if (!type.IsInterface())
+            emittedTypeNames.AddIfNotExists(typeName.LeftPart('<'));
 
         sb.Emit(type, Lang.Java);
         PreTypeFilter?.Invoke(sb, type);
 
         if (type.IsEnum.GetValueOrDefault())
         {
-            sb.AppendLine("public static enum {0}".Fmt(typeName));
+            sb.AppendLine("{0} enum {1}".Fmt(TypeModifiers, typeName));
             sb.AppendLine("{");
             sb = sb.Indent();
 
@@ -441,43 +585,59 @@ private List<string> RemoveIgnoredTypes(MetadataTypes metadata)
             if (interfaces.Count > 0)
                 extend += " implements " + string.Join(", ", interfaces.ToArray());
 
-            var addPropertyAccessors = Config.AddPropertyAccessors && !type.IsInterface();
-            var settersReturnType = addPropertyAccessors && Config.SettersReturnThis ? typeName : null;
+            var includeResponseStatus = Config.AddResponseStatus && options.IsResponse
+                && type.Properties.Safe().All(x => x.Name != nameof(ResponseStatus));
 
-            sb.AppendLine($"public static {defType} {typeName}{extend}");
-            sb.AppendLine("{");
+            if (recordTypeNames.Contains(type.Name))
+            {
+                AppendRecord(sb, type, typeName, extend, responseTypeExpression, includeResponseStatus);
+            }
+            else
+            {
+                var addPropertyAccessors = Config.AddPropertyAccessors && !type.IsInterface();
+                var settersReturnType = addPropertyAccessors && Config.SettersReturnThis ? typeName : null;
 
-            sb = sb.Indent();
-            InnerTypeFilter?.Invoke(sb, type);
+                sb.AppendLine($"{TypeModifiers} {defType} {typeName}{extend}");
+                sb.AppendLine("{");
 
-            var addVersionInfo = Config.AddImplicitVersion != null && options.IsRequest;
-            if (addVersionInfo)
-            {
-                sb.AppendLine($"public Integer {GetPropertyName("Version")} = {Config.AddImplicitVersion};");
+                sb = sb.Indent();
+                InnerTypeFilter?.Invoke(sb, type);
 
-                if (addPropertyAccessors)
-                    sb.AppendPropertyAccessor("Integer", "Version", settersReturnType);
-            }
+                if (!type.IsInterface())
+                {
+                    typeFields[type.Name] = new();
+                    adapterTypes.Add(type);
+                }
 
-            AddProperties(sb, type,
-                includeResponseStatus: Config.AddResponseStatus && options.IsResponse
-                                                                && type.Properties.Safe().All(x => x.Name != nameof(ResponseStatus)),
-                addPropertyAccessors: addPropertyAccessors,
-                settersReturnType: settersReturnType);
+                var addVersionInfo = Config.AddImplicitVersion != null && options.IsRequest;
+                if (addVersionInfo)
+                {
+                    sb.AppendLine($"public Integer {GetPropertyName("Version")} = {Config.AddImplicitVersion};");
+                    AddTypeField(type, GetPropertyName("Version"), GetPropertyName("Version"), "Integer");
 
-            if (responseTypeExpression != null)
-            {
-                sb.AppendLine("private static Object responseType = {0};".Fmt(responseTypeExpression));
-                sb.AppendLine("public Object getResponseType() { return responseType; }");
-            }
+                    if (addPropertyAccessors)
+                        sb.AppendPropertyAccessor("Integer", "Version", settersReturnType);
+                }
 
-            sb = sb.UnIndent();
-            sb.AppendLine("}");
+                AddProperties(sb, type,
+                    includeResponseStatus: includeResponseStatus,
+                    addPropertyAccessors: addPropertyAccessors,
+                    settersReturnType: settersReturnType);
+
+                if (responseTypeExpression != null)
+                {
+                    sb.AppendLine("private static Object responseType = {0};".Fmt(responseTypeExpression));
+                    sb.AppendLine("public Object getResponseType() { return responseType; }");
+                }
+
+                sb = sb.UnIndent();
+                sb.AppendLine("}");
+            }
         }
 
         PostTypeFilter?.Invoke(sb, type);
             
-        sb = sb.UnIndent();
+        sb = UnIndentType(sb);
 
         return lastNS;
     }
@@ -531,6 +691,7 @@ private List<string> RemoveIgnoredTypes(MetadataTypes metadata)
                 {
                     sb.AppendLine($"@SerializedName(\"{defaultName}\") public {propType} {fieldName} = {initializer};");
                 }
+                AddTypeField(type, fieldName, prop.DataMember?.Name ?? defaultName, propType);
                 PostPropertyFilter?.Invoke(sb, prop, type);
 
                 if (addPropertyAccessors)
@@ -547,6 +708,7 @@ private List<string> RemoveIgnoredTypes(MetadataTypes metadata)
 
             AppendDataMember(sb, null, dataMemberIndex++);
             sb.AppendLine($"public ResponseStatus {GetPropertyName(nameof(ResponseStatus))} = null;");
+            AddTypeField(type, GetPropertyName(nameof(ResponseStatus)), GetPropertyName(nameof(ResponseStatus)), "ResponseStatus");
 
             if (addPropertyAccessors)
                 sbAccessors.AppendPropertyAccessor("ResponseStatus", "ResponseStatus", settersReturnType);
@@ -556,6 +718,620 @@ private List<string> RemoveIgnoredTypes(MetadataTypes metadata)
             sb.AppendLine(StringBuilderCacheAlt.ReturnAndFree(sbInner).TrimEnd()); //remove last \n
     }
 
+    /// <summary>
+    /// Emit Type as an immutable record with a compact constructor taking defensive copies of its collections
+    /// </summary>
+    private void AppendRecord(StringBuilderWrapper sb, MetadataType type, string typeName, string extend,
+        string responseTypeExpression, bool includeResponseStatus)
+    {
+        typeFields[type.Name] = new();
+        adapterTypes.Add(type);
+
+        sb.AppendLine($"{TypeModifiers} record {typeName}(");
+        var components = AddRecordComponents(sb.Indent(), type, includeResponseStatus);
+        sb.AppendLine($"){extend}");
+        sb.AppendLine("{");
+
+        sb = sb.Indent();
+        InnerTypeFilter?.Invoke(sb, type);
+
+        var copyComponents = components.Where(x => x.Type.StartsWith("List<") || x.Type.StartsWith("Map<")).ToList();
+        if (copyComponents.Count > 0)
+        {
+            sb.AppendLine($"public {typeName.LeftPart('<')}");
+            sb.AppendLine("{");
+            foreach (var component in copyComponents)
+            {
+                var copy = component.Type.StartsWith("List<")
+                    ? $"Collections.unmodifiableList(new ArrayList<>({component.Name}))"
+                    : $"Collections.unmodifiableMap(new LinkedHashMap<>({component.Name}))";
+                sb.AppendLine($"    {component.Name} = {component.Name} != null ? {copy} : null;");
+            }
+            sb.AppendLine("}");
+        }
+
+        if (responseTypeExpression != null)
+        {
+            sb.AppendLine("private static Object responseType = {0};".Fmt(responseTypeExpression));
+            sb.AppendLine("public Object getResponseType() { return responseType; }");
+        }
+
+        sb = sb.UnIndent();
+        sb.AppendLine("}");
+    }
+
+    /// <summary>
+    /// Emit Record Components, Collection Types are declared as List/Map interfaces so they can be made unmodifiable
+    /// </summary>
+    public List<(string Name, string Type)> AddRecordComponents(StringBuilderWrapper sb, MetadataType type, bool includeResponseStatus)
+    {
+        var to = new List<(string Name, string Type)>();
+        var wasAdded = false;
+
+        var dataMemberIndex = 1;
+        var props = type.Properties ?? [];
+        for (var i = 0; i < props.Count; i++)
+        {
+            var prop = props[i];
+            if (wasAdded) sb.AppendLine();
+
+            var propType = GetPropertyType(prop);
+            propType = (PropertyTypeFilter?.Invoke(this, type, prop) ?? propType).ToRecordComponentType();
+
+            wasAdded = AppendComments(sb, prop.Description);
+            wasAdded = AppendDataMember(sb, prop.DataMember, dataMemberIndex++) || wasAdded;
+            wasAdded = AppendAttributes(sb, prop.Attributes) || wasAdded;
+
+            sb.Emit(prop, Lang.Java);
+            PrePropertyFilter?.Invoke(sb, prop, type);
+
+            var defaultName = prop.Name.PropertyStyle();
+            var fieldName = GetPropertyName(prop.Name);
+            var serializedName = fieldName == defaultName || prop.DataMember?.Name != null
+                ? ""
+                : $"@SerializedName(\"{defaultName}\") ";
+            var delim = i < props.Count - 1 || includeResponseStatus ? "," : "";
+            sb.AppendLine($"{serializedName}{propType} {fieldName}{delim}");
+            AddTypeField(type, fieldName, prop.DataMember?.Name ?? defaultName, propType);
+            to.Add((fieldName, propType));
+
+            PostPropertyFilter?.Invoke(sb, prop, type);
+        }
+
+        if (includeResponseStatus)
+        {
+            if (wasAdded) sb.AppendLine();
+
+            var fieldName = GetPropertyName(nameof(ResponseStatus));
+            AppendDataMember(sb, null, dataMemberIndex++);
+            sb.AppendLine($"ResponseStatus {fieldName}");
+            AddTypeField(type, fieldName, fieldName, "ResponseStatus");
+            to.Add((fieldName, "ResponseStatus"));
+        }
+
+        return to;
+    }
+
+    /// <summary>
+    /// Classes that can be emitted as records, i.e. non Request DTO Types that aren't inherited or referenced by Request DTOs
+    /// </summary>
+    HashSet<string> GetRecordTypeNames(HashSet<MetadataType> requestTypes)
+    {
+        var typesByName = allTypes.ToLookup(x => x.Name.LeftPart('`'));
+        var subTypes = allTypes.Where(x => x.Inherits != null).ToLookup(x => x.Inherits.Name.LeftPart('`'));
+
+        var requestTypeNames = new HashSet<string>();
+        var queue = new Queue<MetadataType>(requestTypes);
+        while (queue.Count > 0)
+        {
+            var type = queue.Dequeue();
+            if (!requestTypeNames.Add(type.Name))
+                continue;
+
+            var refs = new List<string>();
+            if (type.Inherits != null)
+                refs.Add(type.Inherits.Name);
+            foreach (var prop in type.Properties.Safe())
+            {
+                refs.Add(prop.Type);
+                prop.GenericArgs.Each(x => refs.Add(x));
+            }
+
+            foreach (var name in refs.SelectMany(x => x.SplitTypeNames()))
+            {
+                typesByName[name].Each(queue.Enqueue);
+            }
+            subTypes[type.Name.LeftPart('`')].Each(queue.Enqueue);
+        }
+
+        var baseTypeNames = allTypes.Where(x => x.Inherits != null).Select(x => x.Inherits.Name).ToSet();
+        return allTypes.Where(x => x.IsEnum != true && !x.IsInterface() && x.Inherits == null
+                && !baseTypeNames.Contains(x.Name) && !requestTypeNames.Contains(x.Name))
+            .Select(x => x.Name)
+            .ToSet();
+    }
+
+    void AddTypeField(MetadataType type, string fieldName, string jsonName, string propType)
+    {
+        if (typeFields.TryGetValue(type.Name, out var fields))
+            fields.Add((fieldName, jsonName, propType));
+    }
+
+    /// <summary>
+    /// Java Types read with a JsonReader primitive in generated TypeAdapters, all other Types use Gson's TypeAdapter
+    /// </summary>
+    static readonly Dictionary<string, (string Method, string ReadExpr)> GsonReadMethods = new() {
+        ["String"] = ("readString", "token == JsonToken.BOOLEAN ? Boolean.toString(in.nextBoolean()) : in.nextString()"),
+        ["Boolean"] = ("readBoolean", "token == JsonToken.STRING ? Boolean.parseBoolean(in.nextString()) : in.nextBoolean()"),
+        ["Byte"] = ("readByte", "(byte) in.nextInt()"),
+        ["Short"] = ("readShort", "(short) in.nextInt()"),
+        ["Integer"] = ("readInteger", "in.nextInt()"),
+        ["Long"] = ("readLong", "in.nextLong()"),
+        ["Float"] = ("readFloat", "(float) in.nextDouble()"),
+        ["Double"] = ("readDouble", "in.nextDouble()"),
+        ["BigDecimal"] = ("readBigDecimal", "new BigDecimal(in.nextString())"),
+        ["BigInteger"] = ("readBigInteger", "new BigInteger(in.nextString())"),
+    };
+
+    /// <summary>
+    /// Fields of type and its base classes in Gson's field order, null if type can't have a generated TypeAdapter.
+    /// Generic Type definitions are supported, closed generic types and generic base classes use Gson's reflection
+    /// </summary>
+    List<(string Name, string JsonName, string Type)> GetTypeAdapterFields(MetadataType type)
+    {
+        if (type.IsGenericTypeDef != true && !type.GenericArgs.IsEmpty())
+            return null;
+
+        var to = new List<(string Name, string JsonName, string Type)>();
+        var jsonNames = new HashSet<string>();
+        var visited = new HashSet<string>();
+        var current = type;
+        while (current != null && visited.Add(current.Name))
+        {
+            if (!typeFields.TryGetValue(current.Name, out var fields))
+                return null;
+
+            foreach (var field in fields)
+            {
+                if (jsonNames.Add(field.JsonName))
+                    to.Add(field);
+            }
+
+            if (current.Inherits == null)
+                return to;
+            if (!current.Inherits.GenericArgs.IsEmpty())
+                return null;
+
+            var baseName = current.Inherits.Name;
+            current = allTypes.FirstOrDefault(x => x.Name == baseName);
+        }
+        return null;
+    }
+
+    public void AppendGsonTypeAdapters(StringBuilderWrapper sb)
+    {
+        var adapters = new List<(string TypeName, List<(string Name, string JsonName, string Type)> Fields, bool IsRecord, string[] TypeParams)>();
+        foreach (var type in adapterTypes)
+        {
+            var fields = GetTypeAdapterFields(type);
+            if (fields != null)
+                adapters.Add((Type(type.Name, type.GenericArgs), fields, recordTypeNames.Contains(type.Name),
+                    type.IsGenericTypeDef == true ? type.GenericArgs : null));
+        }
+        var polymorphicTypes = GetPolymorphicTypes(adapters.Select(x => x.TypeName).ToSet());
+
+        sb = IndentType(sb);
+        sb.AppendLine();
+        sb.AppendLine("/**");
+        sb.AppendLine("* Reflection-free Gson TypeAdapters, register with GsonTypeAdapters.register(gsonBuilder)");
+        sb.AppendLine("*/");
+        sb.AppendLine($"{TypeModifiers} class GsonTypeAdapters implements TypeAdapterFactory");
+        sb.AppendLine("{");
+        sb = sb.Indent();
+
+        sb.AppendLine("public static GsonBuilder register(GsonBuilder builder) { return builder.registerTypeAdapterFactory(new GsonTypeAdapters()); }");
+        sb.AppendLine();
+        sb.AppendLine("@SuppressWarnings(\"unchecked\")");
+        sb.AppendLine("public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken)");
+        sb.AppendLine("{");
+        sb = sb.Indent();
+        sb.AppendLine("Class<? super T> type = typeToken.getRawType();");
+        foreach (var adapter in adapters)
+        {
+            if (adapter.TypeParams != null)
+            {
+                //generic adapters resolve their fields' adapters from the TypeToken's type arguments
+                var rawName = adapter.TypeName.LeftPart('<');
+                var typeArgs = string.Join(", ", adapter.TypeParams.Select(_ => "Object"));
+                sb.AppendLine($"if (type == {rawName}.class) return (TypeAdapter<T>) new {rawName}Adapter<{typeArgs}>(gson, typeToken);");
+                continue;
+            }
+            var adapterName = polymorphicTypes.Any(x => x.TypeName == adapter.TypeName)
+                ? $"{adapter.TypeName}PolymorphicAdapter"
+                : $"{adapter.TypeName}Adapter";
+            sb.AppendLine($"if (type == {adapter.TypeName}.class) return (TypeAdapter<T>) new {adapterName}(gson);");
+        }
+        sb.AppendLine("return null;");
+        sb = sb.UnIndent();
+        sb.AppendLine("}");
+
+        foreach (var entry in GsonReadMethods)
+        {
+            sb.AppendLine();
+            sb.AppendLine($"public static {entry.Key} {entry.Value.Method}(JsonReader in) throws IOException");
+            sb.AppendLine("{");
+            sb.AppendLine("    JsonToken token = in.peek();");
+            sb.AppendLine("    if (token == JsonToken.NULL) { in.nextNull(); return null; }");
+            sb.AppendLine($"    return {entry.Value.ReadExpr};");
+            sb.AppendLine("}");
+        }
+
+        sb.AppendLine();
+        sb.AppendLine("public interface FieldReader<T> { void readField(JsonReader in, String name, T value) throws IOException; }");
+        sb.AppendLine();
+        sb.AppendLine("public static <T> T readFields(JsonReader in, T value, FieldReader<T> reader) throws IOException");
+        sb.AppendLine("{");
+        sb.AppendLine("    while (in.hasNext()) reader.readField(in, in.nextName(), value);");
+        sb.AppendLine("    in.endObject();");
+        sb.AppendLine("    return value;");
+        sb.AppendLine("}");
+        sb.AppendLine();
+        sb.AppendLine("// Writes subclass instances with their runtime type's adapter like Gson's TypeAdapterRuntimeTypeWrapper");
+        sb.AppendLine("@SuppressWarnings(\"unchecked\")");
+        sb.AppendLine("public static <T> void writeRuntimeType(Gson gson, TypeAdapter<T> adapter, Class<T> type, JsonWriter out, T value) throws IOException");
+        sb.AppendLine("{");
+        sb.AppendLine("    if (value == null || value.getClass() == type) adapter.write(out, value);");
+        sb.AppendLine("    else ((TypeAdapter<T>) gson.getAdapter(value.getClass())).write(out, value);");
+        sb.AppendLine("}");
+
+        if (adapters.Any(x => x.TypeParams != null))
+        {
+            sb.AppendLine();
+            sb.AppendLine("// Type arguments of a generic Type's TypeToken, Object for raw Types");
+            sb.AppendLine("public static java.lang.reflect.Type[] typeArguments(TypeToken<?> typeToken, int count)");
+            sb.AppendLine("{");
+            sb.AppendLine("    if (typeToken.getType() instanceof java.lang.reflect.ParameterizedType)");
+            sb.AppendLine("        return ((java.lang.reflect.ParameterizedType) typeToken.getType()).getActualTypeArguments();");
+            sb.AppendLine("    java.lang.reflect.Type[] to = new java.lang.reflect.Type[count];");
+            sb.AppendLine("    for (int i = 0; i < count; i++) to[i] = Object.class;");
+            sb.AppendLine("    return to;");
+            sb.AppendLine("}");
+        }
+
+        foreach (var adapter in adapters)
+        {
+            AppendGsonTypeAdapter(sb, adapter.TypeName, adapter.Fields, adapter.IsRecord,
+                polymorphicTypes.Select(x => x.TypeName).ToSet(), adapter.TypeParams);
+        }
+
+        foreach (var polymorphicType in polymorphicTypes)
+        {
+            var baseFields = adapters.First(x => x.TypeName == polymorphicType.TypeName).Fields;
+            AppendGsonPolymorphicAdapter(sb, polymorphicType.TypeName, polymorphicType.Discriminator,
+                baseFields.FirstOrDefault(x => x.JsonName == polymorphicType.Discriminator && x.Type == "String").Name,
+                polymorphicType.DerivedTypes);
+        }
+
+        sb = sb.UnIndent();
+        sb.AppendLine("}");
+    }
+
+    /// <summary>
+    /// Base types annotated with [JsonDerivedType] whose base and derived types all have generated TypeAdapters,
+    /// derived types are ordered most derived first so the write dispatch matches the most specific type
+    /// </summary>
+    List<(string TypeName, string Discriminator, List<(string Discriminator, string TypeName)> DerivedTypes)> GetPolymorphicTypes(
+        HashSet<string> adapterTypeNames)
+    {
+        var to = new List<(string TypeName, string Discriminator, List<(string Discriminator, string TypeName)> DerivedTypes)>();
+#if NET8_0_OR_GREATER
+        int depth(MetadataType type)
+        {
+            var i = 0;
+            for (var current = type; current?.Inherits != null; current = allTypes.FirstOrDefault(x => x.Name == current.Inherits.Name))
+            {
+                i++;
+            }
+            return i;
+        }
+
+        foreach (var type in adapterTypes)
+        {
+            var derivedAttrs = type.Type?.AllAttributes<System.Text.Json.Serialization.JsonDerivedTypeAttribute>();
+            if (derivedAttrs.IsEmpty() || !adapterTypeNames.Contains(type.Name))
+                continue;
+
+            var derivedTypes = new List<(MetadataType Type, string Discriminator)>();
+            foreach (var derivedAttr in derivedAttrs)
+            {
+                var derivedType = adapterTypes.FirstOrDefault(x => x.Type == derivedAttr.DerivedType);
+                if (derivedAttr.TypeDiscriminator == null || derivedType == null || !adapterTypeNames.Contains(derivedType.Name))
+                {
+                    derivedTypes = null;
+                    break;
+                }
+                derivedTypes.Add((derivedType, derivedAttr.TypeDiscriminator.ToString()));
+            }
+            if (derivedTypes == null)
+                continue;
+
+            var discriminator = type.Type.FirstAttribute<System.Text.Json.Serialization.JsonPolymorphicAttribute>()
+                ?.TypeDiscriminatorPropertyName ?? "$type";
+            to.Add((type.Name, discriminator, derivedTypes
+                .OrderByDescending(x => depth(x.Type))
+                .Select(x => (x.Discriminator, x.Type.Name))
+                .ToList()));
+        }
+#endif
+        return to;
+    }
+
+    /// <summary>
+    /// Reads the discriminator when it's the first property then binds the remaining properties directly to the
+    /// derived type's generated TypeAdapter in a single pass. If it isn't the first property the object is
+    /// buffered into a JsonObject to find its discriminator before binding it with the derived type's adapter.
+    /// </summary>
+    public virtual void AppendGsonPolymorphicAdapter(StringBuilderWrapper sb, string typeName, string discriminator,
+        string discriminatorField, List<(string Discriminator, string TypeName)> derivedTypes)
+    {
+        string adapterField(string name) => name.ToCamelCase() + "Adapter";
+        var typeNames = derivedTypes.Select(x => x.TypeName).Distinct().ToList();
+        typeNames.Add(typeName);
+
+        sb.AppendLine();
+        sb.AppendLine("/**");
+        sb.AppendLine($"* Binds {typeName} to its derived type by its \"{discriminator}\" discriminator in a single pass when it's the first property,");
+        sb.AppendLine("* otherwise the object is buffered into a JsonObject so the discriminator can be read from any position.");
+        sb.AppendLine("*/");
+        sb.AppendLine($"public static class {typeName}PolymorphicAdapter extends TypeAdapter<{typeName}>");
+        sb.AppendLine("{");
+        sb = sb.Indent();
+
+        sb.AppendLine("private final TypeAdapter<JsonElement> elementAdapter;");
+        foreach (var name in typeNames)
+        {
+            sb.AppendLine($"private final {name}Adapter {adapterField(name)};");
+        }
+        sb.AppendLine();
+        sb.AppendLine($"public {typeName}PolymorphicAdapter(Gson gson)");
+        sb.AppendLine("{");
+        sb.AppendLine("    elementAdapter = gson.getAdapter(JsonElement.class);");
+        foreach (var name in typeNames)
+        {
+            sb.AppendLine($"    {adapterField(name)} = new {name}Adapter(gson);");
+        }
+        sb.AppendLine("}");
+
+        sb.AppendLine();
+        sb.AppendLine($"@Override public void write(JsonWriter out, {typeName} value) throws IOException");
+        sb.AppendLine("{");
+        sb = sb.Indent();
+        foreach (var name in typeNames.Take(typeNames.Count - 1))
+        {
+            sb.AppendLine($"if (value instanceof {name}) {{ {adapterField(name)}.write(out, ({name}) value); return; }}");
+        }
+        sb.AppendLine($"{adapterField(typeName)}.write(out, value);");
+        sb = sb.UnIndent();
+        sb.AppendLine("}");
+
+        sb.AppendLine();
+        sb.AppendLine($"@Override public {typeName} read(JsonReader in) throws IOException");
+        sb.AppendLine("{");
+        sb = sb.Indent();
+        sb.AppendLine("if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }");
+        sb.AppendLine("in.beginObject();");
+        sb.AppendLine($"if (!in.hasNext()) {{ in.endObject(); return new {typeName}(); }}");
+        sb.AppendLine("String name = in.nextName();");
+        sb.AppendLine($"if (!name.equals(\"{discriminator}\"))");
+        sb.AppendLine("{");
+        sb.AppendLine("    JsonObject obj = new JsonObject();");
+        sb.AppendLine("    obj.add(name, elementAdapter.read(in));");
+        sb.AppendLine("    return readBuffered(in, obj);");
+        sb.AppendLine("}");
+        sb.AppendLine("String discriminator = readString(in);");
+        sb.AppendLine($"{typeName} value;");
+        sb.AppendLine("switch (discriminator != null ? discriminator : \"\")");
+        sb.AppendLine("{");
+        foreach (var derivedType in derivedTypes)
+        {
+            sb.AppendLine($"    case {derivedType.Discriminator.ToEscapedString()}: value = readFields(in, new {derivedType.TypeName}(), {adapterField(derivedType.TypeName)}); break;");
+        }
+        sb.AppendLine($"    default: value = readFields(in, new {typeName}(), {adapterField(typeName)}); break;");
+        sb.AppendLine("}");
+        if (discriminatorField != null)
+            sb.AppendLine($"value.{discriminatorField} = discriminator;");
+        sb.AppendLine("return value;");
+        sb = sb.UnIndent();
+        sb.AppendLine("}");
+
+        sb.AppendLine();
+        sb.AppendLine("// Fallback for when the discriminator isn't the first property, buffers the remaining properties before binding");
+        sb.AppendLine($"private {typeName} readBuffered(JsonReader in, JsonObject obj) throws IOException");
+        sb.AppendLine("{");
+        sb = sb.Indent();
+        sb.AppendLine("while (in.hasNext()) obj.add(in.nextName(), elementAdapter.read(in));");
+        sb.AppendLine("in.endObject();");
+        sb.AppendLine($"JsonElement discriminator = obj.get(\"{discriminator}\");");
+        sb.AppendLine("switch (discriminator != null && discriminator.isJsonPrimitive() ? discriminator.getAsString() : \"\")");
+        sb.AppendLine("{");
+        foreach (var derivedType in derivedTypes)
+        {
+            sb.AppendLine($"    case {derivedType.Discriminator.ToEscapedString()}: return {adapterField(derivedType.TypeName)}.fromJsonTree(obj);");
+        }
+        sb.AppendLine($"    default: return {adapterField(typeName)}.fromJsonTree(obj);");
+        sb.AppendLine("}");
+        sb = sb.UnIndent();
+        sb.AppendLine("}");
+
+        sb = sb.UnIndent();
+        sb.AppendLine("}");
+    }
+
+    public virtual void AppendGsonTypeAdapter(StringBuilderWrapper sb, string typeName, List<(string Name, string JsonName, string Type)> fields,
+        bool isRecord = false, HashSet<string> polymorphicTypeNames = null, string[] typeParams = null)
+    {
+        //records are immutable, read into locals then call its canonical constructor
+        string getter(string name) => isRecord ? $"value.{name}()" : $"value.{name}";
+        string setter(string name) => isRecord ? $"{name}Value" : $"value.{name}";
+
+        var delegateFields = fields.Where(x => !GsonReadMethods.ContainsKey(x.Type)).ToList();
+        //fields that can hold a subclass are written with their runtime type, polymorphic bases already dispatch on it
+        bool isRuntimeType(string type) => type.IndexOf('<') < 0 && type.IndexOf('[') < 0
+            && polymorphicTypeNames?.Contains(type) != true && !IsTypeParam(type, typeParams);
+        var hasRuntimeTypes = delegateFields.Any(x => isRuntimeType(x.Type));
+
+        var adapterName = typeParams != null
+            ? $"{typeName.LeftPart('<')}Adapter"
+            : $"{typeName}Adapter";
+        var adapterType = typeParams != null
+            ? $"{adapterName}<{string.Join(", ", typeParams)}>"
+            : adapterName;
+
+        sb.AppendLine();
+        sb.AppendLine(isRecord
+            ? $"public static class {adapterType} extends TypeAdapter<{typeName}>"
+            : $"public static class {adapterType} extends TypeAdapter<{typeName}> implements FieldReader<{typeName}>");
+        sb.AppendLine("{");
+        sb = sb.Indent();
+
+        if (hasRuntimeTypes)
+            sb.AppendLine("private final Gson gson;");
+        foreach (var field in delegateFields)
+        {
+            sb.AppendLine($"private final TypeAdapter<{field.Type}> {field.Name}Adapter;");
+        }
+        if (delegateFields.Count > 0)
+            sb.AppendLine();
+        if (typeParams != null)
+        {
+            sb.AppendLine("@SuppressWarnings(\"unchecked\")");
+            sb.AppendLine($"public {adapterName}(Gson gson, TypeToken<?> typeToken)");
+        }
+        else
+        {
+            sb.AppendLine($"public {adapterName}(Gson gson)");
+        }
+        sb.AppendLine("{");
+        if (hasRuntimeTypes)
+            sb.AppendLine("    this.gson = gson;");
+        if (typeParams != null && delegateFields.Any(x => ReferencesTypeParams(x.Type, typeParams)))
+            sb.AppendLine($"    java.lang.reflect.Type[] typeArgs = typeArguments(typeToken, {typeParams.Length});");
+        foreach (var field in delegateFields)
+        {
+            if (ReferencesTypeParams(field.Type, typeParams))
+            {
+                sb.AppendLine($"    {field.Name}Adapter = (TypeAdapter<{field.Type}>) gson.getAdapter(TypeToken.get({GsonTypeExpression(field.Type, typeParams)}));");
+                continue;
+            }
+            var typeToken = field.Type.IndexOf('<') >= 0
+                ? $"new TypeToken<{field.Type}>(){{}}"
+                : $"{field.Type}.class";
+            sb.AppendLine($"    {field.Name}Adapter = gson.getAdapter({typeToken});");
+        }
+        sb.AppendLine("}");
+
+        sb.AppendLine();
+        sb.AppendLine($"@Override public void write(JsonWriter out, {typeName} value) throws IOException");
+        sb.AppendLine("{");
+        sb = sb.Indent();
+        sb.AppendLine("if (value == null) { out.nullValue(); return; }");
+        sb.AppendLine("out.beginObject();");
+        foreach (var field in fields)
+        {
+            sb.AppendLine(GsonReadMethods.ContainsKey(field.Type)
+                ? $"out.name(\"{field.JsonName}\").value({getter(field.Name)});"
+                : isRuntimeType(field.Type)
+                    ? $"out.name(\"{field.JsonName}\"); writeRuntimeType(gson, {field.Name}Adapter, {field.Type}.class, out, {getter(field.Name)});"
+                    : $"out.name(\"{field.JsonName}\"); {field.Name}Adapter.write(out, {getter(field.Name)});");
+        }
+        sb.AppendLine("out.endObject();");
+        sb = sb.UnIndent();
+        sb.AppendLine("}");
+
+        sb.AppendLine();
+        sb.AppendLine($"@Override public {typeName} read(JsonReader in) throws IOException");
+        sb.AppendLine("{");
+        sb = sb.Indent();
+        sb.AppendLine("if (in.peek() == JsonToken.NULL) { in.nextNull(); return null; }");
+        void appendFieldSwitch(string name)
+        {
+            sb.AppendLine($"switch ({name})");
+            sb.AppendLine("{");
+            foreach (var field in fields)
+            {
+                var readExpr = GsonReadMethods.TryGetValue(field.Type, out var readMethod)
+                    ? $"{readMethod.Method}(in)"
+                    : $"{field.Name}Adapter.read(in)";
+                sb.AppendLine($"    case \"{field.JsonName}\": {setter(field.Name)} = {readExpr}; break;");
+            }
+            sb.AppendLine("    default: in.skipValue(); break;");
+            sb.AppendLine("}");
+        }
+
+        if (isRecord)
+        {
+            foreach (var field in fields)
+            {
+                sb.AppendLine($"{field.Type} {setter(field.Name)} = null;");
+            }
+            sb.AppendLine("in.beginObject();");
+            sb.AppendLine("while (in.hasNext())");
+            sb.AppendLine("{");
+            sb = sb.Indent();
+            appendFieldSwitch("in.nextName()");
+            sb = sb.UnIndent();
+            sb.AppendLine("}");
+            sb.AppendLine("in.endObject();");
+            sb.AppendLine($"return new {typeName}({string.Join(", ", fields.Select(x => setter(x.Name)))});");
+            sb = sb.UnIndent();
+            sb.AppendLine("}");
+        }
+        else
+        {
+            sb.AppendLine("in.beginObject();");
+            sb.AppendLine($"return readFields(in, new {typeName}(), this);");
+            sb = sb.UnIndent();
+            sb.AppendLine("}");
+
+            sb.AppendLine();
+            sb.AppendLine($"@Override public void readField(JsonReader in, String name, {typeName} value) throws IOException");
+            sb.AppendLine("{");
+            sb = sb.Indent();
+            appendFieldSwitch("name");
+            sb = sb.UnIndent();
+            sb.AppendLine("}");
+        }
+
+        sb = sb.UnIndent();
+        sb.AppendLine("}");
+    }
+
+    static bool IsTypeParam(string type, string[] typeParams) =>
+        typeParams != null && Array.IndexOf(typeParams, type.Trim()) >= 0;
+
+    static bool ReferencesTypeParams(string type, string[] typeParams) =>
+        typeParams != null && type.Split('<', '>', ',', '[', ']', ' ').Any(x => IsTypeParam(x, typeParams));
+
+    /// <summary>
+    /// Java expression resolving a field Type that references the generic Type's type parameters from its typeArgs
+    /// </summary>
+    static string GsonTypeExpression(string type, string[] typeParams)
+    {
+        type = type.Trim();
+        if (IsTypeParam(type, typeParams))
+            return $"typeArgs[{Array.IndexOf(typeParams, type)}]";
+        if (type.EndsWith("[]"))
+            return $"TypeToken.getArray({GsonTypeExpression(type.Substring(0, type.Length - 2), typeParams)}).getType()";
+
+        var argsPos = type.IndexOf('<');
+        if (argsPos < 0)
+            return $"{type}.class";
+
+        var args = StringUtils.SplitGenericArgs(type.Substring(argsPos + 1, type.Length - argsPos - 2))
+            .Select(x => GsonTypeExpression(x, typeParams));
+        return $"TypeToken.getParameterized({type.Substring(0, argsPos)}.class, {string.Join(", ", args)}).getType()";
+    }
+
     public virtual string GetPropertyType(MetadataPropertyType prop)
     {
         var propType = Type(prop.GetTypeName(Config, allTypes), prop.GenericArgs);
@@ -950,6 +1726,27 @@ public static bool IsKeyWord(this string name)
         return JavaKeyWords.Contains(name);
     }
 
+    public static string ToRecordComponentType(this string type)
+    {
+        if (type.StartsWith("ArrayList<"))
+            return "List<" + type.Substring("ArrayList<".Length);
+        if (type.StartsWith("HashMap<"))
+            return "Map<" + type.Substring("HashMap<".Length);
+        return type;
+    }
+
+    static readonly System.Text.RegularExpressions.Regex TypeNameRegex = new("[A-Za-z_][A-Za-z0-9_]*");
+
+    public static IEnumerable<string> SplitTypeNames(this string type)
+    {
+        if (type == null)
+            yield break;
+        foreach (System.Text.RegularExpressions.Match match in TypeNameRegex.Matches(type))
+        {
+            yield return match.Value;
+        }
+    }
+
     public static string PropertyStyle(this string name)
     {
         //Gson is case-sensitive, fieldName needs to match json
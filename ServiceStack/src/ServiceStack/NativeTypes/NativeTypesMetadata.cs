@@ -43,6 +43,10 @@ public MetadataTypesConfig GetConfig(NativeTypesBase req)
             AddPropertyAccessors = req.AddPropertyAccessors ?? defaults.AddPropertyAccessors,
             ExcludeGenericBaseTypes = req.ExcludeGenericBaseTypes ?? defaults.ExcludeGenericBaseTypes,
             SettersReturnThis = req.SettersReturnThis ?? defaults.SettersReturnThis,
+            AddGsonTypeAdapters = req.AddGsonTypeAdapters ?? defaults.AddGsonTypeAdapters,
+            UseRecords = req.UseRecords ?? defaults.UseRecords,
+            FilePerType = req.FilePerType ?? defaults.FilePerType,
+            AddNativeImageConfig = req.AddNativeImageConfig ?? defaults.AddNativeImageConfig,
             AddNullableAnnotations = req.AddNullableAnnotations ?? defaults.AddNullableAnnotations,
             MakePropertiesOptional = req.MakePropertiesOptional ?? defaults.MakePropertiesOptional,
             ExportAsTypes = req.ExportAsTypes ?? defaults.ExportAsTypes,
@@ -1,6 +1,9 @@
 ﻿using System;
 using System.Collections.Generic;
+using System.IO;
+using System.IO.Compression;
 using System.Linq;
+using System.Text;
 using ServiceStack.DataAnnotations;
 using ServiceStack.Host;
 using ServiceStack.Jobs;
@@ -67,7 +70,10 @@ public class TypesSwift4 : NativeTypesBase, IGet, IReturn<string> { }
 
 [ExcludeMetadata]
 [Route("/types/java")]
-public class TypesJava : NativeTypesBase, IGet, IReturn<string> { }
+public class TypesJava : NativeTypesBase, IGet, IReturn<string>
+{
+    public bool? Cache { get; set; }
+}
 
 [ExcludeMetadata]
 [Route("/types/kotlin")]
@@ -138,6 +144,10 @@ public class NativeTypesBase
     public bool? AddPropertyAccessors { get; set; }
     public bool? ExcludeGenericBaseTypes { get; set; }
     public bool? SettersReturnThis { get; set; }
+    public bool? AddGsonTypeAdapters { get; set; }
+    public bool? UseRecords { get; set; }
+    public bool? FilePerType { get; set; }
+    public bool? AddNativeImageConfig { get; set; }
     public bool? AddNullableAnnotations { get; set; }
     public bool? MakePropertiesOptional { get; set; }
     public bool? ExportAsTypes { get; set; }
@@ -201,6 +211,64 @@ public object Any(TypeLinks request)
         return links;
     }
 
+    /// <summary>
+    /// Generated source with a strong ETag of its contents. The Options Date is excluded so the ETag is
+    /// stable across regenerations, AppHost restarts and load-balanced instances.
+    /// </summary>
+    internal class GeneratedTypes
+    {
+        public string Source { get; private set; }
+        public byte[] Zip { get; private set; }
+        public string ETag { get; private set; }
+
+        public static GeneratedTypes Create(string source) => new() {
+            Source = source,
+            ETag = WithoutOptionsDate(source).ToSha256Hash(),
+        };
+
+        public static GeneratedTypes Create(Dictionary<string, string> files) => new() {
+            Zip = ToZip(files),
+            ETag = files.OrderBy(x => x.Key, StringComparer.Ordinal)
+                .Select(x => x.Key + "\n" + WithoutOptionsDate(x.Value))
+                .Join("\n").ToSha256Hash(),
+        };
+
+        static string WithoutOptionsDate(string source)
+        {
+            var pos = source.IndexOf("\nDate: ", StringComparison.Ordinal);
+            if (pos == -1)
+                return source;
+            var end = source.IndexOf('\n', pos + 1);
+            return end == -1 ? source.Substring(0, pos) : source.Substring(0, pos) + source.Substring(end);
+        }
+
+        public object ToResult()
+        {
+            if (Zip == null)
+                return Source;
+
+            return new HttpResult(Zip, MimeTypes.GetMimeType("dtos.zip")) {
+                Headers = {
+                    [HttpHeaders.ContentDisposition] = "attachment; filename=\"dtos.zip\"",
+                }
+            };
+        }
+    }
+
+    private static byte[] ToZip(Dictionary<string, string> files)
+    {
+        using var ms = new MemoryStream();
+        using (var zip = new ZipArchive(ms, ZipArchiveMode.Create, leaveOpen: true))
+        {
+            foreach (var entry in files)
+            {
+                using var writer = new StreamWriter(zip.CreateEntry(entry.Key).Open(), new UTF8Encoding(false));
+                writer.Write(entry.Value);
+            }
+        }
+        return ms.ToArray();
+    }
+
     private string GetBaseUrl(string baseUrl)
     {
         return baseUrl
@@ -712,25 +780,69 @@ public object Any(TypesSwift request)
         return swift;
     }
 
+    /// <summary>
+    /// Expire cached DTOs so arbitrary query strings can't grow LocalCache indefinitely
+    /// </summary>
+    internal static readonly TimeSpan GeneratedTypesCacheExpiry = TimeSpan.FromMinutes(10);
+
+    /// <summary>
+    /// Operations with [Restrict] are only visible to the networks they're restricted to, see ServiceMetadata.IsVisible()
+    /// </summary>
+    internal static string GetVisibilityCacheKey(IRequest req)
+    {
+        if (HostContext.Config is not { EnableAccessRestrictions: true })
+            return "";
+
+        var reqAttrs = req.GetAttributes();
+        return "#" + (reqAttrs.IsLocalhost()
+            ? nameof(RequestAttributes.Localhost)
+            : reqAttrs.IsLocalSubnet()
+                ? nameof(RequestAttributes.LocalSubnet)
+                : nameof(RequestAttributes.External));
+    }
+
     [AddHeader(ContentType = MimeTypes.PlainText)]
     public object Any(TypesJava request)
     {
         request.BaseUrl = GetBaseUrl(request.BaseUrl);
 
-        var typesConfig = metadata.GetConfig(request);
+        GeneratedTypes Generate()
+        {
+            var typesConfig = metadata.GetConfig(request);
 
-        //Include SS types by removing ServiceStack namespaces
-        if (typesConfig.AddServiceStackTypes)
-            typesConfig.IgnoreTypesInNamespaces = [];
+            //Include SS types by removing ServiceStack namespaces
+            if (typesConfig.AddServiceStackTypes)
+                typesConfig.IgnoreTypesInNamespaces = [];
 
-        ExportMissingSystemTypes(typesConfig);
+            ExportMissingSystemTypes(typesConfig);
 
-        var metadataTypes = metadata.GetMetadataTypes(Request, typesConfig);
+            var metadataTypes = metadata.GetMetadataTypes(Request, typesConfig);
 
-        metadataTypes.Types.RemoveAll(x => x.Name == "Service");
+            metadataTypes.Types.RemoveAll(x => x.Name == "Service");
 
-        var java = new JavaGenerator(typesConfig).GetCode(metadataTypes, base.Request, metadata);
-        return java;
+            if (typesConfig.FilePerType || typesConfig.AddNativeImageConfig)
+                return GeneratedTypes.Create(new JavaGenerator(typesConfig).GetFiles(metadataTypes, base.Request, metadata));
+
+            return GeneratedTypes.Create(new JavaGenerator(typesConfig).GetCode(metadataTypes, base.Request, metadata));
+        }
+
+        if (request.Cache == false || HostContext.DebugMode)
+            return Generate().ToResult();
+
+        //Metadata doesn't change after the AppHost is initialized, only which operations are visible to the request's network.
+        //Options can also be sent in the request body so they're included with the AbsoluteUri
+        var cacheKey = Request.AbsoluteUri + "#" + request.ToJsv().ToSha256Hash() + GetVisibilityCacheKey(Request);
+        var generated = LocalCache.Get<GeneratedTypes>(cacheKey);
+        if (generated == null)
+            LocalCache.Set(cacheKey, generated = Generate(), GeneratedTypesCacheExpiry);
+
+        if (Request.ETagMatch(generated.ETag))
+            return HttpResult.NotModified(eTag: generated.ETag, maxAge: TimeSpan.Zero);
+
+        //must revalidate so updated DTOs are fetched as soon as they change
+        Response.AddHeader(HttpHeaders.ETag, generated.ETag.Quoted());
+        Response.AddHeader(HttpHeaders.CacheControl, "max-age=0");
+        return generated.ToResult();
     }
 
     [AddHeader(ContentType = MimeTypes.PlainText)]
@@ -2464,7 +2464,7 @@ export class AdminProfilingResponse {
     responseStatus;
 }
 export class AdminRedisResponse {
-    /** @param {{db?:number,searchResults?:RedisSearchResult[],info?:{ [index:string]: string; },endpoint?:RedisEndpointInfo,result?:RedisText,responseStatus?:ResponseStatus}} [init] */
+    /** @param {{db?:number,searchResults?:RedisSearchResult[],info?:{ [index:string]: string; },endpoint?:RedisEndpointInfo,result?:RedisText,results?:RedisText[],position?:number,responseStatus?:ResponseStatus}} [init] */
     constructor(init) { Object.assign(this, init) }
     /** @type {number} */
     db;
@@ -2476,6 +2476,10 @@ export class AdminRedisResponse {
     endpoint;
     /** @type {RedisText} */
     result;
+    /** @type {RedisText[]} */
+    results;
+    /** @type {?number} */
+    position;
     /** @type {ResponseStatus} */
     responseStatus;
 }
@@ -3109,7 +3113,7 @@ export class AdminProfiling {
     createResponse() { return new AdminProfilingResponse() }
 }
 export class AdminRedis {
-    /** @param {{db?:number,query?:string,reconnect?:RedisEndpointInfo,take?:number,position?:number,args?:string[]}} [init] */
+    /** @param {{db?:number,query?:string,reconnect?:RedisEndpointInfo,take?:number,position?:number,args?:string[],commands?:string[][]}} [init] */
     constructor(init) { Object.assign(this, init) }
     /** @type {?number} */
     db;
@@ -3123,6 +3127,8 @@ export class AdminRedis {
     position;
     /** @type {string[]} */
     args;
+    /** @type {string[][]} */
+    commands;
     getTypeName() { return 'AdminRedis' }
     getMethod() { return 'POST' }
     createResponse() { return new AdminRedisResponse() }
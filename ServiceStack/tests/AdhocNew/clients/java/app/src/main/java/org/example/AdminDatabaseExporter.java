@@ -0,0 +1,290 @@
+package org.example;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import net.servicestack.client.IGet;
+import net.servicestack.client.IReturn;
+import net.servicestack.client.WebServiceException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Exports an AdminDatabase table to a {@link ColumnarFile}, e.g:
+ *
+ * <pre>
+ * var rows = new AdminDatabaseExporter(client).setConcurrency(8)
+ *     .export("main", null, "Order", Path.of("orders.sscf"));
+ * </pre>
+ *
+ * Pages are fetched concurrently within a bounded window and each response is streamed straight into
+ * primitive column vectors, so only the pages in flight and the current row group are ever held in memory.
+ * Pages are ordered by the table's primary key unless orderBy is set, which must be unique for pages to be stable.
+ */
+public class AdminDatabaseExporter {
+
+    // mirrors the generated AdminDatabase DTOs, results are parsed from the response stream instead
+    static class AdminDatabase implements IReturn<AdminDatabaseSchema>, IGet {
+        String db;
+        String schema;
+        String table;
+        List<String> fields;
+        Integer take;
+        Integer skip;
+        String orderBy;
+        String include;
+
+        public Object getResponseType() { return AdminDatabaseSchema.class; }
+    }
+
+    static class AdminDatabaseSchema {
+        Long total;
+        ArrayList<ColumnInfo> columns;
+    }
+
+    static class ColumnInfo {
+        String name;
+        String type;
+        String[] genericArgs;
+    }
+
+    private final AsyncServiceClient client;
+    private int pageSize = 100;
+    private int concurrency = 4;
+    private int rowGroupSize = 64 * 1024;
+    private List<String> fields;
+    private String orderBy;
+
+    public AdminDatabaseExporter(AsyncServiceClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Rows per AdminDatabase call, can't be larger than the server's AdminDatabaseFeature.QueryLimit
+     */
+    public int getPageSize() { return pageSize; }
+    public AdminDatabaseExporter setPageSize(int value) { this.pageSize = requirePositive(value, "pageSize"); return this; }
+    public int getConcurrency() { return concurrency; }
+    public AdminDatabaseExporter setConcurrency(int value) { this.concurrency = requirePositive(value, "concurrency"); return this; }
+    public int getRowGroupSize() { return rowGroupSize; }
+    public AdminDatabaseExporter setRowGroupSize(int value) { this.rowGroupSize = requirePositive(value, "rowGroupSize"); return this; }
+    /**
+     * Only export these columns
+     */
+    public List<String> getFields() { return fields; }
+    public AdminDatabaseExporter setFields(List<String> value) { this.fields = value; return this; }
+    public String getOrderBy() { return orderBy; }
+    public AdminDatabaseExporter setOrderBy(String value) { this.orderBy = value; return this; }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0)
+            throw new IllegalArgumentException(name + " must be greater than 0");
+        return value;
+    }
+
+    AdminDatabase createRequest(String db, String schema, String table) {
+        var request = new AdminDatabase();
+        request.db = db;
+        request.schema = schema;
+        request.table = table;
+        request.fields = fields;
+        request.orderBy = orderBy;
+        return request;
+    }
+
+    /**
+     * Writes all rows of the table to path, returns the number of rows exported.
+     * Rows are written to a temp file that's only moved to path once every page was exported,
+     * so a failed export never leaves a valid but truncated file behind.
+     */
+    public long export(String db, String schema, String table, Path path) throws IOException {
+        var schemaRequest = createRequest(db, schema, table);
+        schemaRequest.take = 1;
+        schemaRequest.include = "total,columns";
+        AdminDatabaseSchema info = AsyncServiceClient.await(client.sendAsync(schemaRequest));
+        if (info.columns == null || info.total == null)
+            throw new IllegalStateException("AdminDatabase did not return the columns and total of " + table);
+
+        var columns = new ArrayList<ColumnarFile.Column>();
+        for (var column : info.columns) {
+            if (fields == null || fields.stream().anyMatch(column.name::equalsIgnoreCase))
+                columns.add(new ColumnarFile.Column(column.name, toColumnType(column)));
+        }
+
+        var tmp = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            long rowCount;
+            try (var writer = new ColumnarFile.Writer(tmp, columns)) {
+                rowCount = writeRows(writer, db, schema, table, info.total, columns);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return rowCount;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    long writeRows(ColumnarFile.Writer writer, String db, String schema, String table, long total,
+                   List<ColumnarFile.Column> columns) throws IOException {
+        var rowGroup = newVectors(columns, rowGroupSize);
+        var window = new ArrayDeque<CompletableFuture<ColumnarFile.ColumnVector[]>>();
+        var nextSkip = 0L;
+        var skip = 0L;
+        try {
+            while (skip < total) {
+                while (window.size() < concurrency && nextSkip < total) {
+                    window.add(fetchPage(createRequest(db, schema, table), nextSkip, columns));
+                    nextSkip += pageSize;
+                }
+                var page = AsyncServiceClient.await(window.poll());
+                var rows = page.length > 0 ? page[0].size() : 0;
+                if (rows < Math.min(pageSize, total - skip))
+                    throw new IllegalStateException("Expected " + Math.min(pageSize, total - skip) + " rows at skip=" + skip
+                        + " but received " + rows + ", pageSize may be larger than the server's QueryLimit");
+                for (var i = 0; i < page.length; i++) {
+                    rowGroup[i].addAll(page[i]);
+                }
+                skip += pageSize;
+                if (rowGroup.length > 0 && rowGroup[0].size() >= rowGroupSize) {
+                    writer.writeRowGroup(rowGroup);
+                    for (var vector : rowGroup) {
+                        vector.clear();
+                    }
+                }
+            }
+            writer.writeRowGroup(rowGroup);
+        } finally {
+            for (var pending : window) {
+                pending.cancel(false);
+            }
+        }
+        return writer.getRowCount();
+    }
+
+    static ColumnarFile.ColumnVector[] newVectors(List<ColumnarFile.Column> columns, int capacity) {
+        var to = new ColumnarFile.ColumnVector[columns.size()];
+        for (var i = 0; i < to.length; i++) {
+            to[i] = new ColumnarFile.ColumnVector(columns.get(i).type(), capacity);
+        }
+        return to;
+    }
+
+    static ColumnarFile.ColumnType toColumnType(ColumnInfo column) {
+        var type = "Nullable`1".equals(column.type) && column.genericArgs != null && column.genericArgs.length > 0
+            ? column.genericArgs[0]
+            : column.type;
+        return switch (type != null ? type : "") {
+            case "Byte", "SByte", "Int16", "UInt16", "Int32", "UInt32", "Int64" -> ColumnarFile.ColumnType.LONG;
+            case "Single", "Double" -> ColumnarFile.ColumnType.DOUBLE;
+            case "Boolean" -> ColumnarFile.ColumnType.BOOLEAN;
+            // Decimal, UInt64, DateTime, Guid, etc are exported as their JSON strings to preserve their precision
+            default -> ColumnarFile.ColumnType.STRING;
+        };
+    }
+
+    CompletableFuture<ColumnarFile.ColumnVector[]> fetchPage(AdminDatabase request, long skip, List<ColumnarFile.Column> columns) {
+        request.skip = Math.toIntExact(skip);
+        request.take = pageSize;
+        var httpReq = client.createRequest(request).build();
+        return client.getHttpClient().sendAsync(httpReq, HttpResponse.BodyHandlers.ofInputStream())
+            .thenApply(httpRes -> {
+                try (var body = httpRes.body()) {
+                    if (httpRes.statusCode() >= 300)
+                        throw new WebServiceException(httpRes.statusCode(), httpReq.method() + " " + httpReq.uri().getPath() + " failed",
+                            new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                    return readResults(body, columns);
+                } catch (IOException e) {
+                    throw new CompletionException(new UncheckedIOException(e));
+                }
+            });
+    }
+
+    /**
+     * Reads the results of an AdminDatabaseResponse into column vectors without creating a Map per row
+     */
+    static ColumnarFile.ColumnVector[] readResults(InputStream json, List<ColumnarFile.Column> columns) throws IOException {
+        var to = newVectors(columns, 0);
+        var indexes = new TreeMap<String, Integer>(String.CASE_INSENSITIVE_ORDER);
+        for (var i = 0; i < columns.size(); i++) {
+            indexes.put(columns.get(i).name(), i);
+        }
+        var reader = new JsonReader(new InputStreamReader(json, StandardCharsets.UTF_8));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!reader.nextName().equals("results") || reader.peek() != JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginArray();
+            var row = 0;
+            while (reader.hasNext()) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    var index = indexes.get(reader.nextName());
+                    if (index == null || to[index].size() > row) {
+                        reader.skipValue();
+                        continue;
+                    }
+                    readValue(reader, to[index]);
+                }
+                reader.endObject();
+                row++;
+                // columns missing from the row are null
+                for (var vector : to) {
+                    if (vector.size() < row)
+                        vector.addNull();
+                }
+            }
+            reader.endArray();
+        }
+        reader.endObject();
+        return to;
+    }
+
+    static void readValue(JsonReader reader, ColumnarFile.ColumnVector to) throws IOException {
+        var token = reader.peek();
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            to.addNull();
+            return;
+        }
+        switch (to.getType()) {
+            case LONG -> {
+                if (token == JsonToken.NUMBER || token == JsonToken.STRING) to.addLong(reader.nextLong());
+                else { reader.skipValue(); to.addNull(); }
+            }
+            case DOUBLE -> {
+                if (token == JsonToken.NUMBER || token == JsonToken.STRING) to.addDouble(reader.nextDouble());
+                else { reader.skipValue(); to.addNull(); }
+            }
+            case BOOLEAN -> {
+                if (token == JsonToken.BOOLEAN) to.addBoolean(reader.nextBoolean());
+                else if (token == JsonToken.NUMBER) to.addBoolean(reader.nextInt() != 0);
+                else if (token == JsonToken.STRING) to.addBoolean(Boolean.parseBoolean(reader.nextString().toLowerCase(Locale.ROOT)));
+                else { reader.skipValue(); to.addNull(); }
+            }
+            case STRING -> {
+                if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) to.addString(JsonParser.parseReader(reader).toString());
+                else if (token == JsonToken.BOOLEAN) to.addString(Boolean.toString(reader.nextBoolean()));
+                else to.addString(reader.nextString());
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package org.example;
+
+import net.servicestack.client.IReturn;
+import net.servicestack.client.ResponseStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs Redis commands and scans keys through the AdminRedis API, e.g:
+ *
+ * <pre>
+ * var redis = new AdminRedisClient(client).setDb(0);
+ * var values = redis.pipeline(List.of(List.of("GET", "a"), List.of("HGETALL", "b"), List.of("TTL", "c")));
+ * try (var keys = redis.scan("urn:user:*")) {
+ *     keys.filter(key -&gt; key.getTtl() &lt; 0).forEach(key -&gt; report.add(key.getId(), key.getSize()));
+ * }
+ * </pre>
+ *
+ * Pipelined commands are sent in a single AdminRedis call with each command's result returned at the same index,
+ * servers without AdminRedis.commands are sent a call per command. Scans follow the SCAN cursor returned in
+ * AdminRedisResponse.position, fetching the next page whilst the current page is consumed.
+ */
+public class AdminRedisClient {
+
+    // AdminRedis is excluded from metadata so isn't available in generated DTOs
+    static class AdminRedis implements IReturn<AdminRedisResponse> {
+        Integer db;
+        String query;
+        Integer take;
+        Integer position;
+        List<String> args;
+        List<List<String>> commands;
+
+        public Object getResponseType() { return AdminRedisResponse.class; }
+    }
+
+    static class AdminRedisResponse {
+        Long db;
+        ArrayList<RedisSearchResult> searchResults;
+        HashMap<String, String> info;
+        RedisText result;
+        ArrayList<RedisText> results;
+        Integer position;
+        ResponseStatus responseStatus;
+    }
+
+    public static class RedisText {
+        String text;
+        ArrayList<RedisText> children;
+
+        public String getText() { return text; }
+        public ArrayList<RedisText> getChildren() { return children; }
+
+        @Override
+        public String toString() {
+            return text != null ? text : children != null ? children.toString() : null;
+        }
+    }
+
+    public static class RedisSearchResult {
+        String id;
+        String type;
+        long ttl;
+        long size;
+
+        public String getId() { return id; }
+        public String getType() { return type; }
+        /** Time to live in milliseconds, -1 if the key doesn't expire */
+        public long getTtl() { return ttl; }
+        public long getSize() { return size; }
+    }
+
+    private final AsyncServiceClient client;
+    private Integer db;
+    private int scanPageSize = 1000;
+    private int maxPipelineSize = 1000;
+    private volatile Boolean supportsPipeline;
+
+    public AdminRedisClient(AsyncServiceClient client) {
+        this.client = client;
+    }
+
+    public Integer getDb() { return db; }
+    public AdminRedisClient setDb(Integer value) { this.db = value; return this; }
+    public int getScanPageSize() { return scanPageSize; }
+    public AdminRedisClient setScanPageSize(int value) { this.scanPageSize = requirePositive(value, "scanPageSize"); return this; }
+    /**
+     * Larger pipelines are split into multiple AdminRedis calls
+     */
+    public int getMaxPipelineSize() { return maxPipelineSize; }
+    public AdminRedisClient setMaxPipelineSize(int value) { this.maxPipelineSize = requirePositive(value, "maxPipelineSize"); return this; }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0)
+            throw new IllegalArgumentException(name + " must be greater than 0");
+        return value;
+    }
+
+    AdminRedis createRequest() {
+        var request = new AdminRedis();
+        request.db = db;
+        return request;
+    }
+
+    public CompletableFuture<RedisText> executeAsync(List<String> args) {
+        var request = createRequest();
+        request.args = args;
+        return client.sendAsync(request).thenApply(response -> response.result);
+    }
+
+    public RedisText execute(String... args) {
+        return AsyncServiceClient.await(executeAsync(List.of(args)));
+    }
+
+    /**
+     * Runs the commands in order, returning each command's result at the same index
+     */
+    public CompletableFuture<List<RedisText>> pipelineAsync(List<List<String>> commands) {
+        CompletableFuture<List<RedisText>> to = CompletableFuture.completedFuture(new ArrayList<>(commands.size()));
+        for (var i = 0; i < commands.size(); i += maxPipelineSize) {
+            var batch = commands.subList(i, Math.min(i + maxPipelineSize, commands.size()));
+            to = to.thenCompose(results -> sendPipeline(batch).thenApply(batchResults -> {
+                results.addAll(batchResults);
+                return results;
+            }));
+        }
+        return to;
+    }
+
+    public List<RedisText> pipeline(List<List<String>> commands) {
+        return AsyncServiceClient.await(pipelineAsync(commands));
+    }
+
+    CompletableFuture<List<RedisText>> sendPipeline(List<List<String>> commands) {
+        if (supportsPipeline == Boolean.FALSE)
+            return sendEach(commands);
+        var request = createRequest();
+        request.commands = commands;
+        return client.sendAsync(request).thenCompose(response -> {
+            // older servers ignore commands
+            if (response.results == null) {
+                supportsPipeline = false;
+                return sendEach(commands);
+            }
+            supportsPipeline = true;
+            return CompletableFuture.completedFuture(response.results);
+        });
+    }
+
+    CompletableFuture<List<RedisText>> sendEach(List<List<String>> commands) {
+        var futures = new ArrayList<CompletableFuture<RedisText>>(commands.size());
+        for (var command : commands) {
+            // commands are sent in order as later commands can depend on earlier ones
+            var previous = futures.isEmpty() ? CompletableFuture.completedFuture(null) : futures.getLast();
+            futures.add(previous.thenCompose(ignore -> executeAsync(command)));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(ignore -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Scans the keys matching pattern, closing the stream stops fetching pages
+     */
+    public Stream<RedisSearchResult> scan(String pattern) {
+        var spliterator = new ScanSpliterator(pattern);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
+    }
+
+    CompletableFuture<AdminRedisResponse> scanPage(String pattern, int position) {
+        var request = createRequest();
+        request.query = pattern;
+        request.take = scanPageSize;
+        request.position = position;
+        return client.sendAsync(request);
+    }
+
+    class ScanSpliterator implements Spliterator<RedisSearchResult> {
+        final String pattern;
+        Iterator<RedisSearchResult> current;
+        CompletableFuture<AdminRedisResponse> next;
+        boolean started;
+
+        ScanSpliterator(String pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super RedisSearchResult> action) {
+            while (current == null || !current.hasNext()) {
+                if (!nextPage())
+                    return false;
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        boolean nextPage() {
+            if (!started) {
+                started = true;
+                next = scanPage(pattern, 0);
+            }
+            if (next == null)
+                return false;
+
+            AdminRedisResponse page;
+            try {
+                page = next.join();
+            } catch (CompletionException e) {
+                next = null;
+                if (e.getCause() instanceof RuntimeException runtimeEx)
+                    throw runtimeEx;
+                throw e;
+            }
+            current = page.searchResults != null ? page.searchResults.iterator() : null;
+            // a 0 cursor ends the scan, servers that don't return the cursor only return the first page
+            next = page.position != null && page.position != 0
+                ? scanPage(pattern, page.position)
+                : null;
+            return current != null || next != null;
+        }
+
+        void cancel() {
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+        }
+
+        @Override
+        public Spliterator<RedisSearchResult> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
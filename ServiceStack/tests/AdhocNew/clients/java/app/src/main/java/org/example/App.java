@@ -29,5 +29,19 @@ public class App {
         var response = client.send(request);
         
         Inspect.printDump(response);
+
+        // Or stream the response to forward tokens as soon as they're generated
+        var streamClient = new ChatStreamClient("http://localhost:5000")
+            .setBearerToken("ak-87949de37e894627a9f6173154e7cafa");
+
+        try (var stream = streamClient.stream(request)) {
+            for (var delta : stream) {
+                if (delta.content() != null)
+                    System.out.print(delta.content());
+            }
+            System.out.println();
+
+            Inspect.printDump(stream.getResponse());
+        }
     }
 }
\ No newline at end of file
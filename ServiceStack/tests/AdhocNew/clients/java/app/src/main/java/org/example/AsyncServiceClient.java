@@ -0,0 +1,339 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapterFactory;
+import net.servicestack.client.IDelete;
+import net.servicestack.client.IGet;
+import net.servicestack.client.IPatch;
+import net.servicestack.client.IPut;
+import net.servicestack.client.IReturn;
+import net.servicestack.client.IReturnVoid;
+import net.servicestack.client.JsonSerializers;
+import net.servicestack.client.TimeSpan;
+import net.servicestack.client.WebServiceException;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking service client for ServiceStack's /api/{Request} endpoints built on java.net.http.HttpClient,
+ * requests are multiplexed over shared HTTP/2 connections so thousands can be in flight without a thread each.
+ *
+ * The blocking send() methods are intended to be called from virtual threads, they park on the
+ * HttpClient's future without holding any monitors so the carrier thread is released whilst waiting.
+ */
+public class AsyncServiceClient {
+    private final String baseUrl;
+    private final String apiBaseUrl;
+    private final HttpClient httpClient;
+    private Gson gson;
+    private String bearerToken;
+    private Duration timeout = Duration.ofMinutes(2);
+    private Consumer<HttpRequest.Builder> requestFilter;
+    private ResponseCache responseCache;
+    private boolean coalesceGets;
+    private UsageMeter usageMeter;
+    private final ConcurrentHashMap<String, CompletableFuture<?>> inFlightGets = new ConcurrentHashMap<>();
+
+    public AsyncServiceClient(String baseUrl) {
+        this(baseUrl, HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(30))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build());
+    }
+
+    public AsyncServiceClient(String baseUrl, HttpClient httpClient) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.apiBaseUrl = this.baseUrl + "/api/";
+        this.httpClient = httpClient;
+        this.gson = createGsonBuilder().create();
+    }
+
+    /**
+     * Gson configured with the same ServiceStack Date, TimeSpan and Guid formats as JsonServiceClient,
+     * plus the reflection-free TypeAdapters generated into dtos.java with AddGsonTypeAdapters when present
+     */
+    public static GsonBuilder createGsonBuilder() {
+        var builder = new GsonBuilder()
+            .disableHtmlEscaping()
+            .registerTypeAdapter(Date.class, JsonSerializers.getDateSerializer())
+            .registerTypeAdapter(Date.class, JsonSerializers.getDateDeserializer())
+            .registerTypeAdapter(TimeSpan.class, JsonSerializers.getTimeSpanSerializer())
+            .registerTypeAdapter(TimeSpan.class, JsonSerializers.getTimeSpanDeserializer())
+            .registerTypeAdapter(UUID.class, JsonSerializers.getGuidSerializer())
+            .registerTypeAdapter(UUID.class, JsonSerializers.getGuidDeserializer());
+        var typeAdapters = createGeneratedTypeAdapters();
+        return typeAdapters != null ? builder.registerTypeAdapterFactory(typeAdapters) : builder;
+    }
+
+    static TypeAdapterFactory createGeneratedTypeAdapters() {
+        try {
+            var type = Class.forName(dtos.class.getName() + "$GsonTypeAdapters");
+            return (TypeAdapterFactory) type.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create " + dtos.class.getName() + ".GsonTypeAdapters", e);
+        }
+    }
+
+    public String getBaseUrl() { return baseUrl; }
+    public HttpClient getHttpClient() { return httpClient; }
+    public Gson getGson() { return gson; }
+    public AsyncServiceClient setGson(Gson value) { this.gson = value; return this; }
+    public String getBearerToken() { return bearerToken; }
+    public AsyncServiceClient setBearerToken(String value) { this.bearerToken = value; return this; }
+    public Duration getTimeout() { return timeout; }
+    public AsyncServiceClient setTimeout(Duration value) { this.timeout = value; return this; }
+    public Consumer<HttpRequest.Builder> getRequestFilter() { return requestFilter; }
+    public AsyncServiceClient setRequestFilter(Consumer<HttpRequest.Builder> value) { this.requestFilter = value; return this; }
+    public ResponseCache getResponseCache() { return responseCache; }
+    /**
+     * Opt-in cache of GET responses honoring their Cache-Control max-age and ETag
+     */
+    public AsyncServiceClient setResponseCache(ResponseCache value) { this.responseCache = value; return this; }
+    public boolean isCoalesceGets() { return coalesceGets; }
+    /**
+     * Identical GET requests sent whilst one is in flight share its HTTP call and decoded response,
+     * requests are only identical when their URL and all their headers, including those added by the requestFilter, match
+     */
+    public AsyncServiceClient setCoalesceGets(boolean value) { this.coalesceGets = value; return this; }
+    public UsageMeter getUsageMeter() { return usageMeter; }
+    /**
+     * Records the token usage of every ChatCompletion sent with this client
+     */
+    public AsyncServiceClient setUsageMeter(UsageMeter value) { this.usageMeter = value; return this; }
+
+    public <T> CompletableFuture<T> sendAsync(IReturn<T> request) {
+        return sendAsync(request, toType(request.getResponseType()));
+    }
+
+    public CompletableFuture<Void> sendAsync(IReturnVoid request) {
+        return sendAsync(request, Void.class);
+    }
+
+    /**
+     * Streams the base64 content of attachments into the request body in place of their placeholders
+     */
+    public <T> CompletableFuture<T> sendAsync(IReturn<T> request, Base64Attachments attachments) {
+        return recordUsage(request, sendAsync(createRequest(request, attachments).build(), toType(request.getResponseType())));
+    }
+
+    public <T> T send(IReturn<T> request) {
+        return await(sendAsync(request));
+    }
+
+    public void send(IReturnVoid request) {
+        await(sendAsync(request));
+    }
+
+    /**
+     * Sends the Request DTO using the HTTP Method of its IGet/IPut/IPatch/IDelete marker, otherwise POST
+     */
+    public <T> CompletableFuture<T> sendAsync(Object request, Type responseType) {
+        return recordUsage(request, sendAsync(createRequest(request).build(), responseType));
+    }
+
+    <T> CompletableFuture<T> recordUsage(Object request, CompletableFuture<T> future) {
+        var meter = usageMeter;
+        if (meter == null || !(request instanceof dtos.ChatCompletion chatRequest))
+            return future;
+        return future.thenApply(response -> {
+            if (response instanceof dtos.ChatResponse chatResponse)
+                meter.record(chatRequest, chatResponse);
+            return response;
+        });
+    }
+
+    /**
+     * Sends a prepared request, deserializing a successful JSON response into responseType
+     */
+    public <T> CompletableFuture<T> sendAsync(HttpRequest httpReq, Type responseType) {
+        if (httpReq.method().equals("GET")) {
+            if (coalesceGets)
+                return sendCoalescedAsync(httpReq, responseType);
+            if (responseCache != null)
+                return sendCachedAsync(httpReq, responseType);
+        }
+        return httpClient.sendAsync(httpReq, HttpResponse.BodyHandlers.ofString())
+            .thenApply(httpRes -> toResponse(httpRes, responseType));
+    }
+
+    /**
+     * Identifies a GET request by its URL, which includes the serialized Request DTO, and all its headers, so
+     * credentials added by the requestFilter, e.g. X-Api-Key or Cookie, and any headers a response Varies on are included
+     */
+    static String getRequestKey(HttpRequest httpReq) {
+        var sb = new StringBuilder(httpReq.uri().toString());
+        var headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(httpReq.headers().map());
+        headers.forEach((name, values) -> sb.append('\n').append(name.toLowerCase(Locale.ROOT)).append(':').append(String.join(",", values)));
+        return sb.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> sendCoalescedAsync(HttpRequest httpReq, Type responseType) {
+        var key = getRequestKey(httpReq) + " " + responseType.getTypeName();
+        var sent = new CompletableFuture<?>[1];
+        var inFlight = (CompletableFuture<T>) inFlightGets.computeIfAbsent(key, k -> sent[0] = responseCache != null
+            ? sendCachedAsync(httpReq, responseType)
+            : httpClient.sendAsync(httpReq, HttpResponse.BodyHandlers.ofString()).thenApply(httpRes -> toResponse(httpRes, responseType)));
+        if (sent[0] != null)
+            inFlight.whenComplete((response, error) -> inFlightGets.remove(key, inFlight));
+        // cancelling a caller's future mustn't cancel the shared request
+        return inFlight.copy();
+    }
+
+    /**
+     * Returns fresh cached responses without a request, otherwise revalidates cached responses with If-None-Match
+     */
+    <T> CompletableFuture<T> sendCachedAsync(HttpRequest httpReq, Type responseType) {
+        var cache = responseCache;
+        var key = getRequestKey(httpReq);
+        var entry = cache.get(key);
+        if (entry != null && entry.isFresh(System.nanoTime())) {
+            cache.onHit();
+            return CompletableFuture.completedFuture(fromJson(entry.body(), responseType));
+        }
+        if (entry != null && entry.eTag() != null) {
+            httpReq = HttpRequest.newBuilder(httpReq, (name, value) -> true)
+                .header("If-None-Match", entry.eTag())
+                .build();
+        }
+        return httpClient.sendAsync(httpReq, HttpResponse.BodyHandlers.ofString())
+            .thenApply(httpRes -> {
+                if (httpRes.statusCode() == 304 && entry != null) {
+                    cache.onRevalidated();
+                    var revalidated = cache.revalidate(key, entry, httpRes.headers());
+                    return fromJson(revalidated.body(), responseType);
+                }
+                cache.onMiss();
+                T response = toResponse(httpRes, responseType);
+                if (httpRes.statusCode() == 200)
+                    cache.put(key, httpRes.body(), httpRes.headers());
+                return response;
+            });
+    }
+
+    public HttpRequest.Builder createRequest(Object request) {
+        return createRequest(request, null);
+    }
+
+    public HttpRequest.Builder createRequest(Object request, Base64Attachments attachments) {
+        var requestUrl = apiBaseUrl + request.getClass().getSimpleName();
+        var method = getHttpMethod(request);
+        var hasBody = method.equals("POST") || method.equals("PUT") || method.equals("PATCH");
+
+        var httpReq = HttpRequest.newBuilder()
+            .header("Accept", "application/json")
+            .timeout(timeout);
+        if (hasBody) {
+            httpReq.uri(URI.create(requestUrl))
+                .header("Content-Type", "application/json")
+                .method(method, attachments != null
+                    ? attachments.toBodyPublisher(gson, request)
+                    : HttpRequest.BodyPublishers.ofString(gson.toJson(request)));
+        } else {
+            httpReq.uri(URI.create(requestUrl + toQueryString(gson.toJsonTree(request))))
+                .method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        if (bearerToken != null)
+            httpReq.header("Authorization", "Bearer " + bearerToken);
+        if (requestFilter != null)
+            requestFilter.accept(httpReq);
+        return httpReq;
+    }
+
+    public static String getHttpMethod(Object request) {
+        if (request instanceof IGet) return "GET";
+        if (request instanceof IDelete) return "DELETE";
+        if (request instanceof IPut) return "PUT";
+        if (request instanceof IPatch) return "PATCH";
+        return "POST";
+    }
+
+    protected <T> T toResponse(HttpResponse<String> httpRes, Type responseType) {
+        if (httpRes.statusCode() >= 300)
+            throw new WebServiceException(httpRes.statusCode(), httpRes.request().method() + " " + httpRes.uri().getPath() + " failed", httpRes.body());
+        return fromJson(httpRes.body(), responseType);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <T> T fromJson(String body, Type responseType) {
+        if (responseType == Void.class || body == null || body.isEmpty())
+            return null;
+        if (responseType == String.class)
+            return (T) body;
+        return gson.fromJson(body, responseType);
+    }
+
+    /**
+     * Waits for the response, rethrowing the original exception instead of a CompletionException
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeEx)
+                throw runtimeEx;
+            throw e;
+        }
+    }
+
+    public static Type toType(Object responseType) {
+        return responseType instanceof Type type ? type : Object.class;
+    }
+
+    /**
+     * Top-level properties as query string params, collections of scalars are comma-delimited and
+     * complex values are sent as JSON
+     */
+    static String toQueryString(JsonElement json) {
+        if (!(json instanceof JsonObject obj) || obj.isEmpty())
+            return "";
+        var sb = new StringBuilder();
+        for (var entry : obj.entrySet()) {
+            var value = entry.getValue();
+            if (value.isJsonNull())
+                continue;
+            String str;
+            if (value.isJsonPrimitive()) {
+                str = value.getAsString();
+            } else if (value.isJsonArray() && value.getAsJsonArray().asList().stream().allMatch(JsonElement::isJsonPrimitive)) {
+                var items = new StringBuilder();
+                for (var item : value.getAsJsonArray()) {
+                    if (!items.isEmpty()) items.append(',');
+                    items.append(item.getAsString());
+                }
+                str = items.toString();
+            } else {
+                str = value.toString();
+            }
+            sb.append(sb.isEmpty() ? '?' : '&')
+                .append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8))
+                .append('=')
+                .append(URLEncoder.encode(str, StandardCharsets.UTF_8));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,279 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends large binary payloads in String DTO fields like AiInputAudio.data, AiFile.fileData and AiImageUrl.url
+ * without loading them into memory. Each source is assigned a short placeholder that's replaced with its
+ * base64 encoded content as the JSON request body is streamed to the server, e.g:
+ *
+ * <pre>
+ * var attachments = new Base64Attachments();
+ * var audio = new dtos.AiInputAudio().setData(attachments.add(Path.of("clip.wav"))).setFormat("wav");
+ * var image = new dtos.AiImageUrl().setUrl(attachments.addDataUrl("image/png", Path.of("chart.png")));
+ * try (var stream = client.stream(request, attachments)) { ... }
+ * </pre>
+ *
+ * Path and ByteBuffer sources can be sent multiple times, InputStream sources can only be sent once.
+ * Sending fails if a registered attachment's placeholder isn't found in a String value of the request.
+ */
+public class Base64Attachments {
+
+    /**
+     * Writes the raw bytes of an attachment, they're base64 encoded as they're written
+     */
+    @FunctionalInterface
+    public interface Source {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    record Attachment(String dataUrlPrefix, Source source) {}
+
+    static final AtomicLong ids = new AtomicLong();
+    static final int ChunkSize = 32 * 1024;
+    static final int MaxBufferedChunks = 8;
+
+    private final String placeholderPrefix = "\u0000base64:" + ids.incrementAndGet() + ":";
+    private final ArrayList<Attachment> attachments = new ArrayList<>();
+
+    public String add(Path path) {
+        return add(null, out -> Files.copy(path, out));
+    }
+
+    public String add(ByteBuffer buffer) {
+        return add(null, bufferSource(buffer));
+    }
+
+    public String add(InputStream stream) {
+        return add(null, streamSource(stream));
+    }
+
+    /**
+     * Adds an attachment sent as a data: URL, e.g. for AiImageUrl.url
+     */
+    public String addDataUrl(String mimeType, Path path) {
+        return add(dataUrlPrefix(mimeType), out -> Files.copy(path, out));
+    }
+
+    public String addDataUrl(String mimeType, ByteBuffer buffer) {
+        return add(dataUrlPrefix(mimeType), bufferSource(buffer));
+    }
+
+    public String addDataUrl(String mimeType, InputStream stream) {
+        return add(dataUrlPrefix(mimeType), streamSource(stream));
+    }
+
+    /**
+     * Registers a source, returning the placeholder to assign to the String field it should be sent in
+     */
+    public synchronized String add(String dataUrlPrefix, Source source) {
+        attachments.add(new Attachment(dataUrlPrefix, source));
+        return placeholderPrefix + (attachments.size() - 1);
+    }
+
+    public synchronized int size() {
+        return attachments.size();
+    }
+
+    static String dataUrlPrefix(String mimeType) {
+        return "data:" + mimeType + ";base64,";
+    }
+
+    static Source bufferSource(ByteBuffer buffer) {
+        var readOnly = buffer.asReadOnlyBuffer();
+        return out -> {
+            var data = readOnly.duplicate();
+            if (data.hasArray()) {
+                out.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+            } else {
+                var channel = Channels.newChannel(out);
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+            }
+        };
+    }
+
+    static Source streamSource(InputStream stream) {
+        var sent = new AtomicBoolean();
+        return out -> {
+            if (!sent.compareAndSet(false, true))
+                throw new IllegalStateException("InputStream attachments can only be sent once");
+            try (stream) {
+                stream.transferTo(out);
+            }
+        };
+    }
+
+    /**
+     * Index of the attachment the value is a placeholder for, -1 if it isn't one
+     */
+    synchronized int indexOf(String value) {
+        if (value == null || !value.startsWith(placeholderPrefix))
+            return -1;
+        try {
+            var index = Integer.parseInt(value, placeholderPrefix.length(), value.length(), 10);
+            return index >= 0 && index < attachments.size() ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    synchronized Attachment getAttachment(int index) {
+        return attachments.get(index);
+    }
+
+    /**
+     * Writes body as JSON, streaming the base64 content of attachments in place of their placeholders.
+     * Throws IllegalStateException if an attachment's placeholder wasn't written.
+     */
+    public void writeJson(Gson gson, Object body, OutputStream out) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), ChunkSize);
+        var jsonWriter = new AttachmentJsonWriter(writer, out);
+        if (body instanceof JsonElement json) {
+            gson.toJson(json, jsonWriter);
+        } else {
+            gson.toJson(body, body.getClass(), jsonWriter);
+        }
+        var missing = jsonWriter.written.nextClearBit(0);
+        if (missing < size())
+            throw new IllegalStateException("Attachment " + missing + " was not found in a String value of the request body");
+        writer.flush();
+    }
+
+    /**
+     * A request body that's written as it's sent, only a few chunks of it are ever held in memory
+     */
+    public HttpRequest.BodyPublisher toBodyPublisher(Gson gson, Object body) {
+        return HttpRequest.BodyPublishers.fromPublisher(subscriber -> {
+            var publisher = new SubmissionPublisher<ByteBuffer>(task -> Thread.ofVirtual().start(task), MaxBufferedChunks);
+            publisher.subscribe(subscriber);
+            Thread.ofVirtual().name("base64-attachments").start(() -> {
+                try (var out = new ChunkedOutputStream(publisher)) {
+                    writeJson(gson, body, out);
+                } catch (Throwable e) {
+                    publisher.closeExceptionally(e);
+                    return;
+                }
+                publisher.close();
+            });
+        });
+    }
+
+    class AttachmentJsonWriter extends JsonWriter {
+        final Writer writer;
+        final OutputStream out;
+        final BitSet written = new BitSet();
+
+        AttachmentJsonWriter(Writer writer, OutputStream out) {
+            super(writer);
+            this.writer = writer;
+            this.out = out;
+        }
+
+        @Override
+        public JsonWriter value(String value) throws IOException {
+            var index = indexOf(value);
+            if (index < 0)
+                return super.value(value);
+
+            var attachment = getAttachment(index);
+            written.set(index);
+            // JsonWriter doesn't buffer, so the opening quote is written before the base64 content
+            jsonValue(attachment.dataUrlPrefix() != null ? "\"" + attachment.dataUrlPrefix() : "\"");
+            writer.flush();
+            try (var base64 = Base64.getEncoder().wrap(new UnclosableOutputStream(out))) {
+                attachment.source().writeTo(base64);
+            }
+            writer.write('"');
+            return this;
+        }
+    }
+
+    /**
+     * Closing the base64 encoder writes its padding without closing the request body
+     */
+    static class UnclosableOutputStream extends OutputStream {
+        final OutputStream out;
+
+        UnclosableOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override public void write(int b) throws IOException { out.write(b); }
+        @Override public void write(byte[] b, int off, int len) throws IOException { out.write(b, off, len); }
+        @Override public void flush() throws IOException { out.flush(); }
+        @Override public void close() throws IOException { out.flush(); }
+    }
+
+    /**
+     * Publishes written bytes in ChunkSize buffers, blocking whilst the subscriber has MaxBufferedChunks pending
+     */
+    static class ChunkedOutputStream extends OutputStream {
+        final SubmissionPublisher<ByteBuffer> publisher;
+        byte[] chunk = new byte[ChunkSize];
+        int length;
+
+        ChunkedOutputStream(SubmissionPublisher<ByteBuffer> publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (length == chunk.length)
+                publish();
+            chunk[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (length == chunk.length)
+                    publish();
+                var n = Math.min(len, chunk.length - length);
+                System.arraycopy(b, off, chunk, length, n);
+                length += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        void publish() {
+            if (length == 0)
+                return;
+            // stop reading the remaining attachments if the request was cancelled
+            if (!publisher.hasSubscribers())
+                throw new CancellationException("Request body is no longer being sent");
+            publisher.submit(ByteBuffer.wrap(chunk, 0, length));
+            chunk = new byte[ChunkSize];
+            length = 0;
+        }
+
+        @Override
+        public void close() {
+            publish();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import net.servicestack.client.IReturn;
+import net.servicestack.client.WebServiceException;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces requests of the same Request DTO type issued within a short window into a single call to
+ * ServiceStack's batch endpoint (POST /api/{Request}[]), each caller's future is completed with the
+ * response at the same index of the returned List, e.g:
+ *
+ * <pre>
+ * var client = new BatchingServiceClient("https://localhost:5001").setBearerToken(apiKey);
+ * var futures = jobIds.stream().map(id -&gt; client.sendAsync(new AdminGetJob().setId(id))).toList();
+ * </pre>
+ *
+ * A batch is sent when it reaches maxBatchSize or maxDelay after its first request, whichever comes first.
+ */
+public class BatchingServiceClient implements AutoCloseable {
+
+    /**
+     * Sends a batch of requests of the same type, returning their responses in the same order
+     */
+    @FunctionalInterface
+    public interface BatchSender {
+        List<?> sendAll(Class<?> requestType, Type responseType, List<Object> requests) throws Exception;
+    }
+
+    record PendingRequest(Object request, CompletableFuture<Object> response) {}
+
+    class Batch {
+        final Class<?> requestType;
+        final Type responseType;
+        ArrayList<PendingRequest> pending = new ArrayList<>();
+        long generation;
+
+        Batch(Class<?> requestType, Type responseType) {
+            this.requestType = requestType;
+            this.responseType = responseType;
+        }
+
+        synchronized void add(PendingRequest request) {
+            // checked whilst holding the batch's lock so requests added before close() are flushed by it
+            if (closed)
+                throw new IllegalStateException("BatchingServiceClient is closed");
+            pending.add(request);
+            if (pending.size() >= maxBatchSize) {
+                flush();
+            } else if (pending.size() == 1) {
+                var scheduledGeneration = generation;
+                scheduler.schedule(() -> flush(scheduledGeneration), maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        // ignore timers of batches that were already sent by reaching maxBatchSize
+        synchronized void flush(long scheduledGeneration) {
+            if (scheduledGeneration == generation)
+                flush();
+        }
+
+        synchronized void flush() {
+            if (pending.isEmpty())
+                return;
+            var batch = pending;
+            pending = new ArrayList<>();
+            generation++;
+            Thread.ofVirtual().start(() -> send(batch));
+        }
+
+        void send(List<PendingRequest> batch) {
+            try {
+                var requests = new ArrayList<Object>(batch.size());
+                for (var pendingRequest : batch) {
+                    requests.add(pendingRequest.request());
+                }
+                var responses = sender.sendAll(requestType, responseType, requests);
+                if (responses == null || responses.size() != batch.size())
+                    throw new IllegalStateException("Expected " + batch.size() + " " + requestType.getSimpleName()
+                        + " responses but received " + (responses == null ? 0 : responses.size()));
+                for (var i = 0; i < batch.size(); i++) {
+                    batch.get(i).response().complete(responses.get(i));
+                }
+            } catch (Throwable e) {
+                for (var pendingRequest : batch) {
+                    pendingRequest.response().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private final BatchSender sender;
+    private final ConcurrentHashMap<Class<?>, Batch> batches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().daemon().name("batching-service-client").factory());
+    private int maxBatchSize = 100;
+    private Duration maxDelay = Duration.ofMillis(5);
+    private String bearerToken;
+    private volatile boolean closed;
+
+    public BatchingServiceClient(String baseUrl) {
+        this(baseUrl, HttpClient.newHttpClient(), AsyncServiceClient.createGsonBuilder().create());
+    }
+
+    public BatchingServiceClient(String baseUrl, HttpClient httpClient, Gson gson) {
+        var apiBaseUrl = (baseUrl.endsWith("/") ? baseUrl : baseUrl + "/") + "api/";
+        this.sender = (requestType, responseType, requests) -> {
+            // [] is encoded as it isn't a legal URI path character
+            var httpReq = HttpRequest.newBuilder(URI.create(apiBaseUrl + requestType.getSimpleName() + "%5B%5D"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+            if (bearerToken != null)
+                httpReq.header("Authorization", "Bearer " + bearerToken);
+
+            var httpRes = httpClient.send(httpReq.POST(HttpRequest.BodyPublishers.ofString(gson.toJson(requests))).build(),
+                HttpResponse.BodyHandlers.ofString());
+            if (httpRes.statusCode() >= 300)
+                throw new WebServiceException(httpRes.statusCode(), "Batch request failed", httpRes.body());
+
+            return gson.fromJson(httpRes.body(), TypeToken.getParameterized(List.class, responseType).getType());
+        };
+    }
+
+    public BatchingServiceClient(BatchSender sender) {
+        this.sender = sender;
+    }
+
+    public int getMaxBatchSize() { return maxBatchSize; }
+    public BatchingServiceClient setMaxBatchSize(int value) {
+        if (value <= 0)
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        this.maxBatchSize = value;
+        return this;
+    }
+    public Duration getMaxDelay() { return maxDelay; }
+    public BatchingServiceClient setMaxDelay(Duration value) {
+        if (value == null || value.isNegative() || value.isZero())
+            throw new IllegalArgumentException("maxDelay must be greater than 0");
+        this.maxDelay = value;
+        return this;
+    }
+    public String getBearerToken() { return bearerToken; }
+    public BatchingServiceClient setBearerToken(String value) { this.bearerToken = value; return this; }
+
+    /**
+     * Queues the request into its type's batch, throws IllegalStateException once the client is closed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> sendAsync(IReturn<T> request) {
+        var responseType = request.getResponseType();
+        var batch = batches.computeIfAbsent(request.getClass(), type -> new Batch(type,
+            responseType instanceof Type t ? t : Object.class));
+        var response = new CompletableFuture<Object>();
+        batch.add(new PendingRequest(request, response));
+        return (CompletableFuture<T>) response;
+    }
+
+    public <T> T send(IReturn<T> request) {
+        try {
+            return sendAsync(request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeEx)
+                throw runtimeEx;
+            throw e;
+        }
+    }
+
+    /**
+     * Sends all queued batches without waiting for their window to elapse
+     */
+    public void flush() {
+        for (var batch : batches.values()) {
+            batch.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        flush();
+        scheduler.shutdown();
+    }
+}
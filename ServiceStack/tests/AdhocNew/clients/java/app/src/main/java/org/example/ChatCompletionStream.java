@@ -0,0 +1,339 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.stream.Stream;
+
+/**
+ * A streamed ChatCompletion response, decoding each OpenAI "data:" chunk of the text/event-stream
+ * into Choice deltas as they arrive whilst accumulating them into the final ChatResponse.
+ *
+ * Consume it once, either by iterating it or by subscribing to it as a Flow.Publisher.
+ */
+public class ChatCompletionStream implements Iterable<ChatCompletionStream.Delta>, Flow.Publisher<ChatCompletionStream.Delta>, AutoCloseable {
+    static final String[] ReasoningFields = { "reasoning_content", "reasoning", "thinking" };
+
+    /**
+     * A partial ChoiceMessage for the Choice at index, finishReason is only populated on its last delta
+     */
+    public record Delta(int index, dtos.ChoiceMessage message, String finishReason) {
+        public String content() {
+            return message != null ? message.content : null;
+        }
+    }
+
+    private final Stream<String> lines;
+    private final Iterator<String> lineIterator;
+    private final Gson gson;
+    private final CompletableFuture<dtos.ChatResponse> responseFuture = new CompletableFuture<>();
+    private final TreeMap<Integer, ChoiceAccumulator> choices = new TreeMap<>();
+    private final dtos.ChatResponse response = new dtos.ChatResponse();
+    private Iterator<Delta> deltas;
+    private boolean subscribed;
+
+    public ChatCompletionStream(Stream<String> lines, Gson gson) {
+        this.lines = lines;
+        this.lineIterator = lines.iterator();
+        this.gson = gson;
+    }
+
+    @Override
+    public Iterator<Delta> iterator() {
+        if (deltas != null)
+            throw new IllegalStateException("ChatCompletionStream can only be consumed once");
+
+        return deltas = new Iterator<>() {
+            final ArrayList<Delta> pending = new ArrayList<>();
+            int pendingIndex;
+            boolean done;
+
+            @Override
+            public boolean hasNext() {
+                while (pendingIndex >= pending.size()) {
+                    if (done)
+                        return false;
+                    pending.clear();
+                    pendingIndex = 0;
+                    done = !readChunk(pending);
+                }
+                return true;
+            }
+
+            @Override
+            public Delta next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return pending.get(pendingIndex++);
+            }
+        };
+    }
+
+    /**
+     * Publishes each delta to the subscriber from a virtual thread, the stream's reader is blocked
+     * whilst the subscriber's buffer is full so a slow subscriber applies backpressure to the socket.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super Delta> subscriber) {
+        var publisher = new SubmissionPublisher<Delta>(task -> Thread.ofVirtual().start(task), Flow.defaultBufferSize());
+        publisher.subscribe(subscriber);
+        subscribed = true;
+        Thread.ofVirtual().start(() -> {
+            try (this) {
+                for (var delta : this) {
+                    publisher.submit(delta);
+                }
+                publisher.close();
+            } catch (Throwable e) {
+                responseFuture.completeExceptionally(e);
+                publisher.closeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * The merged ChatResponse, reads any remaining deltas before returning.
+     * Use getResponseAsync() instead when subscribed to as a Flow.Publisher.
+     */
+    public dtos.ChatResponse getResponse() {
+        if (!subscribed) {
+            var it = deltas != null ? deltas : iterator();
+            while (it.hasNext()) {
+                it.next();
+            }
+        }
+        return responseFuture.join();
+    }
+
+    /**
+     * Completes with the merged ChatResponse once the last chunk has been read
+     */
+    public CompletableFuture<dtos.ChatResponse> getResponseAsync() {
+        return responseFuture;
+    }
+
+    /**
+     * Token usage reported in the final chunk, or null if the provider didn't report it
+     */
+    public dtos.AiUsage getUsage() {
+        return getResponse().usage;
+    }
+
+    @Override
+    public void close() {
+        lines.close();
+        if (!responseFuture.isDone())
+            responseFuture.completeExceptionally(new IllegalStateException("ChatCompletionStream was closed before it completed"));
+    }
+
+    /**
+     * Reads lines until the next chunk with deltas, returns false at the end of the stream
+     */
+    private boolean readChunk(ArrayList<Delta> to) {
+        while (lineIterator.hasNext()) {
+            var line = lineIterator.next().trim();
+            if (!line.startsWith("data:"))
+                continue; // blank separators, ":" comments, event:, id: and retry: fields
+
+            var data = line.substring(5).trim();
+            if (data.equals("[DONE]")) {
+                complete();
+                return false;
+            }
+
+            // a corrupt or truncated chunk would otherwise complete as a shorter response
+            JsonObject chunk;
+            try {
+                var json = JsonParser.parseString(data);
+                if (!json.isJsonObject())
+                    throw new IllegalStateException("Chat completion stream returned an invalid chunk: " + data);
+                chunk = json.getAsJsonObject();
+            } catch (JsonSyntaxException e) {
+                throw new IllegalStateException("Chat completion stream returned an invalid chunk: " + data, e);
+            }
+
+            // Providers report upstream failures as an error chunk mid-stream, surface it instead of returning a truncated response
+            if (chunk.has("error"))
+                throw new IllegalStateException("Chat completion failed: " + errorMessage(chunk.get("error")));
+
+            mergeChunk(chunk, to);
+            if (!to.isEmpty())
+                return true;
+        }
+        complete();
+        return false;
+    }
+
+    private void mergeChunk(JsonObject chunk, ArrayList<Delta> to) {
+        if (hasValue(chunk, "id")) response.id = chunk.get("id").getAsString();
+        if (hasValue(chunk, "created")) response.created = chunk.get("created").getAsLong();
+        if (hasValue(chunk, "model")) response.model = chunk.get("model").getAsString();
+        if (hasValue(chunk, "system_fingerprint")) response.systemFingerprint = chunk.get("system_fingerprint").getAsString();
+        if (hasValue(chunk, "service_tier")) response.serviceTier = chunk.get("service_tier").getAsString();
+        if (hasValue(chunk, "provider")) response.provider = chunk.get("provider").getAsString();
+        if (hasValue(chunk, "cost")) response.cost = chunk.get("cost").getAsDouble();
+        if (hasValue(chunk, "usage")) response.usage = gson.fromJson(chunk.get("usage"), dtos.AiUsage.class);
+
+        if (!hasValue(chunk, "choices"))
+            return;
+
+        for (var choiceElement : chunk.getAsJsonArray("choices")) {
+            if (!choiceElement.isJsonObject())
+                continue;
+            var choice = choiceElement.getAsJsonObject();
+            if (choice.has("error"))
+                throw new IllegalStateException("Chat completion failed: " + errorMessage(choice.get("error")));
+
+            var index = hasValue(choice, "index") ? choice.get("index").getAsInt() : 0;
+            var acc = choices.computeIfAbsent(index, ChoiceAccumulator::new);
+            var finishReason = hasValue(choice, "finish_reason") ? choice.get("finish_reason").getAsString() : null;
+            if (finishReason != null)
+                acc.finishReason = finishReason;
+            if (hasValue(choice, "logprobs"))
+                acc.addLogprobs(gson.fromJson(choice.get("logprobs"), dtos.Logprobs.class));
+
+            dtos.ChoiceMessage message = null;
+            if (hasValue(choice, "delta")) {
+                var delta = choice.getAsJsonObject("delta");
+                message = gson.fromJson(delta, dtos.ChoiceMessage.class);
+                acc.add(message, delta);
+            }
+            if (message != null || finishReason != null)
+                to.add(new Delta(index, message, finishReason));
+        }
+    }
+
+    private void complete() {
+        if (responseFuture.isDone())
+            return;
+        response.object = "chat.completion";
+        response.choices = new ArrayList<>();
+        for (var acc : choices.values()) {
+            response.choices.add(acc.toChoice());
+        }
+        responseFuture.complete(response);
+    }
+
+    static boolean hasValue(JsonObject obj, String name) {
+        var value = obj.get(name);
+        return value != null && !value.isJsonNull();
+    }
+
+    static String errorMessage(JsonElement error) {
+        if (error.isJsonObject() && hasValue(error.getAsJsonObject(), "message"))
+            return error.getAsJsonObject().get("message").getAsString();
+        return error.toString();
+    }
+
+    /**
+     * Accumulates the content, reasoning and tool call fragments of a single Choice
+     */
+    static class ChoiceAccumulator {
+        final int index;
+        final StringBuilder content = new StringBuilder();
+        final StringBuilder reasoning = new StringBuilder();
+        final StringBuilder refusal = new StringBuilder();
+        final TreeMap<Integer, dtos.ToolCall> toolCalls = new TreeMap<>();
+        String reasoningField;
+        String role;
+        String finishReason;
+        dtos.Logprobs logprobs;
+        CompactLogprobs.Builder compactLogprobs;
+
+        ChoiceAccumulator(int index) {
+            this.index = index;
+        }
+
+        void add(dtos.ChoiceMessage delta, JsonObject json) {
+            if (delta.role != null) role = delta.role;
+            if (delta.content != null) content.append(delta.content);
+            if (delta.refusal != null) refusal.append(delta.refusal);
+
+            for (var field : ReasoningFields) {
+                if (hasValue(json, field)) {
+                    reasoning.append(json.get(field).getAsString());
+                    reasoningField = field;
+                    break;
+                }
+            }
+
+            // ToolCall has no index, fragments of the same call are matched by the "index" of each tool_calls delta
+            if (delta.toolCalls == null)
+                return;
+            var toolCallsJson = json.getAsJsonArray("tool_calls");
+            for (var i = 0; i < delta.toolCalls.size(); i++) {
+                var fragment = delta.toolCalls.get(i);
+                var fragmentJson = toolCallsJson.get(i).getAsJsonObject();
+                var toolIndex = hasValue(fragmentJson, "index") ? fragmentJson.get("index").getAsInt() : i;
+
+                var existing = toolCalls.get(toolIndex);
+                if (existing == null) {
+                    existing = new dtos.ToolCall()
+                        .setId(fragment.id != null ? fragment.id : "")
+                        .setType(fragment.type != null ? fragment.type : "function")
+                        .setFunction(new dtos.ToolFunction().setName("").setArguments(""));
+                    if (fragment.function != null) {
+                        if (fragment.function.name != null) existing.function.name = fragment.function.name;
+                        if (fragment.function.arguments != null) existing.function.arguments = fragment.function.arguments;
+                    }
+                    toolCalls.put(toolIndex, existing);
+                    continue;
+                }
+
+                if (fragment.id != null) existing.id += fragment.id;
+                if (fragment.type != null) existing.type = fragment.type;
+                if (fragment.function != null) {
+                    if (fragment.function.name != null) existing.function.name += fragment.function.name;
+                    if (fragment.function.arguments != null) existing.function.arguments += fragment.function.arguments;
+                }
+            }
+        }
+
+        void addLogprobs(dtos.Logprobs delta) {
+            if (delta instanceof CompactLogprobs compact) {
+                if (compactLogprobs == null)
+                    compactLogprobs = new CompactLogprobs.Builder();
+                compactLogprobs.addAll(compact);
+                return;
+            }
+            if (delta == null || delta.content == null)
+                return;
+            if (logprobs == null)
+                logprobs = new dtos.Logprobs().setContent(new ArrayList<>());
+            logprobs.content.addAll(delta.content);
+        }
+
+        dtos.Choice toChoice() {
+            var message = new dtos.ChoiceMessage()
+                .setRole(role != null ? role : "assistant")
+                .setContent(content.toString());
+            if (refusal.length() > 0)
+                message.refusal = refusal.toString();
+            if (reasoning.length() > 0) {
+                switch (reasoningField) {
+                    case "reasoning" -> message.reasoning = reasoning.toString();
+                    case "thinking" -> message.thinking = reasoning.toString();
+                    default -> message.reasoningContent = reasoning.toString();
+                }
+            }
+            if (!toolCalls.isEmpty())
+                message.toolCalls = new ArrayList<>(toolCalls.values());
+
+            return new dtos.Choice()
+                .setIndex(index)
+                .setFinishReason(finishReason)
+                .setMessage(message)
+                .setLogprobs(compactLogprobs != null ? compactLogprobs.build() : logprobs);
+        }
+    }
+}
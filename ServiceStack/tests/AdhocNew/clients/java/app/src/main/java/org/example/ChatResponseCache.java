@@ -0,0 +1,194 @@
+package org.example;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A disk cache of ChatResponses for deterministic ChatCompletion requests so replayed prompts are read from
+ * local files instead of being sent to the provider again, e.g:
+ *
+ * <pre>
+ * var cache = new ChatResponseCache(Path.of(".cache/chat"));
+ * for (var prompt : evalPrompts) {
+ *     var request = new dtos.ChatCompletion().setModel("gpt-4.1").setSeed(42).setTemperature(0.0)
+ *         .setMessages(prompt.messages());
+ *     results.add(cache.send(client, request));
+ * }
+ * </pre>
+ *
+ * Responses are keyed by a SHA-256 hash of the request's JSON with its properties sorted, so the messages,
+ * model, tools, seed, temperature, response_format and all other sampling parameters must match. Properties
+ * that don't affect the generated response, e.g. metadata and prompt_cache_key, are excluded from the key.
+ * Only requests with a seed or a temperature of 0 are cached unless isDeterministic is overridden.
+ */
+public class ChatResponseCache {
+
+    static final Set<String> IgnoreProperties = Set.of(
+        "metadata", "prompt_cache_key", "safety_identifier", "service_tier", "store", "stream");
+
+    private final Path dir;
+    private Predicate<dtos.ChatCompletion> isDeterministic = ChatResponseCache::isDeterministic;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ChatResponseCache(Path dir) {
+        this.dir = dir;
+    }
+
+    public Path getDir() { return dir; }
+    /**
+     * Which requests are cached, by default those with a seed or a temperature of 0 that aren't streamed
+     */
+    public Predicate<dtos.ChatCompletion> getIsDeterministic() { return isDeterministic; }
+    public ChatResponseCache setIsDeterministic(Predicate<dtos.ChatCompletion> value) { this.isDeterministic = value; return this; }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+
+    public static boolean isDeterministic(dtos.ChatCompletion request) {
+        return !Boolean.TRUE.equals(request.stream)
+            && (request.seed != null || (request.temperature != null && request.temperature == 0));
+    }
+
+    /**
+     * Returns the cached response of a deterministic request, otherwise sends it and caches its successful response
+     */
+    public CompletableFuture<dtos.ChatResponse> sendAsync(AsyncServiceClient client, dtos.ChatCompletion request) {
+        if (!isDeterministic.test(request))
+            return client.sendAsync(request);
+
+        var key = getKey(client.getGson().toJsonTree(request));
+        String cached;
+        try {
+            cached = read(key);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+        if (cached != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(client.fromJson(cached, dtos.ChatResponse.class));
+        }
+
+        misses.increment();
+        return client.recordUsage(request, client.getHttpClient().sendAsync(client.createRequest(request).build(), HttpResponse.BodyHandlers.ofString())
+            .thenApply(httpRes -> {
+                dtos.ChatResponse response = client.toResponse(httpRes, dtos.ChatResponse.class);
+                if (response != null && response.responseStatus == null) {
+                    try {
+                        write(key, httpRes.body());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return response;
+            }));
+    }
+
+    public dtos.ChatResponse send(AsyncServiceClient client, dtos.ChatCompletion request) {
+        return AsyncServiceClient.await(sendAsync(client, request));
+    }
+
+    /**
+     * The hex SHA-256 hash of the request's canonical JSON
+     */
+    public static String getKey(JsonElement request) {
+        var json = new StringWriter();
+        try (var writer = new JsonWriter(json)) {
+            writeCanonical(writer, request, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(json.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void writeCanonical(JsonWriter writer, JsonElement json, boolean isRequest) throws IOException {
+        if (json.isJsonObject()) {
+            writer.beginObject();
+            // null properties are omitted so requests are equal whether or not they're serialized with nulls
+            var sorted = new TreeMap<String, JsonElement>();
+            for (var entry : ((JsonObject) json).entrySet()) {
+                if (!entry.getValue().isJsonNull() && !(isRequest && IgnoreProperties.contains(entry.getKey())))
+                    sorted.put(entry.getKey(), entry.getValue());
+            }
+            for (var entry : sorted.entrySet()) {
+                writer.name(entry.getKey());
+                writeCanonical(writer, entry.getValue(), false);
+            }
+            writer.endObject();
+        } else if (json.isJsonArray()) {
+            writer.beginArray();
+            for (var item : json.getAsJsonArray()) {
+                writeCanonical(writer, item, false);
+            }
+            writer.endArray();
+        } else if (json.isJsonNull()) {
+            writer.nullValue();
+        } else {
+            var value = json.getAsJsonPrimitive();
+            if (value.isNumber()) writer.value(value.getAsBigDecimal().stripTrailingZeros());
+            else if (value.isBoolean()) writer.value(value.getAsBoolean());
+            else writer.value(value.getAsString());
+        }
+    }
+
+    Path getPath(String key) {
+        return dir.resolve(key.substring(0, 2)).resolve(key + ".json");
+    }
+
+    /**
+     * Reads a cached response body by memory-mapping its file, returns null if it's not cached
+     */
+    String read(String key) throws IOException {
+        try (var channel = FileChannel.open(getPath(key), StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return StandardCharsets.UTF_8.decode(buffer).toString();
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes to a temp file that's atomically renamed so concurrent readers never see a partial response
+     */
+    void write(String key, String body) throws IOException {
+        var path = getPath(key);
+        Files.createDirectories(path.getParent());
+        var tmp = Files.createTempFile(path.getParent(), key, ".tmp");
+        try {
+            Files.writeString(tmp, body, StandardCharsets.UTF_8);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    public void remove(AsyncServiceClient client, dtos.ChatCompletion request) throws IOException {
+        Files.deleteIfExists(getPath(getKey(client.getGson().toJsonTree(request))));
+    }
+}
@@ -0,0 +1,105 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import net.servicestack.client.WebServiceException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Sends ChatCompletion requests with "stream": true so tokens can be forwarded as soon as they're
+ * generated instead of waiting for the whole ChatResponse.
+ */
+public class ChatStreamClient {
+    public static final String ChatCompletionsPath = "/v1/chat/completions";
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private Gson gson;
+    private String bearerToken;
+    private UsageMeter usageMeter;
+
+    public ChatStreamClient(String baseUrl) {
+        this(baseUrl, HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build());
+    }
+
+    public ChatStreamClient(String baseUrl, HttpClient httpClient) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.httpClient = httpClient;
+        this.gson = AsyncServiceClient.createGsonBuilder().create();
+    }
+
+    public String getBearerToken() { return bearerToken; }
+    public ChatStreamClient setBearerToken(String value) { this.bearerToken = value; return this; }
+    public Gson getGson() { return gson; }
+    public ChatStreamClient setGson(Gson value) { this.gson = value; return this; }
+    public UsageMeter getUsageMeter() { return usageMeter; }
+    /**
+     * Records the usage reported in the final chunk of every stream once it completes,
+     * streams that fail or are closed before their last chunk aren't recorded
+     */
+    public ChatStreamClient setUsageMeter(UsageMeter value) { this.usageMeter = value; return this; }
+
+    /**
+     * Sends the request and returns as soon as the response headers arrive, deltas are decoded
+     * lazily as the ChatCompletionStream is iterated. Must be closed if it's not fully consumed.
+     */
+    public ChatCompletionStream stream(dtos.ChatCompletion request) {
+        return stream(request, null);
+    }
+
+    /**
+     * Streams the base64 content of attachments into the request body in place of their placeholders
+     */
+    public ChatCompletionStream stream(dtos.ChatCompletion request, Base64Attachments attachments) {
+        var body = gson.toJsonTree(request).getAsJsonObject();
+        body.addProperty("stream", true);
+        var streamOptions = new JsonObject();
+        streamOptions.addProperty("include_usage", true);
+        body.add("stream_options", streamOptions);
+
+        var httpReq = HttpRequest.newBuilder(URI.create(baseUrl + ChatCompletionsPath))
+            .header("Content-Type", "application/json")
+            .header("Accept", "text/event-stream");
+        if (bearerToken != null)
+            httpReq.header("Authorization", "Bearer " + bearerToken);
+
+        HttpResponse<Stream<String>> httpRes;
+        try {
+            var bodyPublisher = attachments != null
+                ? attachments.toBodyPublisher(gson, body)
+                : HttpRequest.BodyPublishers.ofString(gson.toJson(body));
+            httpRes = httpClient.send(httpReq.POST(bodyPublisher).build(),
+                HttpResponse.BodyHandlers.ofLines());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        if (httpRes.statusCode() >= 300) {
+            String responseBody;
+            try (var lines = httpRes.body()) {
+                responseBody = lines.collect(Collectors.joining("\n"));
+            }
+            throw new WebServiceException(httpRes.statusCode(), "Chat completion failed", responseBody);
+        }
+
+        var stream = new ChatCompletionStream(httpRes.body(), gson);
+        var meter = usageMeter;
+        if (meter != null)
+            stream.getResponseAsync().thenAccept(response -> meter.record(request, response));
+        return stream;
+    }
+}
@@ -0,0 +1,440 @@
+package org.example;
+
+import com.google.gson.Gson;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * A compact columnar file where rows are written in row groups and each column of a row group is stored
+ * as a separate chunk with an encoding chosen for its type and values:
+ *
+ * <pre>
+ * file      = "SSCF" version:u8 rowGroup* footer footerLength:i32 "SSCF"
+ * rowGroup  = chunk per column
+ * chunk     = encoding:u8 nullsLength:varint nulls:byte[] values
+ * footer    = UTF-8 JSON { columns:[{name,type}], rowGroups:[{rows,chunks:[{offset,length,encoding}]}] }
+ * </pre>
+ *
+ * Nulls are a bitmap of the rows in the row group, values only contain non-null values. LONG columns are
+ * zigzag delta varints, DOUBLE columns little-endian IEEE 754, BOOLEAN columns a bitmap of the rows and
+ * STRING columns either a dictionary of distinct values with varint indexes or varint length prefixed UTF-8.
+ * The footer is read first so columns can be read without reading the rest of the file.
+ */
+public class ColumnarFile {
+
+    public enum ColumnType { LONG, DOUBLE, BOOLEAN, STRING }
+
+    public record Column(String name, ColumnType type) {}
+
+    static final byte[] Magic = "SSCF".getBytes(StandardCharsets.US_ASCII);
+    static final int Version = 1;
+
+    static final byte Plain = 0;
+    static final byte DeltaVarint = 1;
+    static final byte Dictionary = 2;
+    static final byte BitPacked = 3;
+
+    static final int MaxDictionarySize = 1 << 16;
+
+    record Chunk(long offset, int length, byte encoding) {}
+    record RowGroup(int rows, List<Chunk> chunks) {}
+    record Footer(List<Column> columns, List<RowGroup> rowGroups) {}
+
+    /**
+     * The values of a column for a batch of rows, stored in primitive arrays
+     */
+    public static class ColumnVector {
+        final ColumnType type;
+        int size;
+        long[] longs;
+        double[] doubles;
+        String[] strings;
+        final BitSet bools = new BitSet();
+        final BitSet nulls = new BitSet();
+
+        public ColumnVector(ColumnType type, int capacity) {
+            this.type = type;
+            capacity = Math.max(capacity, 16);
+            switch (type) {
+                case LONG -> longs = new long[capacity];
+                case DOUBLE -> doubles = new double[capacity];
+                case STRING -> strings = new String[capacity];
+                case BOOLEAN -> {}
+            }
+        }
+
+        public ColumnType getType() { return type; }
+        public int size() { return size; }
+        public boolean isNull(int row) { return nulls.get(row); }
+        public long getLong(int row) { return longs[row]; }
+        public double getDouble(int row) { return doubles[row]; }
+        public boolean getBoolean(int row) { return bools.get(row); }
+        public String getString(int row) { return strings[row]; }
+
+        public Object get(int row) {
+            if (nulls.get(row))
+                return null;
+            return switch (type) {
+                case LONG -> longs[row];
+                case DOUBLE -> doubles[row];
+                case BOOLEAN -> bools.get(row);
+                case STRING -> strings[row];
+            };
+        }
+
+        void ensureCapacity(int capacity) {
+            switch (type) {
+                case LONG -> { if (capacity > longs.length) longs = Arrays.copyOf(longs, Math.max(capacity, longs.length * 2)); }
+                case DOUBLE -> { if (capacity > doubles.length) doubles = Arrays.copyOf(doubles, Math.max(capacity, doubles.length * 2)); }
+                case STRING -> { if (capacity > strings.length) strings = Arrays.copyOf(strings, Math.max(capacity, strings.length * 2)); }
+                case BOOLEAN -> {}
+            }
+        }
+
+        public void addNull() {
+            ensureCapacity(size + 1);
+            nulls.set(size++);
+        }
+
+        public void addLong(long value) {
+            ensureCapacity(size + 1);
+            longs[size++] = value;
+        }
+
+        public void addDouble(double value) {
+            ensureCapacity(size + 1);
+            doubles[size++] = value;
+        }
+
+        public void addBoolean(boolean value) {
+            bools.set(size++, value);
+        }
+
+        public void addString(String value) {
+            if (value == null) {
+                addNull();
+                return;
+            }
+            ensureCapacity(size + 1);
+            strings[size++] = value;
+        }
+
+        public void addAll(ColumnVector from) {
+            if (from.type != type)
+                throw new IllegalArgumentException("Cannot add " + from.type + " values to a " + type + " column");
+            ensureCapacity(size + from.size);
+            switch (type) {
+                case LONG -> System.arraycopy(from.longs, 0, longs, size, from.size);
+                case DOUBLE -> System.arraycopy(from.doubles, 0, doubles, size, from.size);
+                case STRING -> System.arraycopy(from.strings, 0, strings, size, from.size);
+                case BOOLEAN -> from.bools.stream().forEach(i -> bools.set(size + i));
+            }
+            from.nulls.stream().forEach(i -> nulls.set(size + i));
+            size += from.size;
+        }
+
+        public void clear() {
+            if (strings != null)
+                Arrays.fill(strings, 0, size, null);
+            bools.clear();
+            nulls.clear();
+            size = 0;
+        }
+    }
+
+    public static class Writer implements Closeable {
+        final OutputStream out;
+        final List<Column> columns;
+        final List<RowGroup> rowGroups = new ArrayList<>();
+        final ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        long position;
+        long rowCount;
+
+        public Writer(Path path, List<Column> columns) throws IOException {
+            this(new BufferedOutputStream(Files.newOutputStream(path), 64 * 1024), columns);
+        }
+
+        public Writer(OutputStream out, List<Column> columns) throws IOException {
+            this.out = out;
+            this.columns = List.copyOf(columns);
+            write(Magic);
+            write(new byte[]{ (byte) Version });
+        }
+
+        public List<Column> getColumns() { return columns; }
+        public long getRowCount() { return rowCount; }
+
+        void write(byte[] bytes) throws IOException {
+            out.write(bytes);
+            position += bytes.length;
+        }
+
+        public void writeRowGroup(ColumnVector[] vectors) throws IOException {
+            if (vectors.length != columns.size())
+                throw new IllegalArgumentException("Expected " + columns.size() + " columns but was " + vectors.length);
+            var rows = vectors.length > 0 ? vectors[0].size : 0;
+            if (rows == 0)
+                return;
+            var chunks = new ArrayList<Chunk>(vectors.length);
+            for (var vector : vectors) {
+                if (vector.size != rows)
+                    throw new IllegalArgumentException("All columns in a row group must have the same number of rows");
+                chunk.reset();
+                var encoding = encode(vector, chunk);
+                chunks.add(new Chunk(position, chunk.size(), encoding));
+                position += chunk.size();
+                chunk.writeTo(out);
+            }
+            rowGroups.add(new RowGroup(rows, chunks));
+            rowCount += rows;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (out) {
+                var footer = new Gson().toJson(new Footer(columns, rowGroups)).getBytes(StandardCharsets.UTF_8);
+                write(footer);
+                write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(footer.length).array());
+                write(Magic);
+            }
+        }
+    }
+
+    static byte encode(ColumnVector vector, ByteArrayOutputStream out) {
+        var encoding = switch (vector.type) {
+            case LONG -> DeltaVarint;
+            case DOUBLE -> Plain;
+            case BOOLEAN -> BitPacked;
+            case STRING -> isDictionaryEncodable(vector) ? Dictionary : Plain;
+        };
+        out.write(encoding);
+        var nulls = vector.nulls.toByteArray();
+        writeVarint(out, nulls.length);
+        out.writeBytes(nulls);
+
+        switch (vector.type) {
+            case LONG -> {
+                var previous = 0L;
+                for (var i = 0; i < vector.size; i++) {
+                    if (vector.nulls.get(i))
+                        continue;
+                    var value = vector.longs[i];
+                    writeVarint(out, zigzag(value - previous));
+                    previous = value;
+                }
+            }
+            case DOUBLE -> {
+                var buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+                for (var i = 0; i < vector.size; i++) {
+                    if (vector.nulls.get(i))
+                        continue;
+                    out.write(buffer.putDouble(0, vector.doubles[i]).array(), 0, 8);
+                }
+            }
+            case BOOLEAN -> {
+                var bools = vector.bools.toByteArray();
+                writeVarint(out, bools.length);
+                out.writeBytes(bools);
+            }
+            case STRING -> {
+                if (encoding == Dictionary) {
+                    var indexes = new HashMap<String, Integer>();
+                    var dictionary = new ArrayList<String>();
+                    for (var i = 0; i < vector.size; i++) {
+                        if (!vector.nulls.get(i) && indexes.putIfAbsent(vector.strings[i], dictionary.size()) == null)
+                            dictionary.add(vector.strings[i]);
+                    }
+                    writeVarint(out, dictionary.size());
+                    for (var value : dictionary) {
+                        writeString(out, value);
+                    }
+                    for (var i = 0; i < vector.size; i++) {
+                        if (!vector.nulls.get(i))
+                            writeVarint(out, indexes.get(vector.strings[i]));
+                    }
+                } else {
+                    for (var i = 0; i < vector.size; i++) {
+                        if (!vector.nulls.get(i))
+                            writeString(out, vector.strings[i]);
+                    }
+                }
+            }
+        }
+        return encoding;
+    }
+
+    /**
+     * Strings are dictionary encoded when at least half their values are repeated
+     */
+    static boolean isDictionaryEncodable(ColumnVector vector) {
+        var nonNull = vector.size - vector.nulls.cardinality();
+        var maxDistinct = Math.min(nonNull / 2, MaxDictionarySize);
+        var distinct = new HashSet<String>();
+        for (var i = 0; i < vector.size; i++) {
+            if (vector.nulls.get(i))
+                continue;
+            if (distinct.add(vector.strings[i]) && distinct.size() > maxDistinct)
+                return false;
+        }
+        return nonNull > 0;
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeString(ByteArrayOutputStream out, String value) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    static long readVarint(ByteBuffer in) {
+        var value = 0L;
+        for (var shift = 0; ; shift += 7) {
+            var b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+    }
+
+    static String readString(ByteBuffer in) {
+        var length = (int) readVarint(in);
+        var value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    static void decode(ByteBuffer in, int rows, ColumnVector to) {
+        var encoding = in.get();
+        var nullBytes = new byte[(int) readVarint(in)];
+        in.get(nullBytes);
+        var nulls = BitSet.valueOf(nullBytes);
+
+        BitSet bools = null;
+        String[] dictionary = null;
+        if (encoding == BitPacked) {
+            var bytes = new byte[(int) readVarint(in)];
+            in.get(bytes);
+            bools = BitSet.valueOf(bytes);
+        } else if (encoding == Dictionary) {
+            dictionary = new String[(int) readVarint(in)];
+            for (var i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(in);
+            }
+        }
+
+        in.order(ByteOrder.LITTLE_ENDIAN);
+        var previous = 0L;
+        for (var row = 0; row < rows; row++) {
+            if (nulls.get(row)) {
+                to.addNull();
+                continue;
+            }
+            switch (to.type) {
+                case LONG -> to.addLong(previous += unzigzag(readVarint(in)));
+                case DOUBLE -> to.addDouble(in.getDouble());
+                case BOOLEAN -> to.addBoolean(bools.get(row));
+                case STRING -> to.addString(dictionary != null ? dictionary[(int) readVarint(in)] : readString(in));
+            }
+        }
+    }
+
+    public static class Reader implements Closeable {
+        final FileChannel channel;
+        final Footer footer;
+
+        public Reader(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                var size = channel.size();
+                var tail = read(size - 8, 8).order(ByteOrder.LITTLE_ENDIAN);
+                var footerLength = tail.getInt();
+                var magic = new byte[4];
+                tail.get(magic);
+                if (!Arrays.equals(magic, Magic))
+                    throw new IOException(path + " is not a columnar file");
+                var json = read(size - 8 - footerLength, footerLength);
+                footer = new Gson().fromJson(new String(json.array(), StandardCharsets.UTF_8), Footer.class);
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        ByteBuffer read(long position, int length) throws IOException {
+            var buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, position + buffer.position()) < 0)
+                    throw new IOException("Unexpected end of columnar file");
+            }
+            return buffer.flip();
+        }
+
+        public List<Column> getColumns() { return footer.columns(); }
+
+        public long getRowCount() {
+            var rows = 0L;
+            for (var rowGroup : footer.rowGroups()) {
+                rows += rowGroup.rows();
+            }
+            return rows;
+        }
+
+        public int getRowGroupCount() { return footer.rowGroups().size(); }
+
+        /**
+         * Reads all values of a column, only the column's chunks are read from the file
+         */
+        public ColumnVector readColumn(String name) throws IOException {
+            var index = -1;
+            for (var i = 0; i < footer.columns().size(); i++) {
+                if (footer.columns().get(i).name().equalsIgnoreCase(name))
+                    index = i;
+            }
+            if (index < 0)
+                throw new IllegalArgumentException("Unknown column: " + name);
+            var to = new ColumnVector(footer.columns().get(index).type(), (int) Math.min(getRowCount(), Integer.MAX_VALUE));
+            for (var rowGroup : footer.rowGroups()) {
+                var chunk = rowGroup.chunks().get(index);
+                decode(read(chunk.offset(), chunk.length()), rowGroup.rows(), to);
+            }
+            return to;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
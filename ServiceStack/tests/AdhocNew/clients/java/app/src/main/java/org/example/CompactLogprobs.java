@@ -0,0 +1,400 @@
+package org.example;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Logprobs decoded into parallel primitive arrays instead of an ArrayList of boxed LogprobItem's,
+ * all token strings of a response share a single char[] and all token bytes a single byte[], indexed by offsets.
+ *
+ * Enable by registering its adapter with register(GsonBuilder), Choice.logprobs is then deserialized
+ * as a CompactLogprobs. Only its view API is compact, getContent() returns the boxed LogprobItem's which
+ * are materialized once on first access. The inherited content field stays null until getContent() is
+ * called so existing code should read logprobs through getContent(). Tokens, logprobs and bytes are kept
+ * exactly as the provider returned them so they serialize back to the same JSON.
+ *
+ * The view API and getContent() are safe to call from multiple threads.
+ */
+public class CompactLogprobs extends dtos.Logprobs {
+    private final Tokens tokens;
+    private final int[] topOffsets;       // size + 1 offsets into tops
+    private final Tokens tops;
+    private volatile ArrayList<dtos.LogprobItem> items;
+
+    CompactLogprobs(Tokens tokens, int[] topOffsets, Tokens tops) {
+        this.content = null;
+        this.tokens = tokens;
+        this.topOffsets = topOffsets;
+        this.tops = tops;
+    }
+
+    public static GsonBuilder register(GsonBuilder builder) {
+        return builder.registerTypeHierarchyAdapter(dtos.Logprobs.class, new Adapter().nullSafe());
+    }
+
+    /** Number of token positions */
+    public int size() { return tokens.size; }
+
+    public double logprob(int i) {
+        return tokens.logprobs[checkIndex(i)];
+    }
+
+    /** Read-only view over the logprob of every position */
+    public DoubleBuffer logprobs() {
+        return DoubleBuffer.wrap(tokens.logprobs, 0, tokens.size).asReadOnlyBuffer();
+    }
+
+    public String token(int i) {
+        return tokens.token(checkIndex(i));
+    }
+
+    /**
+     * The UTF-8 bytes returned for the token, tokens split across multi-byte characters only contain their
+     * partial bytes. Null if the provider didn't return bytes.
+     */
+    public ByteBuffer tokenBytes(int i) {
+        return tokens.bytes(checkIndex(i));
+    }
+
+    public int topCount(int i) {
+        checkIndex(i);
+        return topOffsets[i + 1] - topOffsets[i];
+    }
+
+    public double topLogprob(int i, int k) {
+        return tops.logprobs[topIndex(i, k)];
+    }
+
+    public String topToken(int i, int k) {
+        return tops.token(topIndex(i, k));
+    }
+
+    public ByteBuffer topTokenBytes(int i, int k) {
+        return tops.bytes(topIndex(i, k));
+    }
+
+    /** Log probability of the whole completion */
+    public double sumLogprobs() {
+        var sum = 0d;
+        for (var i = 0; i < tokens.size; i++) {
+            sum += tokens.logprobs[i];
+        }
+        return sum;
+    }
+
+    /**
+     * The boxed LogprobItem's, materialized once on first access and also assigned to the content field
+     */
+    @Override
+    public ArrayList<dtos.LogprobItem> getContent() {
+        var to = items;
+        if (to == null) {
+            synchronized (this) {
+                to = items;
+                if (to == null) {
+                    to = toItems();
+                    content = to;
+                    items = to;
+                }
+            }
+        }
+        return to;
+    }
+
+    private ArrayList<dtos.LogprobItem> toItems() {
+        var to = new ArrayList<dtos.LogprobItem>(tokens.size);
+        for (var i = 0; i < tokens.size; i++) {
+            var item = tokens.toItem(i);
+            if (tokens.has(i, Tokens.HasTop)) {
+                var topItems = new ArrayList<dtos.LogprobItem>(topCount(i));
+                for (var top = topOffsets[i]; top < topOffsets[i + 1]; top++) {
+                    topItems.add(tops.toItem(top));
+                }
+                item.setTopLogprobs(topItems);
+            }
+            to.add(item);
+        }
+        return to;
+    }
+
+    private int checkIndex(int i) {
+        if (i < 0 || i >= tokens.size)
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + tokens.size);
+        return i;
+    }
+
+    private int topIndex(int i, int k) {
+        if (k < 0 || k >= topCount(i))
+            throw new IndexOutOfBoundsException("Index " + k + " out of bounds for length " + topCount(i));
+        return topOffsets[i] + k;
+    }
+
+    /**
+     * Growable columns of logprobs, token chars and token bytes, flags records which properties were returned
+     */
+    static final class Tokens {
+        static final byte HasToken = 1;
+        static final byte HasBytes = 2;
+        static final byte HasTop = 4;
+
+        int size;
+        double[] logprobs = new double[64];
+        byte[] flags = new byte[64];
+        int[] charOffsets = new int[65];
+        int[] byteOffsets = new int[65];
+        char[] chars = new char[256];
+        byte[] bytes = new byte[256];
+
+        void add(double logprob, String token, byte[] tokenBytes, int offset, int length, byte flags) {
+            if (size == logprobs.length) {
+                logprobs = Arrays.copyOf(logprobs, size * 2);
+                this.flags = Arrays.copyOf(this.flags, size * 2);
+                charOffsets = Arrays.copyOf(charOffsets, size * 2 + 1);
+                byteOffsets = Arrays.copyOf(byteOffsets, size * 2 + 1);
+            }
+            var charsLength = charOffsets[size];
+            var bytesLength = byteOffsets[size];
+            if (token != null) {
+                flags |= HasToken;
+                if (charsLength + token.length() > chars.length)
+                    chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charsLength + token.length()));
+                token.getChars(0, token.length(), chars, charsLength);
+                charsLength += token.length();
+            }
+            if (tokenBytes != null) {
+                flags |= HasBytes;
+                if (bytesLength + length > bytes.length)
+                    bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, bytesLength + length));
+                System.arraycopy(tokenBytes, offset, bytes, bytesLength, length);
+                bytesLength += length;
+            }
+            logprobs[size] = logprob;
+            this.flags[size] = flags;
+            size++;
+            charOffsets[size] = charsLength;
+            byteOffsets[size] = bytesLength;
+        }
+
+        void add(Tokens from, int i) {
+            add(from.logprobs[i], from.token(i),
+                from.has(i, HasBytes) ? from.bytes : null, from.byteOffsets[i], from.byteOffsets[i + 1] - from.byteOffsets[i],
+                (byte) (from.flags[i] & HasTop));
+        }
+
+        boolean has(int i, byte flag) {
+            return (flags[i] & flag) != 0;
+        }
+
+        String token(int i) {
+            return has(i, HasToken) ? new String(chars, charOffsets[i], charOffsets[i + 1] - charOffsets[i]) : null;
+        }
+
+        ByteBuffer bytes(int i) {
+            return has(i, HasBytes)
+                ? ByteBuffer.wrap(bytes, byteOffsets[i], byteOffsets[i + 1] - byteOffsets[i]).slice().asReadOnlyBuffer()
+                : null;
+        }
+
+        dtos.LogprobItem toItem(int i) {
+            return new dtos.LogprobItem()
+                .setToken(token(i))
+                .setLogprob(logprobs[i])
+                .setBytes(has(i, HasBytes) ? Arrays.copyOfRange(bytes, byteOffsets[i], byteOffsets[i + 1]) : null)
+                .setTopLogprobs(null);
+        }
+
+        Tokens trim() {
+            var to = new Tokens();
+            to.size = size;
+            to.logprobs = Arrays.copyOf(logprobs, size);
+            to.flags = Arrays.copyOf(flags, size);
+            to.charOffsets = Arrays.copyOf(charOffsets, size + 1);
+            to.byteOffsets = Arrays.copyOf(byteOffsets, size + 1);
+            to.chars = Arrays.copyOf(chars, charOffsets[size]);
+            to.bytes = Arrays.copyOf(bytes, byteOffsets[size]);
+            return to;
+        }
+    }
+
+    /**
+     * Appends token positions into growable primitive arrays, also used to concatenate streamed chunks
+     */
+    public static class Builder {
+        final Tokens tokens = new Tokens();
+        final Tokens tops = new Tokens();
+        int[] topOffsets = new int[65];
+
+        /**
+         * Adds the next token position along with any top logprobs added since the previous position,
+         * bytes is null when the provider didn't return them and hasTop is false when it didn't return top_logprobs
+         */
+        public Builder add(double logprob, String token, byte[] bytes, int offset, int length, boolean hasTop) {
+            tokens.add(logprob, token, bytes, offset, length, hasTop ? Tokens.HasTop : 0);
+            if (tokens.size == topOffsets.length)
+                topOffsets = Arrays.copyOf(topOffsets, topOffsets.length * 2);
+            topOffsets[tokens.size] = tops.size;
+            return this;
+        }
+
+        /** Adds a top logprob of the next token position, top_logprobs can be read before their token */
+        public Builder addTop(double logprob, String token, byte[] bytes, int offset, int length) {
+            tops.add(logprob, token, bytes, offset, length, (byte) 0);
+            return this;
+        }
+
+        public Builder addAll(CompactLogprobs from) {
+            for (var i = 0; i < from.size(); i++) {
+                for (var top = from.topOffsets[i]; top < from.topOffsets[i + 1]; top++) {
+                    tops.add(from.tops, top);
+                }
+                tokens.add(from.tokens, i);
+                if (tokens.size == topOffsets.length)
+                    topOffsets = Arrays.copyOf(topOffsets, topOffsets.length * 2);
+                topOffsets[tokens.size] = tops.size;
+            }
+            return this;
+        }
+
+        public int size() { return tokens.size; }
+
+        public CompactLogprobs build() {
+            return new CompactLogprobs(tokens.trim(), Arrays.copyOf(topOffsets, tokens.size + 1), tops.trim());
+        }
+    }
+
+    /**
+     * Streams the "content" of logprobs straight into a Builder without creating intermediate LogprobItem's
+     */
+    public static class Adapter extends TypeAdapter<dtos.Logprobs> {
+        @Override
+        public void write(JsonWriter out, dtos.Logprobs value) throws IOException {
+            out.beginObject();
+            out.name("content");
+            var items = value.getContent();
+            if (items == null) {
+                out.nullValue();
+            } else {
+                out.beginArray();
+                for (var item : items) {
+                    writeItem(out, item, true);
+                }
+                out.endArray();
+            }
+            out.endObject();
+        }
+
+        private static void writeItem(JsonWriter out, dtos.LogprobItem item, boolean includeTop) throws IOException {
+            out.beginObject();
+            out.name("token").value(item.token);
+            out.name("logprob").value(item.logprob);
+            if (item.bytes != null) {
+                out.name("bytes").beginArray();
+                for (var b : item.bytes) {
+                    out.value(b & 0xFF);
+                }
+                out.endArray();
+            }
+            if (includeTop && item.topLogprobs != null) {
+                out.name("top_logprobs").beginArray();
+                for (var top : item.topLogprobs) {
+                    writeItem(out, top, false);
+                }
+                out.endArray();
+            }
+            out.endObject();
+        }
+
+        @Override
+        public dtos.Logprobs read(JsonReader in) throws IOException {
+            var builder = new Builder();
+            var token = new TokenReader();
+            in.beginObject();
+            while (in.hasNext()) {
+                if (!in.nextName().equals("content") || in.peek() == JsonToken.NULL) {
+                    in.skipValue();
+                    continue;
+                }
+                in.beginArray();
+                while (in.hasNext()) {
+                    token.read(in, builder, true);
+                    builder.add(token.logprob, token.token, token.bytes(), 0, token.length(), token.hasTop);
+                }
+                in.endArray();
+            }
+            in.endObject();
+            return builder.build();
+        }
+    }
+
+    /**
+     * Reads a LogprobItem into a reusable byte buffer, its top_logprobs are added straight to the builder
+     */
+    static class TokenReader {
+        double logprob;
+        String token;
+        byte[] bytes = new byte[64];
+        int bytesLength;
+        boolean hasTop;
+        TokenReader topReader;
+
+        void read(JsonReader in, Builder builder, boolean readTop) throws IOException {
+            logprob = 0;
+            token = null;
+            bytesLength = -1;
+            hasTop = false;
+            in.beginObject();
+            while (in.hasNext()) {
+                var name = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (name) {
+                    case "token" -> token = in.nextString();
+                    case "logprob" -> logprob = in.nextDouble();
+                    case "bytes" -> {
+                        bytesLength = 0;
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            if (bytesLength == bytes.length)
+                                bytes = Arrays.copyOf(bytes, bytesLength * 2);
+                            bytes[bytesLength++] = (byte) in.nextInt();
+                        }
+                        in.endArray();
+                    }
+                    case "top_logprobs" -> {
+                        if (!readTop) {
+                            in.skipValue();
+                            break;
+                        }
+                        hasTop = true;
+                        if (topReader == null)
+                            topReader = new TokenReader();
+                        var top = topReader;
+                        in.beginArray();
+                        while (in.hasNext()) {
+                            top.read(in, builder, false);
+                            builder.addTop(top.logprob, top.token, top.bytes(), 0, top.length());
+                        }
+                        in.endArray();
+                    }
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+        }
+
+        /** null when the item didn't have bytes */
+        byte[] bytes() { return bytesLength >= 0 ? bytes : null; }
+        int length() { return Math.max(bytesLength, 0); }
+    }
+}
@@ -0,0 +1,237 @@
+package org.example;
+
+import net.servicestack.client.IGet;
+import net.servicestack.client.IReturn;
+import net.servicestack.client.ResponseStatus;
+import net.servicestack.client.WebServiceException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watches the progress of many background jobs from a single scheduler thread, each job is polled with
+ * AdminGetJobProgress using logStart so only the log text appended since its last poll is returned, e.g:
+ *
+ * <pre>
+ * var watcher = new JobProgressWatcher(client);
+ * for (var jobId : jobIds) {
+ *     watcher.watch(jobId, progress -&gt; ui.update(progress.id(), progress.state(), progress.progress(), progress.logs()))
+ *         .getCompleted().thenAccept(last -&gt; ui.done(last.id(), last.state()));
+ * }
+ * </pre>
+ *
+ * Events are only delivered when a job's state, progress, status or logs change. Jobs are polled at the interval
+ * configured for their BackgroundJobState, which backs off whilst a job is unchanged and resets when it changes.
+ */
+public class JobProgressWatcher implements AutoCloseable {
+
+    /**
+     * A change in a job's progress, logs only contains the text appended since the previous event
+     */
+    public record JobProgress(long id, String state, Double progress, String status, String logs, int logLength,
+                              Integer durationMs, ResponseStatus error) {
+        public boolean isFinished() {
+            return FinishedStates.contains(state);
+        }
+    }
+
+    static final Set<String> FinishedStates = Set.of("Completed", "Failed", "Cancelled");
+
+    // mirrors the generated AdminGetJobProgress DTOs, BackgroundJobState is deserialized as its name
+    static class AdminGetJobProgress implements IReturn<AdminGetJobProgressResponse>, IGet {
+        Long id;
+        Integer logStart;
+
+        public Object getResponseType() { return AdminGetJobProgressResponse.class; }
+    }
+
+    static class AdminGetJobProgressResponse {
+        String state;
+        Double progress;
+        String status;
+        String logs;
+        Integer durationMs;
+        ResponseStatus error;
+    }
+
+    /**
+     * A watched job, completed with its last progress when it finishes
+     */
+    public class Watch {
+        final long id;
+        final Consumer<JobProgress> onProgress;
+        final CompletableFuture<JobProgress> completed = new CompletableFuture<>();
+        JobProgress last;
+        int logStart;
+        long delayMs;
+        ScheduledFuture<?> scheduled;
+
+        Watch(long id, Consumer<JobProgress> onProgress) {
+            this.id = id;
+            this.onProgress = onProgress;
+        }
+
+        public long getId() { return id; }
+        public JobProgress getLast() { return last; }
+        public CompletableFuture<JobProgress> getCompleted() { return completed; }
+
+        public void cancel() {
+            remove(this);
+            completed.cancel(false);
+        }
+
+        void schedule(long delayMs) {
+            synchronized (this) {
+                if (completed.isDone())
+                    return;
+                this.delayMs = delayMs;
+                scheduled = scheduler.schedule(this::poll, delayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        void poll() {
+            var request = new AdminGetJobProgress();
+            request.id = id;
+            request.logStart = logStart > 0 ? logStart : null;
+            client.sendAsync(request).whenComplete((response, error) -> {
+                if (error != null) {
+                    onPollError(error instanceof CompletionException ? error.getCause() : error);
+                } else {
+                    onResponse(response);
+                }
+            });
+        }
+
+        void onResponse(AdminGetJobProgressResponse response) {
+            var logs = response.logs != null && !response.logs.isEmpty() ? response.logs : null;
+            if (logs != null)
+                logStart += logs.length();
+            var progress = new JobProgress(id, response.state, response.progress, response.status, logs, logStart,
+                response.durationMs, response.error);
+
+            var changed = last == null || logs != null
+                || !Objects.equals(last.state(), progress.state())
+                || !Objects.equals(last.progress(), progress.progress())
+                || !Objects.equals(last.status(), progress.status());
+            if (changed) {
+                last = progress;
+                notify(progress);
+            }
+
+            if (progress.isFinished()) {
+                remove(this);
+                completed.complete(last);
+                return;
+            }
+            var minDelayMs = getPollInterval(progress.state()).toMillis();
+            var nextDelayMs = changed
+                ? minDelayMs
+                : Math.min(Math.max(minDelayMs, (long) (delayMs * backoffFactor)), maxPollInterval.toMillis());
+            schedule(nextDelayMs);
+        }
+
+        void onPollError(Throwable error) {
+            if (error instanceof WebServiceException webEx && webEx.getStatusCode() == 404) {
+                remove(this);
+                completed.completeExceptionally(error);
+                return;
+            }
+            if (onError != null)
+                onError.accept(error);
+            schedule(Math.min(Math.max(delayMs * 2, 1000), maxPollInterval.toMillis()));
+        }
+
+        void notify(JobProgress progress) {
+            if (onProgress == null)
+                return;
+            try {
+                onProgress.accept(progress);
+            } catch (Throwable e) {
+                if (onError != null)
+                    onError.accept(e);
+            }
+        }
+    }
+
+    private final AsyncServiceClient client;
+    private final ConcurrentHashMap<Long, Watch> watches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().daemon().name("job-progress-watcher").factory());
+    private final HashMap<String, Duration> pollIntervals = new HashMap<>(Map.of(
+        "Queued", Duration.ofSeconds(2),
+        "Started", Duration.ofMillis(500),
+        "Executed", Duration.ofMillis(250)));
+    private Duration defaultPollInterval = Duration.ofSeconds(1);
+    private Duration maxPollInterval = Duration.ofSeconds(15);
+    private double backoffFactor = 1.5;
+    private Consumer<Throwable> onError;
+
+    public JobProgressWatcher(AsyncServiceClient client) {
+        this.client = client;
+    }
+
+    /**
+     * The interval jobs in a BackgroundJobState are polled at whilst they're changing
+     */
+    public synchronized Duration getPollInterval(String state) {
+        return state != null ? pollIntervals.getOrDefault(state, defaultPollInterval) : defaultPollInterval;
+    }
+    public synchronized JobProgressWatcher setPollInterval(String state, Duration value) { pollIntervals.put(state, value); return this; }
+    public Duration getDefaultPollInterval() { return defaultPollInterval; }
+    public JobProgressWatcher setDefaultPollInterval(Duration value) { this.defaultPollInterval = value; return this; }
+    public Duration getMaxPollInterval() { return maxPollInterval; }
+    public JobProgressWatcher setMaxPollInterval(Duration value) { this.maxPollInterval = value; return this; }
+    public double getBackoffFactor() { return backoffFactor; }
+    public JobProgressWatcher setBackoffFactor(double value) { this.backoffFactor = value; return this; }
+    /**
+     * Called with failed polls, which are retried, and exceptions thrown by progress callbacks
+     */
+    public Consumer<Throwable> getOnError() { return onError; }
+    public JobProgressWatcher setOnError(Consumer<Throwable> value) { this.onError = value; return this; }
+
+    public int getWatchCount() { return watches.size(); }
+
+    /**
+     * Starts watching a job, or returns its existing Watch if it's already being watched
+     */
+    public Watch watch(long jobId, Consumer<JobProgress> onProgress) {
+        var created = new Watch[1];
+        var watch = watches.computeIfAbsent(jobId, id -> created[0] = new Watch(id, onProgress));
+        if (watch == created[0])
+            watch.schedule(0);
+        return watch;
+    }
+
+    public void unwatch(long jobId) {
+        var watch = watches.get(jobId);
+        if (watch != null)
+            watch.cancel();
+    }
+
+    void remove(Watch watch) {
+        watches.remove(watch.id, watch);
+        synchronized (watch) {
+            if (watch.scheduled != null)
+                watch.scheduled.cancel(false);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (var watch : watches.values()) {
+            watch.cancel();
+        }
+        scheduler.shutdown();
+    }
+}
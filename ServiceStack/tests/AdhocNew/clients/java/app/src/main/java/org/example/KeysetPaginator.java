@@ -0,0 +1,286 @@
+package org.example;
+
+import net.servicestack.client.IReturn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pages through an AutoQuery QueryDb request by its monotonically increasing id, each page is queried with
+ * {@code IdAbove={last id}&orderBy=Id} so the server seeks straight to it instead of skipping all previous rows, e.g:
+ *
+ * <pre>
+ * var logs = KeysetPaginator.query(client, AdminQueryRequestLogs::new, QueryResponse::getResults, RequestLog::getId)
+ *     .setCheckpoint(KeysetPaginator.Checkpoint.file(Path.of("request-logs.checkpoint")))
+ *     .setPageSize(1000);
+ *
+ * try (var rows = logs.stream()) { rows.forEach(exporter::write); }
+ * </pre>
+ *
+ * The next page is fetched whilst the current page is consumed. The checkpoint is saved after each page has
+ * been consumed, so an export that's restarted resumes after the last completed page.
+ */
+public class KeysetPaginator<TResponse, T> {
+
+    @FunctionalInterface
+    public interface PageFetcher<TResponse> {
+        /**
+         * Fetches up to take rows with a key greater than afterKey, or from the first row when afterKey is null
+         */
+        TResponse fetch(Long afterKey, int take) throws Exception;
+    }
+
+    /**
+     * Persists the key of the last consumed row
+     */
+    public interface Checkpoint {
+        Long load() throws IOException;
+        void save(long key) throws IOException;
+
+        /**
+         * Stores the key in a text file, replaced atomically so it's never left partially written
+         */
+        static Checkpoint file(Path path) {
+            return new Checkpoint() {
+                @Override
+                public Long load() throws IOException {
+                    if (!Files.exists(path))
+                        return null;
+                    var text = Files.readString(path).trim();
+                    return text.isEmpty() ? null : Long.parseLong(text);
+                }
+
+                @Override
+                public void save(long key) throws IOException {
+                    var tmp = path.resolveSibling(path.getFileName() + ".tmp");
+                    Files.writeString(tmp, Long.toString(key));
+                    Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+            };
+        }
+    }
+
+    private final PageFetcher<TResponse> fetcher;
+    private final Function<TResponse, List<T>> resultsFn;
+    private final Function<T, Long> keyFn;
+    private Long afterKey;
+    private Checkpoint checkpoint;
+    private int pageSize = 100;
+    private Executor executor = task -> Thread.ofVirtual().start(task);
+
+    public KeysetPaginator(PageFetcher<TResponse> fetcher, Function<TResponse, List<T>> resultsFn, Function<T, Long> keyFn) {
+        this.fetcher = fetcher;
+        this.resultsFn = resultsFn;
+        this.keyFn = keyFn;
+    }
+
+    /**
+     * Pages through the AutoQuery requests created by newRequest ordered by their Id
+     */
+    public static <TResponse, T> KeysetPaginator<TResponse, T> query(AsyncServiceClient client,
+        Supplier<? extends IReturn<TResponse>> newRequest, Function<TResponse, List<T>> resultsFn, Function<T, Long> keyFn) {
+        return query(client, newRequest, "Id", resultsFn, keyFn);
+    }
+
+    public static <TResponse, T> KeysetPaginator<TResponse, T> query(AsyncServiceClient client,
+        Supplier<? extends IReturn<TResponse>> newRequest, String keyField, Function<TResponse, List<T>> resultsFn, Function<T, Long> keyFn) {
+        return new KeysetPaginator<>(queryFetcher(client, newRequest, keyField), resultsFn, keyFn);
+    }
+
+    /**
+     * Fetches pages of the AutoQuery requests created by newRequest with a keyField greater than afterKey
+     */
+    public static <TResponse> PageFetcher<TResponse> queryFetcher(AsyncServiceClient client,
+        Supplier<? extends IReturn<TResponse>> newRequest, String keyField) {
+        return (afterKey, take) -> {
+            var request = newRequest.get();
+            invokeSetter(request, "setTake", Integer.class, take);
+            invokeSetter(request, "setOrderBy", String.class, keyField);
+            var httpReq = client.createRequest(request).build();
+            if (afterKey != null) {
+                // AutoQuery's implicit {Field}Above convention is only read from the query string
+                var uri = httpReq.uri().toString();
+                httpReq = HttpRequest.newBuilder(httpReq, (name, value) -> true)
+                    .uri(URI.create(uri + (uri.contains("?") ? "&" : "?")
+                        + URLEncoder.encode(keyField + "Above", StandardCharsets.UTF_8) + "=" + afterKey))
+                    .build();
+            }
+            // wait interruptibly so a QueryTailer blocked on a slow request can still be closed
+            var future = client.<TResponse>sendAsync(httpReq, AsyncServiceClient.toType(request.getResponseType()));
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                throw e;
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        };
+    }
+
+    static void invokeSetter(Object request, String name, Class<?> type, Object value) {
+        try {
+            request.getClass().getMethod(name, type).invoke(request, value);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(request.getClass().getSimpleName() + " is not an AutoQuery request", e);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof RuntimeException runtimeEx ? runtimeEx : new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Only rows with a greater key are returned, overrides the checkpoint's key
+     */
+    public Long getAfterKey() { return afterKey; }
+    public KeysetPaginator<TResponse, T> setAfterKey(Long value) { this.afterKey = value; return this; }
+    public Checkpoint getCheckpoint() { return checkpoint; }
+    public KeysetPaginator<TResponse, T> setCheckpoint(Checkpoint value) { this.checkpoint = value; return this; }
+    public int getPageSize() { return pageSize; }
+    public KeysetPaginator<TResponse, T> setPageSize(int value) {
+        if (value <= 0)
+            throw new IllegalArgumentException("pageSize must be greater than 0");
+        this.pageSize = value;
+        return this;
+    }
+    public Executor getExecutor() { return executor; }
+    public KeysetPaginator<TResponse, T> setExecutor(Executor value) { this.executor = value; return this; }
+
+    /**
+     * Results of all pages in key order, the first page is fetched on the first read.
+     * Closing the stream cancels the page being prefetched.
+     */
+    public Stream<T> stream() {
+        var spliterator = new KeysetSpliterator();
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
+    }
+
+    public Spliterator<T> spliterator() {
+        return new KeysetSpliterator();
+    }
+
+    private List<T> fetchPage(Long afterKey) {
+        try {
+            var results = resultsFn.apply(fetcher.fetch(afterKey, pageSize));
+            return results != null ? results : List.of();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    class KeysetSpliterator implements Spliterator<T> {
+        Iterator<T> current;
+        Long currentLastKey;
+        CompletableFuture<List<T>> next;
+        boolean started;
+        boolean exhausted;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (current == null || !current.hasNext()) {
+                if (!nextPage())
+                    return false;
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        boolean nextPage() {
+            List<T> results;
+            if (!started) {
+                started = true;
+                var startKey = afterKey;
+                if (startKey == null && checkpoint != null) {
+                    try {
+                        startKey = checkpoint.load();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                results = fetchPage(startKey);
+            } else {
+                // the previous page has been consumed
+                saveCheckpoint();
+                if (next == null)
+                    return false;
+                try {
+                    results = next.join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof RuntimeException runtimeEx)
+                        throw runtimeEx;
+                    throw e;
+                } finally {
+                    next = null;
+                }
+            }
+
+            current = results.iterator();
+            currentLastKey = results.isEmpty() ? null : keyFn.apply(results.getLast());
+            // a short page is the last page
+            if (results.size() < pageSize || currentLastKey == null)
+                exhausted = true;
+            if (!exhausted) {
+                var after = currentLastKey;
+                next = CompletableFuture.supplyAsync(() -> fetchPage(after), executor);
+            }
+            return true;
+        }
+
+        void saveCheckpoint() {
+            if (checkpoint == null || currentLastKey == null)
+                return;
+            try {
+                checkpoint.save(currentLastKey);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            currentLastKey = null;
+        }
+
+        void cancel() {
+            exhausted = true;
+            if (next != null) {
+                next.cancel(false);
+                next = null;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
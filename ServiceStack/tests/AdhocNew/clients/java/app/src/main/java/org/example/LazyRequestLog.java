@@ -0,0 +1,394 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import net.servicestack.client.ResponseStatus;
+import net.servicestack.client.TimeSpan;
+import net.servicestack.client.WebServiceException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A RequestLog from a QueryResponse&lt;RequestLog&gt; whose small fields are decoded eagerly whilst its large
+ * request/response bodies and maps are kept as offsets into the UTF-8 response and only decoded on first access, e.g:
+ *
+ * <pre>
+ * var logs = LazyRequestLog.sendAsync(client, new AdminQueryRequestLogs().setTake(1000)).join();
+ * for (var log : logs.getResults()) {
+ *     dashboard.add(log.getOperationName(), log.getStatusCode(), log.getDateTime(), log.getRequestDuration());
+ * }
+ * </pre>
+ *
+ * Lazy fields aren't decoded until they're accessed but every log references the UTF-8 response of its whole page,
+ * so a single log keeps the entire page reachable. Call detach() on logs that outlive their page to copy their
+ * undecoded fields into a buffer of their own. Decoded values are cached, concurrent first access may decode a
+ * field more than once.
+ */
+public class LazyRequestLog {
+
+    /**
+     * A QueryResponse&lt;RequestLog&gt; with LazyRequestLog results
+     */
+    public static class QueryResponse {
+        Integer offset;
+        Integer total;
+        ArrayList<LazyRequestLog> results = new ArrayList<>();
+        HashMap<String, String> meta;
+        ResponseStatus responseStatus;
+
+        public Integer getOffset() { return offset; }
+        public Integer getTotal() { return total; }
+        public ArrayList<LazyRequestLog> getResults() { return results; }
+        public HashMap<String, String> getMeta() { return meta; }
+        public ResponseStatus getResponseStatus() { return responseStatus; }
+    }
+
+    static final Type StringMapType = new TypeToken<HashMap<String, String>>(){}.getType();
+
+    static final int Request = 0, RequestBody = 1, Response = 2, ResponseBody = 3, SessionBody = 4, ExceptionDataBody = 5,
+        Headers = 6, FormData = 7, Items = 8, ResponseHeaders = 9, Meta = 10, Error = 11;
+    static final int LazyFieldsCount = 12;
+
+    byte[] json;
+    final Gson gson;
+    // start and end offsets of each lazy field's JSON value, -1 if it wasn't returned
+    final int[] spans = new int[LazyFieldsCount * 2];
+    Object[] values;
+
+    Long id;
+    String traceId;
+    String operationName;
+    Date dateTime;
+    Integer statusCode;
+    String statusDescription;
+    String httpMethod;
+    String absoluteUri;
+    String pathInfo;
+    String userAuthId;
+    String sessionId;
+    String ipAddress;
+    String forwardedFor;
+    String referer;
+    String exceptionSource;
+    TimeSpan requestDuration;
+
+    LazyRequestLog(byte[] json, Gson gson) {
+        this.json = json;
+        this.gson = gson;
+        Arrays.fill(spans, -1);
+    }
+
+    public Long getId() { return id; }
+    public String getTraceId() { return traceId; }
+    public String getOperationName() { return operationName; }
+    public Date getDateTime() { return dateTime; }
+    public Integer getStatusCode() { return statusCode; }
+    public String getStatusDescription() { return statusDescription; }
+    public String getHttpMethod() { return httpMethod; }
+    public String getAbsoluteUri() { return absoluteUri; }
+    public String getPathInfo() { return pathInfo; }
+    public String getUserAuthId() { return userAuthId; }
+    public String getSessionId() { return sessionId; }
+    public String getIpAddress() { return ipAddress; }
+    public String getForwardedFor() { return forwardedFor; }
+    public String getReferer() { return referer; }
+    public String getExceptionSource() { return exceptionSource; }
+    public TimeSpan getRequestDuration() { return requestDuration; }
+
+    public String getRequest() { return lazyString(Request); }
+    public String getRequestBody() { return lazyString(RequestBody); }
+    public String getResponse() { return lazyString(Response); }
+    public String getResponseBody() { return lazyString(ResponseBody); }
+    public String getSessionBody() { return lazyString(SessionBody); }
+    public String getExceptionDataBody() { return lazyString(ExceptionDataBody); }
+    public HashMap<String, String> getHeaders() { return lazy(Headers, StringMapType); }
+    public HashMap<String, String> getFormData() { return lazy(FormData, StringMapType); }
+    public HashMap<String, String> getItems() { return lazy(Items, StringMapType); }
+    public HashMap<String, String> getResponseHeaders() { return lazy(ResponseHeaders, StringMapType); }
+    public HashMap<String, String> getMeta() { return lazy(Meta, StringMapType); }
+    public ResponseStatus getError() { return lazy(Error, ResponseStatus.class); }
+
+    /**
+     * Size in bytes of a lazy field's undecoded JSON value, without decoding it
+     */
+    public int getRequestBodyLength() { return spanLength(RequestBody); }
+    public int getResponseBodyLength() { return spanLength(ResponseBody); }
+
+    int spanLength(int field) {
+        var start = spans[field * 2];
+        return start >= 0 ? spans[field * 2 + 1] - start : 0;
+    }
+
+    String lazyString(int field) {
+        if (values != null && values[field] != null)
+            return (String) values[field];
+        var start = spans[field * 2];
+        if (start < 0)
+            return null;
+        var value = readString(json, start, spans[field * 2 + 1], gson);
+        cache(field, value);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T lazy(int field, Type type) {
+        if (values != null && values[field] != null)
+            return (T) values[field];
+        var start = spans[field * 2];
+        if (start < 0)
+            return null;
+        T value = fromJson(json, start, spans[field * 2 + 1], type, gson);
+        cache(field, value);
+        return value;
+    }
+
+    /**
+     * Copies the JSON of lazy fields that haven't been decoded yet into a buffer only this log references so it no
+     * longer keeps its page's response reachable, returns this. Must not be called concurrently with other methods.
+     */
+    public LazyRequestLog detach() {
+        var length = 0;
+        for (var field = 0; field < LazyFieldsCount; field++) {
+            if (!isDecoded(field))
+                length += spanLength(field);
+        }
+        var to = new byte[length];
+        var pos = 0;
+        for (var field = 0; field < LazyFieldsCount; field++) {
+            // decoded fields are read from values, their spans are only kept for their lengths
+            var start = spans[field * 2];
+            if (start < 0 || isDecoded(field))
+                continue;
+            var fieldLength = spanLength(field);
+            System.arraycopy(json, start, to, pos, fieldLength);
+            spans[field * 2] = pos;
+            spans[field * 2 + 1] = pos + fieldLength;
+            pos += fieldLength;
+        }
+        json = to;
+        return this;
+    }
+
+    boolean isDecoded(int field) {
+        return values != null && values[field] != null;
+    }
+
+    void cache(int field, Object value) {
+        var to = values;
+        if (to == null)
+            values = to = new Object[LazyFieldsCount];
+        to[field] = value;
+    }
+
+    /**
+     * Sends a QueryDb&lt;RequestLog&gt; request, e.g. AdminQueryRequestLogs, returning its LazyRequestLog results
+     */
+    public static CompletableFuture<QueryResponse> sendAsync(AsyncServiceClient client, Object request) {
+        var httpReq = client.createRequest(request).build();
+        return client.getHttpClient().sendAsync(httpReq, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(httpRes -> {
+                if (httpRes.statusCode() >= 300)
+                    throw new WebServiceException(httpRes.statusCode(), httpReq.method() + " " + httpReq.uri().getPath() + " failed",
+                        new String(httpRes.body(), StandardCharsets.UTF_8));
+                return parse(httpRes.body(), client.getGson());
+            });
+    }
+
+    /**
+     * Parses a UTF-8 QueryResponse&lt;RequestLog&gt;, gson is used to decode Dates, TimeSpans and lazy fields
+     */
+    public static QueryResponse parse(byte[] json, Gson gson) {
+        var to = new QueryResponse();
+        try {
+            readObject(json, skipWhitespace(json, 0), (name, start, end) -> {
+                switch (name) {
+                    case "offset" -> to.offset = readInteger(json, start, end);
+                    case "total" -> to.total = readInteger(json, start, end);
+                    case "meta" -> to.meta = fromJson(json, start, end, StringMapType, gson);
+                    case "responseStatus" -> to.responseStatus = fromJson(json, start, end, ResponseStatus.class, gson);
+                    case "results" -> readResults(json, start, to.results, gson);
+                }
+            }, gson);
+        } catch (IndexOutOfBoundsException e) {
+            throw new JsonSyntaxException("Unexpected end of QueryResponse<RequestLog>", e);
+        }
+        return to;
+    }
+
+    static void readResults(byte[] json, int i, ArrayList<LazyRequestLog> to, Gson gson) {
+        if (json[i] == 'n')
+            return;
+        i = skipWhitespace(json, expect(json, i, '['));
+        if (json[i] == ']')
+            return;
+        while (true) {
+            var log = new LazyRequestLog(json, gson);
+            i = skipWhitespace(json, readObject(json, i, log::read, gson));
+            to.add(log);
+            if (json[i] != ',')
+                break;
+            i = skipWhitespace(json, i + 1);
+        }
+        expect(json, i, ']');
+    }
+
+    @FunctionalInterface
+    interface MemberReader {
+        void read(String name, int start, int end);
+    }
+
+    /**
+     * Scans the JSON object starting at i, passing the span of each member's value, returns the end of the object
+     */
+    static int readObject(byte[] json, int i, MemberReader reader, Gson gson) {
+        i = skipWhitespace(json, expect(json, i, '{'));
+        if (json[i] != '}') {
+            while (true) {
+                var nameEnd = skipString(json, i);
+                var name = readString(json, i, nameEnd, gson);
+                var start = skipWhitespace(json, expect(json, skipWhitespace(json, nameEnd), ':'));
+                var end = skipValue(json, start);
+                reader.read(name, start, end);
+                i = skipWhitespace(json, end);
+                if (json[i] != ',')
+                    break;
+                i = skipWhitespace(json, i + 1);
+            }
+        }
+        return expect(json, i, '}');
+    }
+
+    void read(String name, int start, int end) {
+        switch (name) {
+            case "id" -> id = readLong(json, start, end);
+            case "traceId" -> traceId = readString(json, start, end, gson);
+            case "operationName" -> operationName = readString(json, start, end, gson);
+            case "dateTime" -> dateTime = fromJson(json, start, end, Date.class, gson);
+            case "statusCode" -> statusCode = readInteger(json, start, end);
+            case "statusDescription" -> statusDescription = readString(json, start, end, gson);
+            case "httpMethod" -> httpMethod = readString(json, start, end, gson);
+            case "absoluteUri" -> absoluteUri = readString(json, start, end, gson);
+            case "pathInfo" -> pathInfo = readString(json, start, end, gson);
+            case "userAuthId" -> userAuthId = readString(json, start, end, gson);
+            case "sessionId" -> sessionId = readString(json, start, end, gson);
+            case "ipAddress" -> ipAddress = readString(json, start, end, gson);
+            case "forwardedFor" -> forwardedFor = readString(json, start, end, gson);
+            case "referer" -> referer = readString(json, start, end, gson);
+            case "exceptionSource" -> exceptionSource = readString(json, start, end, gson);
+            case "requestDuration" -> requestDuration = fromJson(json, start, end, TimeSpan.class, gson);
+            case "request" -> span(Request, start, end);
+            case "requestBody" -> span(RequestBody, start, end);
+            case "response" -> span(Response, start, end);
+            case "responseBody" -> span(ResponseBody, start, end);
+            case "sessionBody" -> span(SessionBody, start, end);
+            case "exceptionDataBody" -> span(ExceptionDataBody, start, end);
+            case "headers" -> span(Headers, start, end);
+            case "formData" -> span(FormData, start, end);
+            case "items" -> span(Items, start, end);
+            case "responseHeaders" -> span(ResponseHeaders, start, end);
+            case "meta" -> span(Meta, start, end);
+            case "error" -> span(Error, start, end);
+        }
+    }
+
+    void span(int field, int start, int end) {
+        if (json[start] == 'n') // null
+            return;
+        spans[field * 2] = start;
+        spans[field * 2 + 1] = end;
+    }
+
+    static int expect(byte[] json, int i, char c) {
+        if (json[i] != c)
+            throw new JsonSyntaxException("Expected '" + c + "' at " + i + " but was '" + (char) json[i] + "'");
+        return i + 1;
+    }
+
+    static boolean isWhitespace(byte c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    static int skipWhitespace(byte[] json, int i) {
+        while (i < json.length && isWhitespace(json[i])) i++;
+        return i;
+    }
+
+    static int skipString(byte[] json, int i) {
+        i = expect(json, i, '"');
+        while (true) {
+            var c = json[i];
+            if (c == '\\') i += 2;
+            else if (c == '"') return i + 1;
+            else i++;
+        }
+    }
+
+    /**
+     * Returns the end of the JSON value starting at i without decoding it
+     */
+    static int skipValue(byte[] json, int i) {
+        var c = json[i];
+        if (c == '"')
+            return skipString(json, i);
+        if (c == '{' || c == '[') {
+            var depth = 0;
+            while (true) {
+                c = json[i];
+                if (c == '"') {
+                    i = skipString(json, i);
+                    continue;
+                }
+                if (c == '{' || c == '[') depth++;
+                else if (c == '}' || c == ']') {
+                    if (--depth == 0) return i + 1;
+                }
+                i++;
+            }
+        }
+        while (i < json.length && json[i] != ',' && json[i] != '}' && json[i] != ']' && !isWhitespace(json[i])) i++;
+        return i;
+    }
+
+    static String readString(byte[] json, int start, int end, Gson gson) {
+        if (json[start] == 'n')
+            return null;
+        if (json[start] != '"')
+            return new String(json, start, end - start, StandardCharsets.UTF_8);
+        for (var i = start + 1; i < end - 1; i++) {
+            if (json[i] == '\\')
+                return fromJson(json, start, end, String.class, gson);
+        }
+        return new String(json, start + 1, end - start - 2, StandardCharsets.UTF_8);
+    }
+
+    static Long readLong(byte[] json, int start, int end) {
+        if (json[start] == 'n')
+            return null;
+        if (json[start] == '"')
+            return Long.parseLong(new String(json, start + 1, end - start - 2, StandardCharsets.US_ASCII));
+        return Long.parseLong(new String(json, start, end - start, StandardCharsets.US_ASCII));
+    }
+
+    static Integer readInteger(byte[] json, int start, int end) {
+        var value = readLong(json, start, end);
+        return value != null ? Math.toIntExact(value) : null;
+    }
+
+    static <T> T fromJson(byte[] json, int start, int end, Type type, Gson gson) {
+        if (json[start] == 'n')
+            return null;
+        var reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(json, start, end - start), StandardCharsets.UTF_8));
+        return gson.fromJson(reader, type);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example;
+
+import com.google.gson.reflect.TypeToken;
+import net.servicestack.client.ResponseStatus;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Selects the columns an AutoQuery QueryDb&lt;T&gt; request returns from getter method references, so only
+ * the fields that are read are serialized by the server and deserialized by the client, e.g:
+ *
+ * <pre>
+ * var projection = Projection.of(RequestLog.class, RequestLog::getId, RequestLog::getStatusCode, RequestLog::getRequestDuration);
+ * var page = projection.sendAsync(client, new AdminQueryRequestLogs().setTake(1000)).join();
+ * for (var log : page.getResults()) {
+ *     histogram.add(log.getStatusCode(), log.getRequestDuration());
+ * }
+ * </pre>
+ *
+ * Getters outside the projection return their default values. Method references are resolved to their
+ * fields once when the Projection is created, which can then be shared and reused for every request.
+ */
+public class Projection<T> {
+
+    /**
+     * A getter or record accessor method reference, e.g. RequestLog::getStatusCode
+     */
+    @FunctionalInterface
+    public interface Column<T, V> extends Function<T, V>, Serializable {}
+
+    /**
+     * A QueryResponse&lt;T&gt; containing only the projected columns of each result
+     */
+    public static class Results<T> {
+        Integer offset;
+        Integer total;
+        ArrayList<T> results = new ArrayList<>();
+        HashMap<String, String> meta;
+        ResponseStatus responseStatus;
+
+        public Integer getOffset() { return offset; }
+        public Integer getTotal() { return total; }
+        public ArrayList<T> getResults() { return results; }
+        public HashMap<String, String> getMeta() { return meta; }
+        public ResponseStatus getResponseStatus() { return responseStatus; }
+    }
+
+    private final Class<T> type;
+    private final LinkedHashMap<String, Field> columns = new LinkedHashMap<>();
+    private final String fields;
+    private final Type resultsType;
+
+    Projection(Class<T> type, List<? extends Column<T, ?>> columns) {
+        if (columns.isEmpty())
+            throw new IllegalArgumentException("A projection requires at least one column");
+        this.type = type;
+        for (var column : columns) {
+            var field = resolveField(type, column);
+            this.columns.putIfAbsent(field.getName(), field);
+        }
+        this.fields = String.join(",", this.columns.values().stream().map(Projection::getColumnName).toList());
+        this.resultsType = TypeToken.getParameterized(Results.class, type).getType();
+    }
+
+    @SafeVarargs
+    public static <T> Projection<T> of(Class<T> type, Column<T, ?>... columns) {
+        return new Projection<>(type, List.of(columns));
+    }
+
+    public Class<T> getType() { return type; }
+
+    /**
+     * The comma-delimited column names assigned to QueryBase.fields
+     */
+    public String getFields() { return fields; }
+
+    public List<String> getFieldNames() { return List.copyOf(columns.keySet()); }
+
+    public boolean includes(Column<T, ?> column) {
+        return columns.containsKey(resolveField(type, column).getName());
+    }
+
+    /**
+     * Assigns the projected columns to the QueryBase.fields of an AutoQuery request
+     */
+    public <R> R applyTo(R request) {
+        try {
+            request.getClass().getMethod("setFields", String.class).invoke(request, fields);
+            return request;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(request.getClass().getSimpleName() + " is not an AutoQuery request", e);
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof RuntimeException runtimeEx ? runtimeEx : new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sends the AutoQuery request with the projected fields
+     */
+    public CompletableFuture<Results<T>> sendAsync(AsyncServiceClient client, Object request) {
+        return client.sendAsync(client.createRequest(applyTo(request)).build(), resultsType);
+    }
+
+    public Results<T> send(AsyncServiceClient client, Object request) {
+        return AsyncServiceClient.await(sendAsync(client, request));
+    }
+
+    /**
+     * Fields are matched against the C# property names, not their serialized [DataMember] names, so the
+     * Java field generated for each property is used in its PascalCase form, e.g. statusCode -&gt; StatusCode
+     */
+    static String getColumnName(Field field) {
+        var name = field.getName();
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    static Field resolveField(Class<?> type, Column<?, ?> column) {
+        var methodName = getImplMethodName(column);
+        var fieldName = toFieldName(methodName);
+        for (var t = type; t != null && t != Object.class; t = t.getSuperclass()) {
+            for (var candidate : new String[]{ fieldName, methodName }) {
+                try {
+                    return t.getDeclaredField(candidate);
+                } catch (NoSuchFieldException ignore) {}
+            }
+        }
+        throw new IllegalArgumentException(type.getSimpleName() + "::" + methodName + " is not a getter of a " + type.getSimpleName() + " field");
+    }
+
+    static String getImplMethodName(Column<?, ?> column) {
+        SerializedLambda lambda;
+        try {
+            var writeReplace = column.getClass().getDeclaredMethod("writeReplace");
+            writeReplace.setAccessible(true);
+            lambda = (SerializedLambda) writeReplace.invoke(column);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Columns must be method references, e.g. RequestLog::getStatusCode", e);
+        }
+        var methodName = lambda.getImplMethodName();
+        if (methodName.startsWith("lambda$"))
+            throw new IllegalArgumentException("Columns must be method references, e.g. RequestLog::getStatusCode");
+        return methodName;
+    }
+
+    static String toFieldName(String methodName) {
+        var prefix = methodName.startsWith("get") ? 3 : methodName.startsWith("is") ? 2 : 0;
+        if (prefix == 0 || methodName.length() == prefix)
+            return methodName;
+        return Character.toLowerCase(methodName.charAt(prefix)) + methodName.substring(prefix + 1);
+    }
+}
@@ -0,0 +1,209 @@
+package org.example;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pages through an AutoQuery QueryDb request. Once the first page returns the total, the remaining pages
+ * are fetched concurrently within a bounded window and their results streamed back in order, e.g:
+ *
+ * <pre>
+ * var logs = new QueryPaginator&lt;QueryResponse&lt;RequestLog&gt;, RequestLog&gt;(
+ *     (skip, take) -&gt; {
+ *         var request = new AdminQueryRequestLogs();
+ *         request.setSkip(skip).setTake(take).setOrderBy("Id").setInclude("Total");
+ *         return client.send(request);
+ *     },
+ *     QueryResponse::getResults,
+ *     QueryResponse::getTotal)
+ *     .setPageSize(1000)
+ *     .setConcurrency(8);
+ *
+ * try (var rows = logs.stream()) { rows.forEach(exporter::write); }
+ * </pre>
+ *
+ * The total is only returned when the request includes "Total" and pages are only stable with an OrderBy.
+ * Without a total, pages are fetched one ahead until a page returns fewer than pageSize results.
+ */
+public class QueryPaginator<TResponse, T> {
+
+    @FunctionalInterface
+    public interface PageFetcher<TResponse> {
+        TResponse fetch(int skip, int take) throws Exception;
+    }
+
+    private final PageFetcher<TResponse> fetcher;
+    private final Function<TResponse, List<T>> resultsFn;
+    private final Function<TResponse, Integer> totalFn;
+    private int offset = 0;
+    private Integer limit;
+    private int pageSize = 100;
+    private int concurrency = 4;
+    private Executor executor = task -> Thread.ofVirtual().start(task);
+
+    public QueryPaginator(PageFetcher<TResponse> fetcher, Function<TResponse, List<T>> resultsFn, Function<TResponse, Integer> totalFn) {
+        this.fetcher = fetcher;
+        this.resultsFn = resultsFn;
+        this.totalFn = totalFn;
+    }
+
+    public int getOffset() { return offset; }
+    public QueryPaginator<TResponse, T> setOffset(int value) { this.offset = value; return this; }
+    public Integer getLimit() { return limit; }
+    public QueryPaginator<TResponse, T> setLimit(Integer value) { this.limit = value; return this; }
+    public int getPageSize() { return pageSize; }
+    public QueryPaginator<TResponse, T> setPageSize(int value) { this.pageSize = requirePositive(value, "pageSize"); return this; }
+    public int getConcurrency() { return concurrency; }
+    public QueryPaginator<TResponse, T> setConcurrency(int value) { this.concurrency = requirePositive(value, "concurrency"); return this; }
+    public Executor getExecutor() { return executor; }
+    public QueryPaginator<TResponse, T> setExecutor(Executor value) { this.executor = value; return this; }
+
+    /**
+     * Results of all pages in order, the first page is fetched on the first read.
+     * Closing the stream cancels any pages still in flight.
+     */
+    public Stream<T> stream() {
+        var spliterator = new PageSpliterator();
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
+    }
+
+    public Spliterator<T> spliterator() {
+        return new PageSpliterator();
+    }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0)
+            throw new IllegalArgumentException(name + " must be greater than 0");
+        return value;
+    }
+
+    private List<T> fetchPage(int skip, int take) {
+        try {
+            var results = resultsFn.apply(fetcher.fetch(skip, take));
+            return results != null ? results : List.of();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    record PendingPage<T>(int take, CompletableFuture<List<T>> results) {}
+
+    class PageSpliterator implements Spliterator<T> {
+        final ArrayDeque<PendingPage<T>> window = new ArrayDeque<>();
+        Iterator<T> current;
+        boolean started;
+        boolean exhausted;
+        int nextSkip = offset;
+        int end = limit != null ? offset + limit : Integer.MAX_VALUE;
+        Integer total;
+        long remaining = Long.MAX_VALUE;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (current == null || !current.hasNext()) {
+                if (!nextPage())
+                    return false;
+            }
+            action.accept(current.next());
+            if (remaining != Long.MAX_VALUE)
+                remaining--;
+            return true;
+        }
+
+        boolean nextPage() {
+            if (!started) {
+                started = true;
+                var take = Math.min(pageSize, end - nextSkip);
+                if (take <= 0)
+                    return false;
+                TResponse first;
+                try {
+                    first = fetcher.fetch(nextSkip, take);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+                nextSkip += take;
+                total = totalFn.apply(first);
+                if (total != null) {
+                    end = Math.min(end, total);
+                    remaining = Math.max(0, end - offset);
+                }
+                var results = resultsFn.apply(first);
+                onPage(results != null ? results : List.of(), take);
+                return true;
+            }
+
+            var next = window.poll();
+            if (next == null)
+                return false;
+            List<T> results;
+            try {
+                results = next.results().join();
+            } catch (CompletionException e) {
+                cancel();
+                if (e.getCause() instanceof RuntimeException runtimeEx)
+                    throw runtimeEx;
+                throw e;
+            }
+            onPage(results, next.take());
+            return true;
+        }
+
+        void onPage(List<T> results, int take) {
+            current = results.iterator();
+            // without a total, a short page is the last page
+            if (results.isEmpty() || (total == null && results.size() < take))
+                exhausted = true;
+            fill();
+        }
+
+        /**
+         * Keeps up to concurrency pages in flight, or a single page ahead when the total is unknown
+         */
+        void fill() {
+            var maxInFlight = total != null ? concurrency : 1;
+            while (!exhausted && window.size() < maxInFlight && nextSkip < end) {
+                var skip = nextSkip;
+                var take = Math.min(pageSize, end - skip);
+                nextSkip += take;
+                window.add(new PendingPage<>(take, CompletableFuture.supplyAsync(() -> fetchPage(skip, take), executor)));
+            }
+        }
+
+        void cancel() {
+            exhausted = true;
+            PendingPage<T> pending;
+            while ((pending = window.poll()) != null) {
+                pending.results().cancel(false);
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.example;
+
+import net.servicestack.client.IReturn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Follows an append-only AutoQuery table like AdminQueryRequestLogs, only fetching rows with an id greater than
+ * the last row fetched and publishing them to a bounded queue, e.g:
+ *
+ * <pre>
+ * try (var tailer = QueryTailer.query(client, AdminQueryRequestLogs::new, QueryResponse::getResults, RequestLog::getId)
+ *         .setCheckpoint(KeysetPaginator.Checkpoint.file(Path.of("request-logs.checkpoint")))
+ *         .start()) {
+ *     while (running) {
+ *         pipeline.publish(tailer.take());
+ *     }
+ * }
+ * </pre>
+ *
+ * Fetching blocks whilst the queue is full, so a slow consumer pauses polling instead of buffering without bound.
+ * Pages are fetched back to back until a short page is returned, after which the server is polled every pollInterval.
+ * The checkpoint stores the id of the last row taken from the queue, rows still queued when the tailer is stopped
+ * are fetched again after it's restarted. Closing the tailer wakes consumers waiting for rows, take(), poll() and
+ * drainTo() throw an IllegalStateException once it's closed.
+ */
+public class QueryTailer<TResponse, T> implements AutoCloseable {
+    private final KeysetPaginator.PageFetcher<TResponse> fetcher;
+    private final Function<TResponse, List<T>> resultsFn;
+    private final Function<T, Long> keyFn;
+    // queued after the rows are cleared on close to wake consumers blocked in take() or poll()
+    private static final Object Closed = new Object();
+
+    private final Object checkpointLock = new Object();
+    private BlockingQueue<Object> queue;
+    private Long afterKey;
+    private KeysetPaginator.Checkpoint checkpoint;
+    private Duration pollInterval = Duration.ofSeconds(5);
+    private int pageSize = 1000;
+    private int queueCapacity = 10_000;
+    private Consumer<Exception> onError;
+    private volatile Exception lastError;
+    private volatile Long lastTakenKey;
+    private Long savedKey;
+    private Thread poller;
+    private volatile boolean closed;
+
+    public QueryTailer(KeysetPaginator.PageFetcher<TResponse> fetcher, Function<TResponse, List<T>> resultsFn, Function<T, Long> keyFn) {
+        this.fetcher = fetcher;
+        this.resultsFn = resultsFn;
+        this.keyFn = keyFn;
+    }
+
+    /**
+     * Tails the AutoQuery requests created by newRequest ordered by their Id
+     */
+    public static <TResponse, T> QueryTailer<TResponse, T> query(AsyncServiceClient client,
+        Supplier<? extends IReturn<TResponse>> newRequest, Function<TResponse, List<T>> resultsFn, Function<T, Long> keyFn) {
+        return new QueryTailer<>(KeysetPaginator.queryFetcher(client, newRequest, "Id"), resultsFn, keyFn);
+    }
+
+    /**
+     * Only rows with a greater key are fetched, overrides the checkpoint's key
+     */
+    public Long getAfterKey() { return afterKey; }
+    public QueryTailer<TResponse, T> setAfterKey(Long value) { this.afterKey = value; return this; }
+    public KeysetPaginator.Checkpoint getCheckpoint() { return checkpoint; }
+    public QueryTailer<TResponse, T> setCheckpoint(KeysetPaginator.Checkpoint value) { this.checkpoint = value; return this; }
+    public Duration getPollInterval() { return pollInterval; }
+    public QueryTailer<TResponse, T> setPollInterval(Duration value) { this.pollInterval = value; return this; }
+    public int getPageSize() { return pageSize; }
+    public QueryTailer<TResponse, T> setPageSize(int value) { this.pageSize = requirePositive(value, "pageSize"); return this; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public QueryTailer<TResponse, T> setQueueCapacity(int value) { this.queueCapacity = requirePositive(value, "queueCapacity"); return this; }
+    /**
+     * Called with failed fetches, which are retried after pollInterval
+     */
+    public Consumer<Exception> getOnError() { return onError; }
+    public QueryTailer<TResponse, T> setOnError(Consumer<Exception> value) { this.onError = value; return this; }
+    public Exception getLastError() { return lastError; }
+
+    /**
+     * Id of the last row taken from the queue
+     */
+    public Long getLastTakenKey() { return lastTakenKey; }
+
+    /**
+     * Number of fetched rows waiting to be taken
+     */
+    public int getQueued() { return queue != null && !closed ? queue.size() : 0; }
+
+    private static int requirePositive(int value, String name) {
+        if (value <= 0)
+            throw new IllegalArgumentException(name + " must be greater than 0");
+        return value;
+    }
+
+    public synchronized QueryTailer<TResponse, T> start() {
+        if (closed)
+            throw new IllegalStateException("QueryTailer has been closed");
+        if (poller != null)
+            throw new IllegalStateException("QueryTailer has already been started");
+        var startKey = afterKey;
+        if (startKey == null && checkpoint != null) {
+            try {
+                startKey = checkpoint.load();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        lastTakenKey = savedKey = startKey;
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        var fromKey = startKey;
+        poller = Thread.ofVirtual().name("query-tailer").start(() -> tail(fromKey));
+        return this;
+    }
+
+    void tail(Long fetchedKey) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                var results = resultsFn.apply(fetcher.fetch(fetchedKey, pageSize));
+                if (results == null)
+                    results = List.of();
+                for (var row : results) {
+                    queue.put(row);
+                    fetchedKey = keyFn.apply(row);
+                }
+                lastError = null;
+                saveCheckpoint();
+                // caught up, wait for new rows
+                if (results.size() < pageSize)
+                    Thread.sleep(pollInterval);
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                lastError = e;
+                if (onError != null)
+                    onError.accept(e);
+                try {
+                    Thread.sleep(pollInterval);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the next row
+     */
+    public T take() throws InterruptedException {
+        return taken(queue().take());
+    }
+
+    /**
+     * Waits up to timeout for the next row, returns null if none were fetched in time
+     */
+    public T poll(Duration timeout) throws InterruptedException {
+        return taken(queue().poll(timeout.toNanos(), TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Takes up to maxRows queued rows without waiting, returns the number of rows added
+     */
+    public int drainTo(Collection<? super T> to, int maxRows) {
+        var batch = new ArrayList<Object>(Math.min(maxRows, queueCapacity));
+        queue().drainTo(batch, maxRows);
+        for (var row : batch) {
+            to.add(taken(row));
+        }
+        return batch.size();
+    }
+
+    private BlockingQueue<Object> queue() {
+        if (queue == null)
+            throw new IllegalStateException("QueryTailer has not been started");
+        if (closed)
+            throw new IllegalStateException("QueryTailer has been closed");
+        return queue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T taken(Object row) {
+        if (row == Closed) {
+            // leave it queued for other waiting consumers
+            queue.offer(Closed);
+            throw new IllegalStateException("QueryTailer has been closed");
+        }
+        if (row != null)
+            lastTakenKey = keyFn.apply((T) row);
+        return (T) row;
+    }
+
+    /**
+     * Saves the id of the last row taken if it changed since it was last saved
+     */
+    public void saveCheckpoint() throws IOException {
+        if (checkpoint == null)
+            return;
+        synchronized (checkpointLock) {
+            var key = lastTakenKey;
+            if (key == null || key.equals(savedKey))
+                return;
+            checkpoint.save(key);
+            savedKey = key;
+        }
+    }
+
+    /**
+     * Stops polling, wakes consumers waiting for rows and saves the checkpoint. An in-flight fetch is interrupted
+     * so custom PageFetchers should wait interruptibly, e.g. with CompletableFuture.get() instead of join()
+     */
+    @Override
+    public void close() throws IOException {
+        Thread thread;
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            thread = poller;
+        }
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // rows that weren't taken are fetched again after a restart
+            queue.clear();
+            queue.offer(Closed);
+        }
+        saveCheckpoint();
+    }
+}
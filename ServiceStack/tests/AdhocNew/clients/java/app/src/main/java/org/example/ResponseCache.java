@@ -0,0 +1,167 @@
+package org.example;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size-bounded LRU cache of GET responses used by AsyncServiceClient, responses are cached for their
+ * Cache-Control max-age and revalidated with If-None-Match when they have an ETag, e.g:
+ *
+ * <pre>
+ * var client = new AsyncServiceClient("https://localhost:5001")
+ *     .setResponseCache(new ResponseCache().setMaxEntries(1000).setMaxChars(32 * 1024 * 1024));
+ * </pre>
+ *
+ * Entries are keyed by the request URL, which includes the serialized GET Request DTO, and all its request headers,
+ * so responses that Vary on request headers are cached separately for each of their values.
+ * Responses with Cache-Control no-store, Vary: *, or without a max-age or ETag aren't cached.
+ */
+public class ResponseCache {
+
+    /**
+     * A cached response body, fresh until expiresAt (System.nanoTime())
+     */
+    public record Entry(String body, String eTag, long expiresAt) {
+        public boolean isFresh(long now) {
+            return now - expiresAt < 0;
+        }
+
+        Entry withExpiresAt(long value) {
+            return new Entry(body, eTag, value);
+        }
+    }
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private int maxEntries = 1000;
+    private long maxChars = 16 * 1024 * 1024;
+    private Duration defaultMaxAge = Duration.ZERO;
+    private long chars;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidated = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public synchronized int getMaxEntries() { return maxEntries; }
+    public synchronized ResponseCache setMaxEntries(int value) { this.maxEntries = value; evict(); return this; }
+    /**
+     * Maximum total length of cached response bodies in chars
+     */
+    public synchronized long getMaxChars() { return maxChars; }
+    public synchronized ResponseCache setMaxChars(long value) { this.maxChars = value; evict(); return this; }
+    /**
+     * How long responses without a max-age are cached for, by default they're revalidated on every request
+     */
+    public Duration getDefaultMaxAge() { return defaultMaxAge; }
+    public ResponseCache setDefaultMaxAge(Duration value) { this.defaultMaxAge = value; return this; }
+
+    /** Responses returned from the cache without a request */
+    public long getHits() { return hits.sum(); }
+    /** Responses returned from the cache after a 304 Not Modified */
+    public long getRevalidated() { return revalidated.sum(); }
+    public long getMisses() { return misses.sum(); }
+
+    public synchronized int size() { return entries.size(); }
+
+    public synchronized void clear() {
+        entries.clear();
+        chars = 0;
+    }
+
+    public synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public synchronized void remove(String key) {
+        var removed = entries.remove(key);
+        if (removed != null)
+            chars -= removed.body().length();
+    }
+
+    /**
+     * Caches a 200 response if its Cache-Control allows it
+     */
+    public void put(String key, String body, HttpHeaders headers) {
+        var cacheControl = CacheControl.parse(headers.firstValue("Cache-Control").orElse(null));
+        var eTag = headers.firstValue("ETag").orElse(null);
+        var maxAge = cacheControl.maxAge() != null ? cacheControl.maxAge() : defaultMaxAge;
+        if (cacheControl.noStore() || body == null || variesOnAll(headers)
+            || (eTag == null && (maxAge.isZero() || cacheControl.noCache()))) {
+            remove(key);
+            return;
+        }
+        var expiresAt = System.nanoTime() + (cacheControl.noCache() ? 0 : maxAge.toNanos());
+        synchronized (this) {
+            var previous = entries.put(key, new Entry(body, eTag, expiresAt));
+            if (previous != null)
+                chars -= previous.body().length();
+            chars += body.length();
+            evict();
+        }
+    }
+
+    /**
+     * Vary: * responses can depend on more than the request, e.g. the client's address
+     */
+    static boolean variesOnAll(HttpHeaders headers) {
+        for (var vary : headers.allValues("Vary")) {
+            for (var name : vary.split(",")) {
+                if (name.trim().equals("*"))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extends the freshness of an entry after a 304 Not Modified response
+     */
+    public synchronized Entry revalidate(String key, Entry entry, HttpHeaders headers) {
+        var cacheControl = CacheControl.parse(headers.firstValue("Cache-Control").orElse(null));
+        var maxAge = cacheControl.maxAge() != null ? cacheControl.maxAge() : defaultMaxAge;
+        var to = entry.withExpiresAt(System.nanoTime() + (cacheControl.noCache() ? 0 : maxAge.toNanos()));
+        if (entries.replace(key, entry, to))
+            return to;
+        return entry;
+    }
+
+    void onHit() { hits.increment(); }
+    void onRevalidated() { revalidated.increment(); }
+    void onMiss() { misses.increment(); }
+
+    private void evict() {
+        var it = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || chars > maxChars) && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            chars -= eldest.getValue().body().length();
+            it.remove();
+        }
+    }
+
+    record CacheControl(Duration maxAge, boolean noCache, boolean noStore) {
+        static final CacheControl Empty = new CacheControl(null, false, false);
+
+        static CacheControl parse(String value) {
+            if (value == null || value.isBlank())
+                return Empty;
+            Duration maxAge = null;
+            var noCache = false;
+            var noStore = false;
+            for (var directive : value.split(",")) {
+                directive = directive.trim().toLowerCase(Locale.ROOT);
+                if (directive.equals("no-store")) {
+                    noStore = true;
+                } else if (directive.equals("no-cache")) {
+                    noCache = true;
+                } else if (directive.startsWith("max-age=")) {
+                    try {
+                        maxAge = Duration.ofSeconds(Math.max(0, Long.parseLong(directive.substring("max-age=".length()).replace("\"", ""))));
+                    } catch (NumberFormatException ignore) {}
+                }
+            }
+            return new CacheControl(maxAge, noCache, noStore);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.example;
+
+import com.google.gson.Gson;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Runs the tool calls of a ChatResponse concurrently on virtual threads with handlers registered by
+ * ToolFunction name, returning the tool messages to send in the next ChatCompletion, e.g:
+ *
+ * <pre>
+ * var tools = new ToolDispatcher(client.getGson())
+ *     .register("get_weather", args -&gt; weather.lookup(args))
+ *     .register("search_docs", Duration.ofSeconds(5), args -&gt; search.query(args));
+ *
+ * var response = client.send(request);
+ * while (ToolDispatcher.hasToolCalls(response)) {
+ *     response = client.send(tools.addToolResults(request, response));
+ * }
+ * </pre>
+ *
+ * Tool messages are returned in the same order as their tool calls. Unknown tools, exceptions and timeouts are
+ * returned to the model as the tool's result so it can recover, a timed out handler's thread is interrupted.
+ */
+public class ToolDispatcher {
+
+    /**
+     * Executes a tool call with its JSON arguments, Strings are returned as-is and other results as JSON
+     */
+    @FunctionalInterface
+    public interface ToolHandler {
+        Object execute(String arguments) throws Exception;
+    }
+
+    record Registration(ToolHandler handler, Duration timeout) {}
+
+    private final Gson gson;
+    private final ConcurrentHashMap<String, Registration> tools = new ConcurrentHashMap<>();
+    private Duration defaultTimeout = Duration.ofSeconds(60);
+    private Consumer<Throwable> onError;
+
+    public ToolDispatcher(Gson gson) {
+        this.gson = gson;
+    }
+
+    public Duration getDefaultTimeout() { return defaultTimeout; }
+    public ToolDispatcher setDefaultTimeout(Duration value) { this.defaultTimeout = value; return this; }
+    /**
+     * Called with exceptions thrown by tool handlers and tools that time out
+     */
+    public Consumer<Throwable> getOnError() { return onError; }
+    public ToolDispatcher setOnError(Consumer<Throwable> value) { this.onError = value; return this; }
+
+    public ToolDispatcher register(String name, ToolHandler handler) {
+        return register(name, null, handler);
+    }
+
+    public ToolDispatcher register(String name, Duration timeout, ToolHandler handler) {
+        tools.put(name, new Registration(handler, timeout));
+        return this;
+    }
+
+    public boolean isRegistered(String name) {
+        return tools.containsKey(name);
+    }
+
+    public static boolean hasToolCalls(dtos.ChatResponse response) {
+        var message = getMessage(response);
+        return message != null && message.toolCalls != null && !message.toolCalls.isEmpty();
+    }
+
+    static dtos.ChoiceMessage getMessage(dtos.ChatResponse response) {
+        return response != null && response.choices != null && !response.choices.isEmpty()
+            ? response.choices.get(0).message
+            : null;
+    }
+
+    /**
+     * Executes all tool calls concurrently, completing with a tool message for each call when they've all finished
+     */
+    public CompletableFuture<List<dtos.AiMessage>> executeAsync(List<dtos.ToolCall> toolCalls) {
+        var futures = new ArrayList<CompletableFuture<dtos.AiMessage>>(toolCalls.size());
+        for (var toolCall : toolCalls) {
+            futures.add(executeAsync(toolCall));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+            .thenApply(ignore -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    public List<dtos.AiMessage> execute(List<dtos.ToolCall> toolCalls) {
+        return AsyncServiceClient.await(executeAsync(toolCalls));
+    }
+
+    /**
+     * Executes a tool call on its own virtual thread, never completes exceptionally
+     */
+    public CompletableFuture<dtos.AiMessage> executeAsync(dtos.ToolCall toolCall) {
+        var name = toolCall.function != null ? toolCall.function.name : null;
+        var registration = name != null ? tools.get(name) : null;
+        if (registration == null)
+            return CompletableFuture.completedFuture(toToolMessage(toolCall, "Error: Unknown tool '" + name + "'"));
+
+        var result = new CompletableFuture<String>();
+        var thread = Thread.ofVirtual().name("tool-" + name).start(() -> {
+            try {
+                var value = registration.handler().execute(toolCall.function.arguments);
+                result.complete(value == null || value instanceof String ? (String) value : gson.toJson(value));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        var timeout = registration.timeout() != null ? registration.timeout() : defaultTimeout;
+        return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+            .handle((content, error) -> {
+                if (error == null)
+                    return toToolMessage(toolCall, content != null ? content : "");
+                var cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof TimeoutException) {
+                    thread.interrupt();
+                    cause = new TimeoutException("Tool '" + name + "' timed out after " + timeout.toMillis() + "ms");
+                }
+                if (onError != null)
+                    onError.accept(cause);
+                return toToolMessage(toolCall, "Error: " + cause.getMessage());
+            });
+    }
+
+    /**
+     * Appends the assistant's tool calls and the results of executing them to the request's messages so it
+     * can be sent as the next turn of the conversation
+     */
+    public CompletableFuture<dtos.ChatCompletion> addToolResultsAsync(dtos.ChatCompletion request, dtos.ChatResponse response) {
+        var message = getMessage(response);
+        if (message == null || message.toolCalls == null || message.toolCalls.isEmpty())
+            return CompletableFuture.completedFuture(request);
+        return executeAsync(message.toolCalls).thenApply(toolMessages -> {
+            if (request.messages == null)
+                request.messages = new ArrayList<>();
+            request.messages.add(toAssistantMessage(message));
+            request.messages.addAll(toolMessages);
+            return request;
+        });
+    }
+
+    public dtos.ChatCompletion addToolResults(dtos.ChatCompletion request, dtos.ChatResponse response) {
+        return AsyncServiceClient.await(addToolResultsAsync(request, response));
+    }
+
+    static dtos.AiMessage toAssistantMessage(dtos.ChoiceMessage message) {
+        var to = new dtos.AiMessage();
+        to.role = "assistant";
+        if (message.content != null && !message.content.isEmpty())
+            to.content = new ArrayList<>(List.of(new dtos.AiTextContent().setText(message.content).setType("text")));
+        to.toolCalls = message.toolCalls;
+        to.reasoning = message.reasoning;
+        to.reasoningContent = message.reasoningContent;
+        to.timestamp = message.timestamp;
+        return to;
+    }
+
+    static dtos.AiMessage toToolMessage(dtos.ToolCall toolCall, String content) {
+        var to = new dtos.AiMessage();
+        to.role = "tool";
+        to.toolCallId = toolCall.id;
+        to.content = new ArrayList<>(List.of(new dtos.AiTextContent().setText(content).setType("text")));
+        return to;
+    }
+}
@@ -0,0 +1,164 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Accumulates the token usage and cost of ChatResponses per tenant, model and provider, e.g:
+ *
+ * <pre>
+ * var meter = new UsageMeter();
+ * var client = new AsyncServiceClient("https://localhost:5001").setUsageMeter(meter);
+ * client.send(new dtos.ChatCompletion().setModel("gpt-4.1").setMetadata(new HashMap&lt;&gt;(Map.of("tenant", "acme")))
+ *     .setMessages(messages));
+ *
+ * for (var usage : meter.snapshot()) {
+ *     metrics.gauge("ai.tokens", usage.totalTokens(), usage.tenant(), usage.model(), usage.provider());
+ * }
+ * </pre>
+ *
+ * Counters are LongAdders so concurrent responses of the same model don't contend on a single counter.
+ * Responses are assigned to the tenant in the ChatCompletion's "tenant" metadata unless tenantResolver is overridden.
+ */
+public class UsageMeter {
+
+    public static final String TenantMetadataKey = "tenant";
+
+    public record Key(String tenant, String model, String provider) {}
+
+    /**
+     * A point-in-time copy of the usage of a tenant, model and provider
+     */
+    public record Usage(String tenant, String model, String provider, long requests, long promptTokens,
+                        long completionTokens, long totalTokens, long cachedTokens, long reasoningTokens, double cost) {
+        Usage add(Usage other) {
+            return new Usage(tenant, model, provider, requests + other.requests, promptTokens + other.promptTokens,
+                completionTokens + other.completionTokens, totalTokens + other.totalTokens,
+                cachedTokens + other.cachedTokens, reasoningTokens + other.reasoningTokens, cost + other.cost);
+        }
+
+        public boolean isEmpty() {
+            return requests == 0 && promptTokens == 0 && completionTokens == 0 && totalTokens == 0
+                && cachedTokens == 0 && reasoningTokens == 0 && cost == 0;
+        }
+    }
+
+    static class Counters {
+        final LongAdder requests = new LongAdder();
+        final LongAdder promptTokens = new LongAdder();
+        final LongAdder completionTokens = new LongAdder();
+        final LongAdder totalTokens = new LongAdder();
+        final LongAdder cachedTokens = new LongAdder();
+        final LongAdder reasoningTokens = new LongAdder();
+        final DoubleAdder cost = new DoubleAdder();
+
+        Usage sum(Key key) {
+            return new Usage(key.tenant(), key.model(), key.provider(), requests.sum(), promptTokens.sum(),
+                completionTokens.sum(), totalTokens.sum(), cachedTokens.sum(), reasoningTokens.sum(), cost.sum());
+        }
+
+        Usage sumThenReset(Key key) {
+            return new Usage(key.tenant(), key.model(), key.provider(), requests.sumThenReset(), promptTokens.sumThenReset(),
+                completionTokens.sumThenReset(), totalTokens.sumThenReset(), cachedTokens.sumThenReset(),
+                reasoningTokens.sumThenReset(), cost.sumThenReset());
+        }
+    }
+
+    private final ConcurrentHashMap<Key, Counters> counters = new ConcurrentHashMap<>();
+    private Function<dtos.ChatCompletion, String> tenantResolver = UsageMeter::getTenant;
+
+    /**
+     * Returns the tenant a request's usage is recorded against, null for usage without a tenant
+     */
+    public Function<dtos.ChatCompletion, String> getTenantResolver() { return tenantResolver; }
+    public UsageMeter setTenantResolver(Function<dtos.ChatCompletion, String> value) { this.tenantResolver = value; return this; }
+
+    static String getTenant(dtos.ChatCompletion request) {
+        return request != null && request.metadata != null ? request.metadata.get(TenantMetadataKey) : null;
+    }
+
+    /**
+     * Records the usage of a ChatResponse, called by AsyncServiceClient for each ChatCompletion it sends
+     * and by ChatStreamClient for each streamed ChatCompletion that completes
+     */
+    public void record(dtos.ChatCompletion request, dtos.ChatResponse response) {
+        record(tenantResolver.apply(request), response);
+    }
+
+    public void record(String tenant, dtos.ChatResponse response) {
+        if (response == null)
+            return;
+        var key = new Key(tenant, response.model, response.provider);
+        var to = counters.computeIfAbsent(key, k -> new Counters());
+        to.requests.increment();
+        if (response.cost != null)
+            to.cost.add(response.cost);
+        var usage = response.usage;
+        if (usage == null)
+            return;
+        if (usage.promptTokens != null)
+            to.promptTokens.add(usage.promptTokens);
+        if (usage.completionTokens != null)
+            to.completionTokens.add(usage.completionTokens);
+        if (usage.totalTokens != null)
+            to.totalTokens.add(usage.totalTokens);
+        if (usage.promptTokensDetails != null && usage.promptTokensDetails.cachedTokens != null)
+            to.cachedTokens.add(usage.promptTokensDetails.cachedTokens);
+        if (usage.completionTokensDetails != null && usage.completionTokensDetails.reasoningTokens != null)
+            to.reasoningTokens.add(usage.completionTokensDetails.reasoningTokens);
+    }
+
+    /**
+     * The usage of each tenant, model and provider, sorted by tenant then model and provider
+     */
+    public List<Usage> snapshot() {
+        var to = new ArrayList<Usage>(counters.size());
+        counters.forEach((key, value) -> to.add(value.sum(key)));
+        to.sort(UsageOrder);
+        return to;
+    }
+
+    /**
+     * Returns the usage recorded since the last drain and resets its counters, for periodically exporting deltas.
+     * Usage recorded whilst draining is included in either this or the next drain.
+     */
+    public List<Usage> drain() {
+        var to = new ArrayList<Usage>(counters.size());
+        counters.forEach((key, value) -> {
+            // a response recorded whilst its counters are reset can be split across drains, e.g. its tokens
+            // in this drain and its request in the next, so only rows without any usage are skipped
+            var usage = value.sumThenReset(key);
+            if (!usage.isEmpty())
+                to.add(usage);
+        });
+        to.sort(UsageOrder);
+        return to;
+    }
+
+    /**
+     * The combined usage of all models and providers used by a tenant
+     */
+    public Usage getTenantUsage(String tenant) {
+        var to = new Usage(tenant, null, null, 0, 0, 0, 0, 0, 0, 0);
+        for (var entry : counters.entrySet()) {
+            if (Objects.equals(entry.getKey().tenant(), tenant))
+                to = to.add(entry.getValue().sum(entry.getKey()));
+        }
+        return to;
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    static final Comparator<Usage> UsageOrder = Comparator
+        .comparing(Usage::tenant, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(Usage::model, Comparator.nullsFirst(Comparator.naturalOrder()))
+        .thenComparing(Usage::provider, Comparator.nullsFirst(Comparator.naturalOrder()));
+}
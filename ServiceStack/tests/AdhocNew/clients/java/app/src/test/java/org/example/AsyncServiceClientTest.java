@@ -0,0 +1,113 @@
+package org.example;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+import net.servicestack.client.IReturn;
+import net.servicestack.client.IReturnVoid;
+import net.servicestack.client.WebServiceException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AsyncServiceClientTest {
+
+    static class Greet implements IReturn<GreetResponse> {
+        String name;
+        Greet(String name) { this.name = name; }
+        public Object getResponseType() { return GreetResponse.class; }
+    }
+
+    static class GreetResponse {
+        String result;
+        String authorization;
+    }
+
+    static class Ping implements IReturnVoid {}
+
+    // fails the first failures requests with a 503 then echoes the name and Authorization header of each POST
+    static HttpServer server(int failures, ConcurrentLinkedQueue<String> methods) throws IOException {
+        var calls = new AtomicInteger();
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/Greet", ex -> {
+            methods.add(ex.getRequestMethod());
+            var request = JsonParser.parseString(new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)).getAsJsonObject();
+            var status = calls.incrementAndGet() <= failures ? 503 : 200;
+            var body = new JsonObject();
+            if (status == 200) {
+                body.addProperty("result", "Hello, " + request.get("name").getAsString() + "!");
+                body.addProperty("authorization", ex.getRequestHeaders().getFirst("Authorization"));
+            } else {
+                body.addProperty("error", "Unavailable");
+            }
+            var bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(status, bytes.length);
+            ex.getResponseBody().write(bytes);
+            ex.close();
+        });
+        server.createContext("/api/Ping", ex -> {
+            methods.add(ex.getRequestMethod());
+            ex.sendResponseHeaders(204, -1);
+            ex.close();
+        });
+        server.start();
+        return server;
+    }
+
+    @Test public void sends_concurrent_requests_without_a_thread_per_request() throws IOException {
+        var methods = new ConcurrentLinkedQueue<String>();
+        var server = server(0, methods);
+        try {
+            var client = new AsyncServiceClient("http://localhost:" + server.getAddress().getPort()).setBearerToken("ak-1");
+            var futures = new ArrayList<CompletableFuture<GreetResponse>>();
+            for (var i = 0; i < 200; i++) {
+                futures.add(client.sendAsync(new Greet("user" + i)));
+            }
+            for (var i = 0; i < futures.size(); i++) {
+                var response = futures.get(i).join();
+                assertEquals("Hello, user" + i + "!", response.result);
+                assertEquals("Bearer ak-1", response.authorization);
+            }
+            assertTrue(methods.stream().allMatch("POST"::equals));
+
+            client.send(new Ping());
+            assertEquals(201, methods.size());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test public void failed_requests_throw_and_can_be_retried_from_virtual_threads() throws Exception {
+        var server = server(1, new ConcurrentLinkedQueue<>());
+        try {
+            var client = new AsyncServiceClient("http://localhost:" + server.getAddress().getPort());
+            var result = new CompletableFuture<String>();
+            Thread.ofVirtual().start(() -> {
+                try {
+                    client.send(new Greet("retry"));
+                    result.completeExceptionally(new AssertionError("Expected WebServiceException"));
+                } catch (WebServiceException e) {
+                    assertEquals(503, e.getStatusCode());
+                    assertTrue(e.getResponseBody().contains("Unavailable"));
+                    // the blocking facade rethrows the original exception, so callers can retry it directly
+                    result.complete(client.send(new Greet("retry")).result);
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            assertEquals("Hello, retry!", result.join());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+import net.servicestack.client.IPost;
+import net.servicestack.client.IReturn;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class Base64AttachmentsTest {
+
+    static class Upload implements IReturn<UploadResponse>, IPost {
+        String name;
+        String file;
+        String buffer;
+        String image;
+        public Object getResponseType() { return UploadResponse.class; }
+    }
+
+    static class UploadResponse {
+        Integer length;
+    }
+
+    static byte[] bytes(int length, int seed) {
+        var to = new byte[length];
+        new Random(seed).nextBytes(to);
+        return to;
+    }
+
+    @Test public void streams_path_buffer_and_stream_attachments_as_base64() throws IOException {
+        var received = new AtomicReference<String>();
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/Upload", ex -> {
+            var body = new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            received.set(body);
+            var bytes = ("{\"length\":" + body.length() + "}").getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(200, bytes.length);
+            ex.getResponseBody().write(bytes);
+            ex.close();
+        });
+        server.start();
+        var path = Files.createTempFile("attachment", ".bin");
+        try {
+            // larger than a chunk so the body is published across multiple buffers
+            var fileBytes = bytes(100 * 1024 + 1, 1);
+            Files.write(path, fileBytes);
+            var bufferBytes = bytes(5 * 1024 + 2, 2);
+            var buffer = ByteBuffer.allocateDirect(bufferBytes.length).put(bufferBytes).flip();
+            var imageBytes = bytes(3 * 1024, 3);
+
+            var attachments = new Base64Attachments();
+            var request = new Upload();
+            request.name = "a \"quoted\" name";
+            request.file = attachments.add(path);
+            request.buffer = attachments.add(buffer);
+            request.image = attachments.addDataUrl("image/png", new ByteArrayInputStream(imageBytes));
+
+            var client = new AsyncServiceClient("http://localhost:" + server.getAddress().getPort());
+            var response = client.sendAsync(request, attachments).join();
+
+            var json = JsonParser.parseString(received.get()).getAsJsonObject();
+            assertEquals(Integer.valueOf(received.get().length()), response.length);
+            assertEquals("a \"quoted\" name", json.get("name").getAsString());
+            assertEquals(Base64.getEncoder().encodeToString(fileBytes), json.get("file").getAsString());
+            assertEquals(Base64.getEncoder().encodeToString(bufferBytes), json.get("buffer").getAsString());
+            assertEquals("data:image/png;base64," + Base64.getEncoder().encodeToString(imageBytes), json.get("image").getAsString());
+            assertEquals(bufferBytes.length, buffer.remaining());
+        } finally {
+            Files.delete(path);
+            server.stop(0);
+        }
+    }
+
+    @Test public void fails_when_an_attachment_is_not_written() throws IOException {
+        var attachments = new Base64Attachments();
+        var request = new Upload();
+        request.file = attachments.add(ByteBuffer.wrap(bytes(10, 1)));
+        attachments.add(ByteBuffer.wrap(bytes(10, 2)));
+
+        try {
+            attachments.writeJson(new Gson(), request, new ByteArrayOutputStream());
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage().contains("Attachment 1"));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+import net.servicestack.client.IReturn;
+import net.servicestack.client.WebServiceException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+
+public class BatchingServiceClientTest {
+
+    static class GetItem implements IReturn<GetItemResponse> {
+        Integer id;
+        GetItem(Integer id) { this.id = id; }
+        public Object getResponseType() { return GetItemResponse.class; }
+    }
+
+    static class GetItemResponse {
+        Integer id;
+        String name;
+    }
+
+    // responds with each item's name, failing the whole batch if it contains a negative id
+    static HttpServer server(ConcurrentLinkedQueue<Integer> batchSizes) throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/GetItem[]", ex -> {
+            var requests = JsonParser.parseString(new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)).getAsJsonArray();
+            batchSizes.add(requests.size());
+            var responses = new JsonArray();
+            var status = 200;
+            for (var request : requests) {
+                var id = request.getAsJsonObject().get("id").getAsInt();
+                if (id < 0)
+                    status = 500;
+                var response = new JsonObject();
+                response.addProperty("id", id);
+                response.addProperty("name", "Item " + id);
+                responses.add(response);
+            }
+            var bytes = (status == 200 ? responses.toString() : "{\"responseStatus\":{\"errorCode\":\"Error\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(status, bytes.length);
+            ex.getResponseBody().write(bytes);
+            ex.close();
+        });
+        server.start();
+        return server;
+    }
+
+    @Test public void splits_requests_into_batches_of_maxBatchSize() throws IOException {
+        var batchSizes = new ConcurrentLinkedQueue<Integer>();
+        var server = server(batchSizes);
+        try (var client = new BatchingServiceClient("http://localhost:" + server.getAddress().getPort())
+                .setMaxBatchSize(3)
+                .setMaxDelay(Duration.ofSeconds(10))) {
+            var futures = new ArrayList<CompletableFuture<GetItemResponse>>();
+            for (var id = 1; id <= 7; id++) {
+                futures.add(client.sendAsync(new GetItem(id)));
+            }
+            for (var i = 0; i < 6; i++) {
+                assertEquals("Item " + (i + 1), futures.get(i).join().name);
+            }
+            // the last request waits for maxDelay unless it's flushed
+            assertFalse(futures.get(6).isDone());
+            client.flush();
+            assertEquals(Integer.valueOf(7), futures.get(6).join().id);
+
+            var sizes = new ArrayList<>(batchSizes);
+            sizes.sort(null);
+            assertEquals(List.of(1, 3, 3), sizes);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test public void fails_every_request_in_a_failed_batch() throws IOException {
+        var batchSizes = new ConcurrentLinkedQueue<Integer>();
+        var server = server(batchSizes);
+        try (var client = new BatchingServiceClient("http://localhost:" + server.getAddress().getPort())
+                .setMaxBatchSize(2)
+                .setMaxDelay(Duration.ofSeconds(10))) {
+            var failed = List.of(client.sendAsync(new GetItem(1)), client.sendAsync(new GetItem(-2)));
+            var sent = List.of(client.sendAsync(new GetItem(3)), client.sendAsync(new GetItem(4)));
+
+            for (var future : failed) {
+                try {
+                    future.join();
+                    fail("Expected WebServiceException");
+                } catch (CompletionException e) {
+                    assertTrue(e.getCause() instanceof WebServiceException);
+                    assertEquals(500, ((WebServiceException) e.getCause()).getStatusCode());
+                }
+            }
+            assertEquals("Item 3", sent.get(0).join().name);
+            assertEquals("Item 4", sent.get(1).join().name);
+            assertEquals(4, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test public void rejects_non_positive_batch_limits() {
+        var client = new BatchingServiceClient((requestType, responseType, requests) -> requests);
+        for (var value : new int[]{ 0, -1 }) {
+            try {
+                client.setMaxBatchSize(value);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+        for (var value : new Duration[]{ Duration.ZERO, Duration.ofMillis(-1), null }) {
+            try {
+                client.setMaxDelay(value);
+                fail("Expected IllegalArgumentException");
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+        assertEquals(100, client.getMaxBatchSize());
+        assertEquals(Duration.ofMillis(5), client.getMaxDelay());
+        client.close();
+    }
+}
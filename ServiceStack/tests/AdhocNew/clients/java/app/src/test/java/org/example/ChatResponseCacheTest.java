@@ -0,0 +1,111 @@
+package org.example;
+
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpServer;
+import net.servicestack.client.WebServiceException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ChatResponseCacheTest {
+
+    static dtos.ChatCompletion request(String model, String tenant) {
+        return new dtos.ChatCompletion().setModel(model).setSeed(42).setMetadata(new HashMap<>(Map.of("tenant", tenant)))
+            .setMessages(new ArrayList<>());
+    }
+
+    // the id of each response is the number of requests the server has received, requests for the "fail" model fail
+    static HttpServer server(AtomicInteger calls) throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/ChatCompletion", ex -> {
+            var request = JsonParser.parseString(new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)).getAsJsonObject();
+            var model = request.get("model").getAsString();
+            var id = calls.incrementAndGet();
+            var failed = model.equals("fail");
+            var body = failed
+                ? "{\"responseStatus\":{\"errorCode\":\"Error\",\"message\":\"Provider failed\"}}"
+                : "{\"id\":\"" + id + "\",\"model\":\"" + model + "\",\"choices\":[]}";
+            var bytes = body.getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(failed ? 500 : 200, bytes.length);
+            ex.getResponseBody().write(bytes);
+            ex.close();
+        });
+        server.start();
+        return server;
+    }
+
+    static void deleteDir(Path dir) throws IOException {
+        try (var paths = Files.walk(dir)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test public void replays_cached_responses_of_deterministic_requests() throws IOException {
+        var calls = new AtomicInteger();
+        var server = server(calls);
+        var dir = Files.createTempDirectory("chat-cache");
+        try {
+            var client = QueryTailerTest.client(server);
+            var cache = new ChatResponseCache(dir);
+
+            assertEquals("1", cache.send(client, request("gpt-4.1", "acme")).id);
+            // metadata isn't part of the key
+            assertEquals("1", cache.send(client, request("gpt-4.1", "initech")).id);
+            assertEquals("1", new ChatResponseCache(dir).send(client, request("gpt-4.1", "acme")).id);
+            assertEquals(1, calls.get());
+            assertEquals(1, cache.getHits());
+            assertEquals(1, cache.getMisses());
+
+            assertEquals("2", cache.send(client, request("gpt-4.1", "acme").setTemperature(0.5)).id);
+            assertEquals("3", cache.send(client, request("gpt-4.1-mini", "acme")).id);
+
+            // requests without a seed or a temperature of 0 are always sent
+            var nonDeterministic = request("gpt-4.1", "acme").setSeed(null);
+            assertEquals("4", cache.send(client, nonDeterministic).id);
+            assertEquals("5", cache.send(client, nonDeterministic).id);
+            assertEquals(3, cache.getMisses());
+
+            cache.remove(client, request("gpt-4.1", "acme"));
+            assertEquals("6", cache.send(client, request("gpt-4.1", "acme")).id);
+        } finally {
+            deleteDir(dir);
+            server.stop(0);
+        }
+    }
+
+    @Test public void does_not_cache_failed_responses() throws IOException {
+        var calls = new AtomicInteger();
+        var server = server(calls);
+        var dir = Files.createTempDirectory("chat-cache");
+        try {
+            var client = QueryTailerTest.client(server);
+            var cache = new ChatResponseCache(dir);
+            for (var i = 1; i <= 2; i++) {
+                try {
+                    cache.send(client, request("fail", "acme"));
+                    fail("Expected WebServiceException");
+                } catch (WebServiceException e) {
+                    assertEquals(500, e.getStatusCode());
+                }
+                assertEquals(i, calls.get());
+            }
+            assertEquals(0, cache.getHits());
+        } finally {
+            deleteDir(dir);
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.example;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CoalesceGetsTest {
+
+    @Test public void only_coalesces_requests_with_the_same_requestFilter_headers() throws Exception {
+        var calls = new AtomicInteger();
+        var received = new CountDownLatch(2);
+        var release = new CountDownLatch(1);
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/Echo", ex -> {
+            calls.incrementAndGet();
+            received.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            var body = "{\"apiKey\":\"" + ex.getRequestHeaders().getFirst("X-Api-Key") + "\"}";
+            var bytes = body.getBytes(StandardCharsets.UTF_8);
+            ex.sendResponseHeaders(200, bytes.length);
+            ex.getResponseBody().write(bytes);
+            ex.close();
+        });
+        server.start();
+        try {
+            var apiKey = new String[]{ "ak-1" };
+            var client = new AsyncServiceClient("http://localhost:" + server.getAddress().getPort())
+                .setCoalesceGets(true)
+                .setRequestFilter(req -> req.header("X-Api-Key", apiKey[0]));
+
+            var first = client.sendAsync(new ResponseCacheTest.Echo());
+            var second = client.sendAsync(new ResponseCacheTest.Echo());
+            apiKey[0] = "ak-2";
+            var other = client.sendAsync(new ResponseCacheTest.Echo());
+
+            assertTrue(received.await(10, TimeUnit.SECONDS));
+            release.countDown();
+
+            assertEquals("ak-1", first.join().apiKey);
+            assertTrue(first.join() == second.join());
+            assertEquals("ak-2", other.join().apiKey);
+            assertEquals(2, calls.get());
+        } finally {
+            release.countDown();
+            server.stop(0);
+        }
+    }
+}
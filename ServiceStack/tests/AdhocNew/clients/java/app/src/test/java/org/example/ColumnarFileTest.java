@@ -0,0 +1,100 @@
+package org.example;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class ColumnarFileTest {
+    static final List<ColumnarFile.Column> Columns = List.of(
+        new ColumnarFile.Column("Id", ColumnarFile.ColumnType.LONG),
+        new ColumnarFile.Column("Price", ColumnarFile.ColumnType.DOUBLE),
+        new ColumnarFile.Column("Active", ColumnarFile.ColumnType.BOOLEAN),
+        new ColumnarFile.Column("Status", ColumnarFile.ColumnType.STRING),
+        new ColumnarFile.Column("Name", ColumnarFile.ColumnType.STRING));
+
+    // every 7th row is null, Status repeats so it's dictionary encoded and Name is unique so it's stored plain
+    static ColumnarFile.ColumnVector[] rowGroup(int from, int rows) {
+        var to = AdminDatabaseExporter.newVectors(Columns, rows);
+        for (var row = from; row < from + rows; row++) {
+            if (row % 7 == 0) {
+                for (var vector : to) {
+                    vector.addNull();
+                }
+                continue;
+            }
+            to[0].addLong(row % 3 == 0 ? -row : row * 1000L);
+            to[1].addDouble(row / 3.0);
+            to[2].addBoolean(row % 2 == 0);
+            to[3].addString(row % 5 == 0 ? "Closed" : "Open");
+            to[4].addString("Name " + row + " é");
+        }
+        return to;
+    }
+
+    static Path write(int rowGroups, int rowsPerGroup) throws IOException {
+        var path = Files.createTempFile("columnar", ".sscf");
+        try (var writer = new ColumnarFile.Writer(path, Columns)) {
+            for (var i = 0; i < rowGroups; i++) {
+                writer.writeRowGroup(rowGroup(i * rowsPerGroup, rowsPerGroup));
+            }
+            writer.writeRowGroup(AdminDatabaseExporter.newVectors(Columns, 0));
+        }
+        return path;
+    }
+
+    @Test public void round_trips_every_column_type_and_nulls() throws IOException {
+        var path = write(3, 100);
+        try (var reader = new ColumnarFile.Reader(path)) {
+            assertEquals(Columns, reader.getColumns());
+            assertEquals(300, reader.getRowCount());
+            assertEquals(3, reader.getRowGroupCount());
+
+            var expected = AdminDatabaseExporter.newVectors(Columns, 300);
+            for (var i = 0; i < 3; i++) {
+                var group = rowGroup(i * 100, 100);
+                for (var c = 0; c < expected.length; c++) {
+                    expected[c].addAll(group[c]);
+                }
+            }
+
+            for (var c = 0; c < Columns.size(); c++) {
+                var column = reader.readColumn(Columns.get(c).name());
+                assertEquals(300, column.size());
+                for (var row = 0; row < 300; row++) {
+                    assertEquals(Columns.get(c).name() + " row " + row, expected[c].get(row), column.get(row));
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test public void reads_columns_case_insensitively() throws IOException {
+        var path = write(1, 10);
+        try (var reader = new ColumnarFile.Reader(path)) {
+            var ids = reader.readColumn("id");
+            assertTrue(ids.isNull(0));
+            assertEquals(1000L, ids.getLong(1));
+            assertEquals(-3L, ids.getLong(3));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test public void rejects_files_without_a_footer() throws IOException {
+        var path = Files.createTempFile("columnar", ".sscf");
+        try {
+            Files.write(path, "SSCF\u0001 not a columnar file".getBytes());
+            try (var ignore = new ColumnarFile.Reader(path)) {
+                fail("Expected IOException");
+            } catch (IOException expected) {
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
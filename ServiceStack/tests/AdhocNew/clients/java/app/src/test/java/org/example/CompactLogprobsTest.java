@@ -0,0 +1,91 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class CompactLogprobsTest {
+    // "é" split across two tokens, a token without bytes and an item without top_logprobs
+    static final String Json = """
+        {"content":[
+          {"token":"\\\\xc3","logprob":-0.123456789012345,"bytes":[195],"top_logprobs":[
+            {"token":"\\\\xc3","logprob":-0.123456789012345,"bytes":[195]},
+            {"token":"a","logprob":-2.5}]},
+          {"token":"\\\\xa9","logprob":-1.0E-9,"bytes":[169],"top_logprobs":[]},
+          {"token":"héllo","logprob":-0.5},
+          {"token":" world","logprob":-3.25,"bytes":[32,119,111,114,108,100]}
+        ]}""";
+
+    static Gson gson() {
+        return CompactLogprobs.register(AsyncServiceClient.createGsonBuilder()).create();
+    }
+
+    @Test public void round_trips_logprobs_unchanged() {
+        var gson = gson();
+        var logprobs = gson.fromJson(Json, dtos.Logprobs.class);
+        assertTrue(logprobs instanceof CompactLogprobs);
+        assertEquals(JsonParser.parseString(Json), JsonParser.parseString(gson.toJson(logprobs)));
+    }
+
+    @Test public void keeps_provider_tokens_and_double_logprobs() {
+        var logprobs = (CompactLogprobs) gson().fromJson(Json, dtos.Logprobs.class);
+        assertEquals(4, logprobs.size());
+        assertEquals("\\xc3", logprobs.token(0));
+        assertEquals(-0.123456789012345, logprobs.logprob(0), 0);
+        assertEquals(1, logprobs.tokenBytes(0).remaining());
+        assertEquals((byte) 195, logprobs.tokenBytes(0).get(0));
+        assertEquals("héllo", logprobs.token(2));
+        assertNull(logprobs.tokenBytes(2));
+
+        assertEquals(2, logprobs.topCount(0));
+        assertEquals("a", logprobs.topToken(0, 1));
+        assertEquals(-2.5, logprobs.topLogprob(0, 1), 0);
+        assertNull(logprobs.topTokenBytes(0, 1));
+        assertEquals(0, logprobs.topCount(1));
+
+        var items = logprobs.getContent();
+        assertNull(items.get(2).bytes);
+        assertNull(items.get(2).topLogprobs);
+        assertEquals(0, items.get(1).topLogprobs.size());
+    }
+
+    @Test public void materializes_content_once_across_threads() throws Exception {
+        var logprobs = (CompactLogprobs) gson().fromJson(Json, dtos.Logprobs.class);
+        assertNull(logprobs.content);
+
+        var threads = new ArrayList<Thread>();
+        var results = new ConcurrentLinkedQueue<ArrayList<dtos.LogprobItem>>();
+        for (var i = 0; i < 8; i++) {
+            threads.add(Thread.ofVirtual().start(() -> results.add(logprobs.getContent())));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        var content = logprobs.getContent();
+        assertEquals(4, content.size());
+        assertSame(content, logprobs.content);
+        for (var result : results) {
+            assertSame(content, result);
+        }
+    }
+
+    @Test public void concatenates_streamed_chunks() {
+        var gson = gson();
+        var logprobs = (CompactLogprobs) gson.fromJson(Json, dtos.Logprobs.class);
+        var concatenated = new CompactLogprobs.Builder().addAll(logprobs).addAll(logprobs).build();
+        assertEquals(8, concatenated.size());
+        assertEquals(" world", concatenated.token(7));
+        assertEquals("a", concatenated.topToken(4, 1));
+        assertEquals(2 * logprobs.sumLogprobs(), concatenated.sumLogprobs(), 1e-12);
+
+        var expected = JsonParser.parseString(Json).getAsJsonObject().getAsJsonArray("content");
+        var actual = JsonParser.parseString(gson.toJson(concatenated)).getAsJsonObject().getAsJsonArray("content");
+        assertEquals(expected.get(3), actual.get(7));
+        assertEquals(expected.get(0), actual.get(4));
+    }
+}
@@ -0,0 +1,92 @@
+package org.example;
+
+import com.sun.net.httpserver.HttpServer;
+import net.servicestack.client.WebServiceException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JobProgressWatcherTest {
+
+    // job 1 starts, stays unchanged for a poll, appends to its logs then completes, other jobs don't exist
+    static final List<String> Polls = List.of(
+        "{\"state\":\"Started\",\"progress\":0.1,\"logs\":\"a\\n\"}",
+        "{\"state\":\"Started\",\"progress\":0.1,\"logs\":\"\"}",
+        "{\"state\":\"Started\",\"progress\":0.5,\"logs\":\"bc\\n\"}",
+        "{\"state\":\"Completed\",\"progress\":1.0,\"durationMs\":42}");
+
+    static HttpServer server(ConcurrentLinkedQueue<String> queries) throws IOException {
+        var polls = new AtomicInteger();
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/AdminGetJobProgress", ex -> {
+            var query = ex.getRequestURI().getRawQuery();
+            queries.add(query);
+            var params = QueryTailerTest.queryParams(query);
+            var found = "1".equals(params.get("id"));
+            var body = found ? Polls.get(Math.min(polls.getAndIncrement(), Polls.size() - 1)) : "{\"responseStatus\":{\"errorCode\":\"NotFound\"}}";
+            var bytes = body.getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(found ? 200 : 404, bytes.length);
+            ex.getResponseBody().write(bytes);
+            ex.close();
+        });
+        server.start();
+        return server;
+    }
+
+    @Test public void only_notifies_changes_and_requests_logs_after_the_last_poll() throws Exception {
+        var queries = new ConcurrentLinkedQueue<String>();
+        var server = server(queries);
+        try (var watcher = new JobProgressWatcher(QueryTailerTest.client(server))
+                .setPollInterval("Started", Duration.ofMillis(10))
+                .setMaxPollInterval(Duration.ofMillis(50))) {
+            var events = new ConcurrentLinkedQueue<JobProgressWatcher.JobProgress>();
+            var watch = watcher.watch(1, events::add);
+            assertSame(watch, watcher.watch(1, null));
+
+            var last = watch.getCompleted().get(10, TimeUnit.SECONDS);
+            assertEquals("Completed", last.state());
+            assertEquals(Integer.valueOf(42), last.durationMs());
+            assertEquals(0, watcher.getWatchCount());
+
+            var progress = List.copyOf(events);
+            assertEquals(3, progress.size());
+            assertEquals("a\n", progress.get(0).logs());
+            assertEquals("bc\n", progress.get(1).logs());
+            assertEquals(5, progress.get(1).logLength());
+            assertNull(progress.get(2).logs());
+
+            assertEquals(List.of("id=1", "id=1&logStart=2", "id=1&logStart=2", "id=1&logStart=5"), List.copyOf(queries));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test public void completes_watches_of_missing_jobs_exceptionally() throws Exception {
+        var server = server(new ConcurrentLinkedQueue<>());
+        try (var watcher = new JobProgressWatcher(QueryTailerTest.client(server))) {
+            var watch = watcher.watch(2, progress -> fail("Unexpected progress"));
+            try {
+                watch.getCompleted().join();
+                fail("Expected WebServiceException");
+            } catch (CompletionException e) {
+                assertTrue(e.getCause() instanceof WebServiceException);
+                assertEquals(404, ((WebServiceException) e.getCause()).getStatusCode());
+            }
+            assertEquals(0, watcher.getWatchCount());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.example;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.LongStream;
+
+public class KeysetPaginatorTest {
+
+    static KeysetPaginator<QueryTailerTest.QueryRowsResponse, QueryTailerTest.Row> paginator(AsyncServiceClient client) {
+        return KeysetPaginator.query(client, QueryTailerTest.QueryRows::new,
+            QueryTailerTest.QueryRowsResponse::getResults, QueryTailerTest.Row::getId)
+            .setPageSize(10);
+    }
+
+    @Test public void resumes_after_the_last_consumed_page_from_the_checkpoint() throws IOException {
+        var queries = new ConcurrentLinkedQueue<String>();
+        var server = QueryTailerTest.queryRowsServer(() -> 25, queries);
+        var path = Files.createTempFile("keyset-paginator", ".checkpoint");
+        Files.delete(path);
+        try {
+            var checkpoint = KeysetPaginator.Checkpoint.file(path);
+            var client = QueryTailerTest.client(server);
+            try (var rows = paginator(client).setCheckpoint(checkpoint).stream()) {
+                assertArrayEquals(LongStream.rangeClosed(1, 12).toArray(), rows.limit(12).mapToLong(QueryTailerTest.Row::getId).toArray());
+            }
+            // only the first page was fully consumed
+            assertEquals(Long.valueOf(10), checkpoint.load());
+
+            queries.clear();
+            try (var rows = paginator(client).setCheckpoint(checkpoint).stream()) {
+                assertArrayEquals(LongStream.rangeClosed(11, 25).toArray(), rows.mapToLong(QueryTailerTest.Row::getId).toArray());
+            }
+            assertEquals(Long.valueOf(25), checkpoint.load());
+            // the first page isn't fetched again, a prefetch cancelled by the first stream may still arrive
+            assertTrue(queries.toString(), queries.stream().allMatch(query -> query.contains("orderBy=Id") && query.contains("IdAbove=")));
+            assertTrue(queries.stream().anyMatch(query -> query.contains("IdAbove=10")));
+            assertTrue(queries.stream().anyMatch(query -> query.contains("IdAbove=20")));
+        } finally {
+            Files.deleteIfExists(path);
+            server.stop(0);
+        }
+    }
+
+    @Test public void afterKey_overrides_the_checkpoint() throws IOException {
+        var server = QueryTailerTest.queryRowsServer(() -> 25, new ConcurrentLinkedQueue<>());
+        var path = Files.createTempFile("keyset-paginator", ".checkpoint");
+        try {
+            var checkpoint = KeysetPaginator.Checkpoint.file(path);
+            checkpoint.save(5);
+            try (var rows = paginator(QueryTailerTest.client(server)).setCheckpoint(checkpoint).setAfterKey(20L).stream()) {
+                assertArrayEquals(LongStream.rangeClosed(21, 25).toArray(), rows.mapToLong(QueryTailerTest.Row::getId).toArray());
+            }
+            assertEquals(Long.valueOf(25), checkpoint.load());
+        } finally {
+            Files.deleteIfExists(path);
+            server.stop(0);
+        }
+    }
+}
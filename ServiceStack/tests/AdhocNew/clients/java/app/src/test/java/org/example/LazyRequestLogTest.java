@@ -0,0 +1,101 @@
+package org.example;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LazyRequestLogTest {
+    static final Gson Gson = AsyncServiceClient.createGsonBuilder().create();
+    static final String Escaped = "{\"say\":\"\\\"hi\\\"\",\"path\":\"C:\\\\logs\"}\n\ttab é \u2603";
+
+    static JsonObject log(long id, boolean failed) {
+        var log = new JsonObject();
+        log.addProperty("id", id);
+        log.addProperty("operationName", "Echo");
+        log.add("dateTime", Gson.toJsonTree(new Date(1735689600000L + id)));
+        log.addProperty("statusCode", failed ? 500 : 200);
+        log.addProperty("pathInfo", "/api/Echo\u0000" + id);
+        log.addProperty("requestBody", Escaped + id);
+        log.add("responseBody", failed ? JsonNull.INSTANCE : Gson.toJsonTree("{\"result\":" + id + "}"));
+        log.add("headers", Gson.toJsonTree(Map.of("Content-Type", "application/json", "X-Quote", "\"" + id + "\"")));
+        log.add("formData", JsonNull.INSTANCE);
+        if (failed) {
+            var error = new JsonObject();
+            error.addProperty("errorCode", "ArgumentException");
+            error.addProperty("message", "Invalid \"name\"");
+            log.add("error", error);
+        }
+        return log;
+    }
+
+    static byte[] page(int rows) {
+        var results = new JsonArray();
+        for (var i = 0; i < rows; i++) {
+            results.add(log(i, i % 3 == 2));
+        }
+        var page = new JsonObject();
+        page.addProperty("offset", 0);
+        page.addProperty("total", rows * 10);
+        page.add("results", results);
+        page.add("meta", Gson.toJsonTree(Map.of("db", "requests_2025_01")));
+        return Gson.toJson(page).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static void assertLog(int i, LazyRequestLog log) {
+        var failed = i % 3 == 2;
+        assertEquals(Long.valueOf(i), log.getId());
+        assertEquals("Echo", log.getOperationName());
+        assertEquals(new Date(1735689600000L + i), log.getDateTime());
+        assertEquals(Integer.valueOf(failed ? 500 : 200), log.getStatusCode());
+        assertEquals("/api/Echo\u0000" + i, log.getPathInfo());
+        assertEquals(Escaped + i, log.getRequestBody());
+        assertEquals(Map.of("Content-Type", "application/json", "X-Quote", "\"" + i + "\""), log.getHeaders());
+        assertNull(log.getFormData());
+        assertNull(log.getItems());
+        if (failed) {
+            assertNull(log.getResponseBody());
+            assertEquals("ArgumentException", log.getError().getErrorCode());
+            assertEquals("Invalid \"name\"", log.getError().getMessage());
+        } else {
+            assertEquals("{\"result\":" + i + "}", log.getResponseBody());
+            assertNull(log.getError());
+        }
+    }
+
+    @Test public void round_trips_a_page_of_logs() {
+        var response = LazyRequestLog.parse(page(6), Gson);
+        assertEquals(Integer.valueOf(0), response.getOffset());
+        assertEquals(Integer.valueOf(60), response.getTotal());
+        assertEquals(new HashMap<>(Map.of("db", "requests_2025_01")), response.getMeta());
+        assertNull(response.getResponseStatus());
+        assertEquals(6, response.getResults().size());
+        for (var i = 0; i < 6; i++) {
+            assertLog(i, response.getResults().get(i));
+        }
+    }
+
+    @Test public void detached_logs_no_longer_reference_their_page() {
+        var page = page(6);
+        var logs = LazyRequestLog.parse(page, Gson).getResults();
+        var decodedLength = logs.get(2).getRequestBodyLength();
+        assertEquals(Escaped + 2, logs.get(2).getRequestBody());
+
+        for (var log : logs) {
+            log.detach();
+            assertNotSame(page, log.json);
+            assertTrue(log.json.length < page.length / 4);
+        }
+        assertEquals(decodedLength, logs.get(2).getRequestBodyLength());
+        for (var i = 0; i < 6; i++) {
+            assertLog(i, logs.get(i));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class ProjectionTest {
+
+    @Test public void resolves_method_references_to_column_names() {
+        var projection = Projection.of(QueryTailerTest.Row.class, QueryTailerTest.Row::getId,
+            QueryTailerTest.Row::getStatusCode, QueryTailerTest.Row::getId);
+        assertEquals("Id,StatusCode", projection.getFields());
+        assertEquals(List.of("id", "statusCode"), projection.getFieldNames());
+        assertTrue(projection.includes(QueryTailerTest.Row::getStatusCode));
+        assertFalse(projection.includes(QueryTailerTest.Row::getName));
+
+        try {
+            Projection.of(QueryTailerTest.Row.class, row -> row.getId());
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test public void only_returns_the_projected_fields() throws IOException {
+        var queries = new ConcurrentLinkedQueue<String>();
+        var server = QueryTailerTest.queryRowsServer(() -> 10, queries);
+        try {
+            var projection = Projection.of(QueryTailerTest.Row.class, QueryTailerTest.Row::getId, QueryTailerTest.Row::getStatusCode);
+            var page = projection.send(QueryTailerTest.client(server), new QueryTailerTest.QueryRows().setTake(5));
+
+            assertTrue(queries.peek(), queries.peek().contains("fields=Id%2CStatusCode"));
+            assertEquals(5, page.getResults().size());
+            var row = page.getResults().get(4);
+            assertEquals(Long.valueOf(5), row.getId());
+            assertEquals(Integer.valueOf(500), row.getStatusCode());
+            assertNull(row.getName());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
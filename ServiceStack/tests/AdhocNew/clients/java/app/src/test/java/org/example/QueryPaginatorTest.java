@@ -0,0 +1,54 @@
+package org.example;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.LongStream;
+
+public class QueryPaginatorTest {
+
+    static QueryPaginator<QueryTailerTest.QueryRowsResponse, QueryTailerTest.Row> paginator(AsyncServiceClient client, String include) {
+        return new QueryPaginator<>(
+            (skip, take) -> client.send(new QueryTailerTest.QueryRows().setSkip(skip).setTake(take).setOrderBy("Id").setInclude(include)),
+            QueryTailerTest.QueryRowsResponse::getResults,
+            QueryTailerTest.QueryRowsResponse::getTotal)
+            .setPageSize(10)
+            .setConcurrency(3);
+    }
+
+    @Test public void streams_concurrently_fetched_pages_in_order() throws IOException {
+        var queries = new ConcurrentLinkedQueue<String>();
+        var server = QueryTailerTest.queryRowsServer(() -> 95, queries);
+        try (var rows = paginator(QueryTailerTest.client(server), "Total").stream()) {
+            assertArrayEquals(LongStream.rangeClosed(1, 95).toArray(), rows.mapToLong(QueryTailerTest.Row::getId).toArray());
+            assertEquals(10, queries.size());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test public void stops_at_the_first_short_page_without_a_total() throws IOException {
+        var queries = new ConcurrentLinkedQueue<String>();
+        var server = QueryTailerTest.queryRowsServer(() -> 25, queries);
+        try (var rows = paginator(QueryTailerTest.client(server), null).stream()) {
+            assertArrayEquals(LongStream.rangeClosed(1, 25).toArray(), rows.mapToLong(QueryTailerTest.Row::getId).toArray());
+            assertEquals(3, queries.size());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test public void only_fetches_rows_within_the_offset_and_limit() throws IOException {
+        var queries = new ConcurrentLinkedQueue<String>();
+        var server = QueryTailerTest.queryRowsServer(() -> 95, queries);
+        try (var rows = paginator(QueryTailerTest.client(server), "Total").setOffset(15).setLimit(12).stream()) {
+            assertArrayEquals(LongStream.rangeClosed(16, 27).toArray(), rows.mapToLong(QueryTailerTest.Row::getId).toArray());
+            assertEquals(2, queries.size());
+            assertTrue(queries.stream().anyMatch(query -> query.contains("skip=25") && query.contains("take=2")));
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.example;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpServer;
+import net.servicestack.client.IGet;
+import net.servicestack.client.IReturn;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+public class QueryTailerTest {
+
+    static class QueryRows implements IReturn<QueryRowsResponse>, IGet {
+        Integer skip;
+        Integer take;
+        String orderBy;
+        String fields;
+        String include;
+
+        public QueryRows setSkip(Integer value) { this.skip = value; return this; }
+        public QueryRows setTake(Integer value) { this.take = value; return this; }
+        public QueryRows setOrderBy(String value) { this.orderBy = value; return this; }
+        public QueryRows setFields(String value) { this.fields = value; return this; }
+        public QueryRows setInclude(String value) { this.include = value; return this; }
+        public Object getResponseType() { return QueryRowsResponse.class; }
+    }
+
+    static class Row {
+        Long id;
+        String name;
+        Integer statusCode;
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public Integer getStatusCode() { return statusCode; }
+    }
+
+    static class QueryRowsResponse {
+        Integer offset;
+        Integer total;
+        ArrayList<Row> results = new ArrayList<>();
+
+        public Integer getOffset() { return offset; }
+        public Integer getTotal() { return total; }
+        public ArrayList<Row> getResults() { return results; }
+    }
+
+    static HashMap<String, String> queryParams(String query) {
+        var to = new HashMap<String, String>();
+        if (query == null)
+            return to;
+        for (var pair : query.split("&")) {
+            var parts = pair.split("=", 2);
+            to.put(URLDecoder.decode(parts[0], StandardCharsets.UTF_8).toLowerCase(),
+                parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "");
+        }
+        return to;
+    }
+
+    /**
+     * Serves /api/QueryRows over rows 1..rowCount ordered by Id, supporting Skip, Take, IdAbove, Fields and Include=Total
+     */
+    static HttpServer queryRowsServer(IntSupplier rowCount, Queue<String> queries) throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/QueryRows", ex -> {
+            var query = ex.getRequestURI().getRawQuery();
+            queries.add(query != null ? query : "");
+            var params = queryParams(query);
+            var count = rowCount.getAsInt();
+            var from = params.containsKey("idabove") ? Integer.parseInt(params.get("idabove")) + 1 : 1;
+            from += params.containsKey("skip") ? Integer.parseInt(params.get("skip")) : 0;
+            var take = params.containsKey("take") ? Integer.parseInt(params.get("take")) : count;
+            var fields = params.containsKey("fields") ? List.of(params.get("fields").toLowerCase().split(",")) : null;
+
+            var results = new JsonArray();
+            for (var id = from; id <= count && id < from + take; id++) {
+                var row = new JsonObject();
+                if (fields == null || fields.contains("id")) row.addProperty("id", id);
+                if (fields == null || fields.contains("name")) row.addProperty("name", "Row " + id);
+                if (fields == null || fields.contains("statuscode")) row.addProperty("statusCode", id % 5 == 0 ? 500 : 200);
+                results.add(row);
+            }
+            var body = new JsonObject();
+            body.addProperty("offset", params.containsKey("skip") ? Integer.parseInt(params.get("skip")) : 0);
+            if ("Total".equalsIgnoreCase(params.get("include")))
+                body.addProperty("total", count);
+            body.add("results", results);
+
+            var bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(200, bytes.length);
+            ex.getResponseBody().write(bytes);
+            ex.close();
+        });
+        server.start();
+        return server;
+    }
+
+    static AsyncServiceClient client(HttpServer server) {
+        return new AsyncServiceClient("http://localhost:" + server.getAddress().getPort());
+    }
+
+    static QueryTailer<QueryRowsResponse, Row> tailer(AsyncServiceClient client) {
+        return QueryTailer.query(client, QueryRows::new, QueryRowsResponse::getResults, Row::getId)
+            .setPageSize(10)
+            .setPollInterval(Duration.ofMillis(20));
+    }
+
+    @Test public void resumes_after_the_last_row_taken_from_the_checkpoint() throws Exception {
+        var rowCount = new AtomicInteger(25);
+        var queries = new ConcurrentLinkedQueue<String>();
+        var server = queryRowsServer(rowCount::get, queries);
+        var path = Files.createTempFile("query-tailer", ".checkpoint");
+        Files.delete(path);
+        try {
+            var checkpoint = KeysetPaginator.Checkpoint.file(path);
+            try (var tailer = tailer(client(server)).setCheckpoint(checkpoint).start()) {
+                for (var id = 1L; id <= 15; id++) {
+                    assertEquals(Long.valueOf(id), tailer.take().getId());
+                }
+            }
+            assertEquals(Long.valueOf(15), checkpoint.load());
+            assertTrue(queries.peek(), queries.peek().contains("orderBy=Id"));
+            assertFalse(queries.peek(), queries.peek().contains("IdAbove"));
+
+            // rows queued but not taken before closing and rows added whilst stopped are fetched after a restart
+            rowCount.set(30);
+            queries.clear();
+            try (var tailer = tailer(client(server)).setCheckpoint(checkpoint).start()) {
+                for (var id = 16L; id <= 30; id++) {
+                    assertEquals(Long.valueOf(id), tailer.take().getId());
+                }
+                assertEquals(Long.valueOf(30), tailer.getLastTakenKey());
+            }
+            // a poll of the closed tailer may still arrive, but the restarted tailer never fetches from the start
+            assertTrue(queries.toString(), queries.stream().allMatch(query -> query.contains("IdAbove=")));
+            assertTrue(queries.toString(), queries.stream().anyMatch(query -> query.contains("IdAbove=15")));
+            assertEquals(Long.valueOf(30), checkpoint.load());
+        } finally {
+            Files.deleteIfExists(path);
+            server.stop(0);
+        }
+    }
+
+    @Test public void close_wakes_consumers_waiting_for_rows() throws Exception {
+        var server = queryRowsServer(() -> 0, new ConcurrentLinkedQueue<>());
+        try {
+            var tailer = tailer(client(server)).start();
+            var error = new AtomicReference<Throwable>();
+            var consumer = Thread.ofVirtual().start(() -> {
+                try {
+                    tailer.take();
+                } catch (Throwable e) {
+                    error.set(e);
+                }
+            });
+            Thread.sleep(100);
+            assertTrue(consumer.isAlive());
+
+            tailer.close();
+            consumer.join(Duration.ofSeconds(10));
+            assertFalse(consumer.isAlive());
+            assertTrue(error.get() instanceof IllegalStateException);
+            assertEquals(0, tailer.getQueued());
+            try {
+                tailer.poll(Duration.ofMillis(10));
+                fail("Expected IllegalStateException");
+            } catch (IllegalStateException expected) {
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example;
+
+import com.sun.net.httpserver.HttpServer;
+import net.servicestack.client.IGet;
+import net.servicestack.client.IReturn;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ResponseCacheTest {
+
+    static class Echo implements IReturn<EchoResponse>, IGet {
+        String name;
+        public Object getResponseType() { return EchoResponse.class; }
+    }
+
+    static class EchoResponse {
+        String apiKey;
+        Integer count;
+    }
+
+    static HttpRequest request(String... headers) {
+        return HttpRequest.newBuilder(URI.create("https://localhost/api/Echo?name=a")).headers(headers).GET().build();
+    }
+
+    static HttpHeaders headers(Map<String, List<String>> headers) {
+        return HttpHeaders.of(headers, (name, value) -> true);
+    }
+
+    @Test public void request_key_includes_every_request_header() {
+        var key = AsyncServiceClient.getRequestKey(request("X-Api-Key", "ak-1", "Cookie", "ss-tok=a"));
+        assertEquals(key, AsyncServiceClient.getRequestKey(request("cookie", "ss-tok=a", "x-api-key", "ak-1")));
+        assertFalse(key.equals(AsyncServiceClient.getRequestKey(request("X-Api-Key", "ak-2", "Cookie", "ss-tok=a"))));
+        assertFalse(key.equals(AsyncServiceClient.getRequestKey(request("X-Api-Key", "ak-1", "Cookie", "ss-tok=b"))));
+        assertFalse(key.equals(AsyncServiceClient.getRequestKey(request("X-Api-Key", "ak-1", "Cookie", "ss-tok=a", "X-Tenant", "acme"))));
+    }
+
+    @Test public void does_not_cache_responses_that_vary_on_everything() {
+        var cache = new ResponseCache();
+        cache.put("a", "{}", headers(Map.of("Cache-Control", List.of("max-age=60"), "Vary", List.of("Accept-Encoding, *"))));
+        assertNull(cache.get("a"));
+
+        cache.put("b", "{}", headers(Map.of("Cache-Control", List.of("max-age=60"), "Vary", List.of("Accept-Language"))));
+        assertNotNull(cache.get("b"));
+    }
+
+    @Test public void caches_responses_separately_for_headers_added_by_the_requestFilter() throws IOException {
+        var calls = new AtomicInteger();
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/Echo", ex -> {
+            var body = "{\"apiKey\":\"" + ex.getRequestHeaders().getFirst("X-Api-Key") + "\",\"count\":" + calls.incrementAndGet() + "}";
+            var bytes = body.getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.getResponseHeaders().add("Cache-Control", "max-age=60");
+            ex.sendResponseHeaders(200, bytes.length);
+            ex.getResponseBody().write(bytes);
+            ex.close();
+        });
+        server.start();
+        try {
+            var apiKey = new String[]{ "ak-1" };
+            var client = new AsyncServiceClient("http://localhost:" + server.getAddress().getPort())
+                .setResponseCache(new ResponseCache())
+                .setRequestFilter(req -> req.header("X-Api-Key", apiKey[0]));
+
+            assertEquals("ak-1", client.send(new Echo()).apiKey);
+            assertEquals(Integer.valueOf(1), client.send(new Echo()).count);
+
+            apiKey[0] = "ak-2";
+            var response = client.send(new Echo());
+            assertEquals("ak-2", response.apiKey);
+            assertEquals(Integer.valueOf(2), response.count);
+            assertEquals(2, calls.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
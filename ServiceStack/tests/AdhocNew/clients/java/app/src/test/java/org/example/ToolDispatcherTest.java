@@ -0,0 +1,48 @@
+package org.example;
+
+import com.google.gson.Gson;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ToolDispatcherTest {
+
+    static dtos.ToolCall toolCall(String id, String name, String arguments) {
+        return new dtos.ToolCall().setId(id).setType("function")
+            .setFunction(new dtos.ToolFunction().setName(name).setArguments(arguments));
+    }
+
+    static dtos.ChatResponse response(dtos.ToolCall... toolCalls) {
+        var response = new dtos.ChatResponse();
+        response.choices = new ArrayList<>(List.of(new dtos.Choice().setIndex(0)
+            .setMessage(new dtos.ChoiceMessage().setRole("assistant").setToolCalls(new ArrayList<>(List.of(toolCalls))))));
+        return response;
+    }
+
+    static String text(dtos.AiMessage message) {
+        return ((dtos.AiTextContent) message.content.get(0)).text;
+    }
+
+    @Test public void adds_tool_results_to_a_request_without_messages() {
+        var tools = new ToolDispatcher(new Gson())
+            .register("echo", args -> args)
+            .register("fail", args -> { throw new IllegalArgumentException("bad args"); });
+
+        var request = new dtos.ChatCompletion().setModel("gpt-4.1").setMessages(null);
+
+        tools.addToolResults(request, response(
+            toolCall("1", "echo", "{\"a\":1}"),
+            toolCall("2", "fail", "{}"),
+            toolCall("3", "missing", "{}")));
+
+        assertEquals(4, request.messages.size());
+        assertEquals("assistant", request.messages.get(0).role);
+        assertEquals(3, request.messages.get(0).toolCalls.size());
+        assertEquals("1", request.messages.get(1).toolCallId);
+        assertEquals("{\"a\":1}", text(request.messages.get(1)));
+        assertEquals("Error: bad args", text(request.messages.get(2)));
+        assertEquals("Error: Unknown tool 'missing'", text(request.messages.get(3)));
+    }
+}
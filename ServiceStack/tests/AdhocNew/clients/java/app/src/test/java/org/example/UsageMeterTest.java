@@ -0,0 +1,93 @@
+package org.example;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+public class UsageMeterTest {
+
+    static dtos.ChatCompletion request(String tenant) {
+        return new dtos.ChatCompletion().setModel("gpt-4.1").setMetadata(new HashMap<>(Map.of("tenant", tenant)))
+            .setMessages(new ArrayList<>());
+    }
+
+    static dtos.ChatResponse response(long promptTokens, long completionTokens) {
+        var response = new dtos.ChatResponse();
+        response.model = "gpt-4.1";
+        response.provider = "openai";
+        response.usage = new dtos.AiUsage();
+        response.usage.promptTokens = promptTokens;
+        response.usage.completionTokens = completionTokens;
+        response.usage.totalTokens = promptTokens + completionTokens;
+        return response;
+    }
+
+    @Test public void drain_returns_usage_since_the_last_drain() {
+        var meter = new UsageMeter();
+        meter.record(request("acme"), response(10, 5));
+        meter.record(request("acme"), response(20, 5));
+        meter.record(request("initech"), response(1, 1));
+
+        var drained = meter.drain();
+        assertEquals(2, drained.size());
+        assertEquals("acme", drained.get(0).tenant());
+        assertEquals(2, drained.get(0).requests());
+        assertEquals(40, drained.get(0).totalTokens());
+        assertEquals(0, meter.drain().size());
+
+        meter.record(request("acme"), response(3, 4));
+        drained = meter.drain();
+        assertEquals(1, drained.size());
+        assertEquals(7, drained.get(0).totalTokens());
+    }
+
+    @Test public void usage_is_only_empty_without_any_counts() {
+        assertTrue(new UsageMeter.Usage("acme", null, null, 0, 0, 0, 0, 0, 0, 0).isEmpty());
+        assertFalse(new UsageMeter.Usage("acme", null, null, 0, 10, 0, 10, 0, 0, 0).isEmpty());
+        assertFalse(new UsageMeter.Usage("acme", null, null, 0, 0, 0, 0, 0, 0, 0.5).isEmpty());
+    }
+
+    @Test public void records_the_usage_of_streamed_completions() throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(ChatStreamClient.ChatCompletionsPath, ex -> {
+            var body = """
+                data: {"id":"1","model":"gpt-4.1","provider":"openai","choices":[{"index":0,"delta":{"role":"assistant","content":"Hi"}}]}
+
+                data: {"id":"1","choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}
+
+                data: {"id":"1","choices":[],"usage":{"prompt_tokens":12,"completion_tokens":3,"total_tokens":15}}
+
+                data: [DONE]
+
+                """;
+            var bytes = body.getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().add("Content-Type", "text/event-stream");
+            ex.sendResponseHeaders(200, bytes.length);
+            ex.getResponseBody().write(bytes);
+            ex.close();
+        });
+        server.start();
+        try {
+            var meter = new UsageMeter();
+            var client = new ChatStreamClient("http://localhost:" + server.getAddress().getPort()).setUsageMeter(meter);
+            try (var stream = client.stream(request("acme"))) {
+                assertEquals("Hi", stream.getResponse().choices.get(0).message.content);
+            }
+
+            var usage = meter.getTenantUsage("acme");
+            assertEquals(1, usage.requests());
+            assertEquals(12, usage.promptTokens());
+            assertEquals(15, usage.totalTokens());
+            assertEquals("openai", meter.snapshot().get(0).provider());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
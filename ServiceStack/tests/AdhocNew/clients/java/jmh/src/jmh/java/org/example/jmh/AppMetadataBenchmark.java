@@ -0,0 +1,40 @@
+package org.example.jmh;
+
+import com.google.gson.Gson;
+import org.example.AsyncServiceClient;
+import org.example.jmh.metadata.dtos.AppMetadata;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AppMetadata returned by MetadataApp for an App with 200 APIs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AppMetadataBenchmark {
+    @Param({"200"})
+    int operations;
+
+    Gson gson;
+    AppMetadata metadata;
+    String json;
+
+    @Setup
+    public void setup() {
+        gson = AsyncServiceClient.createGsonBuilder().create();
+        metadata = Payloads.appMetadata(operations);
+        json = gson.toJson(metadata);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return gson.toJson(metadata);
+    }
+
+    @Benchmark
+    public AppMetadata deserialize() {
+        return gson.fromJson(json, AppMetadata.class);
+    }
+}
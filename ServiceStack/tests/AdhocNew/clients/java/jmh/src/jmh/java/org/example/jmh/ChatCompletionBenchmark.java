@@ -0,0 +1,37 @@
+package org.example.jmh;
+
+import com.google.gson.Gson;
+import org.example.AsyncServiceClient;
+import org.example.dtos;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multimodal ChatCompletion request with text, image_url, input_audio and file AiContent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChatCompletionBenchmark {
+    Gson gson;
+    dtos.ChatCompletion request;
+    String json;
+
+    @Setup
+    public void setup() {
+        gson = AsyncServiceClient.createGsonBuilder().create();
+        request = Payloads.chatCompletion();
+        json = gson.toJson(request);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return gson.toJson(request);
+    }
+
+    @Benchmark
+    public dtos.ChatCompletion deserialize() {
+        return gson.fromJson(json, dtos.ChatCompletion.class);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.jmh;
+
+import com.google.gson.Gson;
+import org.example.AsyncServiceClient;
+import org.example.CompactLogprobs;
+import org.example.dtos;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100 Choice ChatResponse with logprobs, comparing boxed LogprobItem's against CompactLogprobs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ChatResponseBenchmark {
+    @Param({"100"})
+    int choices;
+
+    @Param({"64"})
+    int tokens;
+
+    @Param({"5"})
+    int topLogprobs;
+
+    Gson gson;
+    Gson compactGson;
+    dtos.ChatResponse response;
+    String json;
+
+    @Setup
+    public void setup() {
+        gson = AsyncServiceClient.createGsonBuilder().create();
+        compactGson = CompactLogprobs.register(AsyncServiceClient.createGsonBuilder()).create();
+        response = Payloads.chatResponse(choices, tokens, topLogprobs);
+        json = gson.toJson(response);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return gson.toJson(response);
+    }
+
+    @Benchmark
+    public dtos.ChatResponse deserialize() {
+        return gson.fromJson(json, dtos.ChatResponse.class);
+    }
+
+    @Benchmark
+    public dtos.ChatResponse deserializeCompactLogprobs() {
+        return compactGson.fromJson(json, dtos.ChatResponse.class);
+    }
+}
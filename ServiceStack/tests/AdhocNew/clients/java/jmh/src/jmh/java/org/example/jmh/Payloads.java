@@ -0,0 +1,187 @@
+package org.example.jmh;
+
+import org.example.dtos;
+import org.example.jmh.metadata.dtos.AppInfo;
+import org.example.jmh.metadata.dtos.AppMetadata;
+import org.example.jmh.metadata.dtos.MetadataOperationType;
+import org.example.jmh.metadata.dtos.MetadataPropertyType;
+import org.example.jmh.metadata.dtos.MetadataRoute;
+import org.example.jmh.metadata.dtos.MetadataType;
+import org.example.jmh.metadata.dtos.MetadataTypes;
+import org.example.jmh.metadata.dtos.QueryResponse;
+import org.example.jmh.metadata.dtos.RequestLog;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Representative benchmark payloads built from generated DTOs so benchmarks never measure hand-copied types.
+ * The AI types come from the sample's dtos.java, the RequestLog, QueryResponse and AppMetadata types from
+ * metadata/dtos.java generated with IncludeTypes: MetadataApp.*,AdminQueryRequestLogs.*
+ */
+public class Payloads {
+    static final String Lorem = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. ";
+
+    /** A multimodal ChatCompletion with text, image, audio and file content */
+    public static dtos.ChatCompletion chatCompletion() {
+        var messages = new ArrayList<dtos.AiMessage>();
+        messages.add(new dtos.AiMessage()
+            .setRole("system")
+            .setContent(list(new dtos.AiTextContent().setText(Lorem.repeat(4)).setType("text"))));
+        for (var i = 0; i < 8; i++) {
+            messages.add(new dtos.AiMessage()
+                .setRole(i % 2 == 0 ? "user" : "assistant")
+                .setContent(list(
+                    new dtos.AiTextContent().setText(Lorem.repeat(2)).setType("text"),
+                    new dtos.AiImageContent().setImageUrl(new dtos.AiImageUrl().setUrl("https://example.org/images/" + i + ".png")).setType("image_url"),
+                    new dtos.AiAudioContent().setInputAudio(new dtos.AiInputAudio().setData(base64(4 * 1024, i)).setFormat("wav")).setType("input_audio"),
+                    new dtos.AiFileContent().setFile(new dtos.AiFile().setFilename("doc" + i + ".pdf").setFileData(base64(2 * 1024, i))).setType("file"))));
+        }
+        return new dtos.ChatCompletion()
+            .setModel("openai/gpt-oss-120b")
+            .setMessages(messages)
+            .setTemperature(0.7)
+            .setMaxCompletionTokens(4096)
+            .setLogprobs(true)
+            .setTopLogprobs(5);
+    }
+
+    /** A ChatResponse with choices Choice's each with tokens logprobs and topLogprobs alternatives */
+    public static dtos.ChatResponse chatResponse(int choices, int tokens, int topLogprobs) {
+        var random = new Random(42);
+        var to = new ArrayList<dtos.Choice>();
+        for (var c = 0; c < choices; c++) {
+            var items = new ArrayList<dtos.LogprobItem>(tokens);
+            var content = new StringBuilder();
+            for (var t = 0; t < tokens; t++) {
+                var token = "tok" + (t % 97);
+                content.append(token);
+                var tops = new ArrayList<dtos.LogprobItem>(topLogprobs);
+                for (var k = 0; k < topLogprobs; k++) {
+                    tops.add(new dtos.LogprobItem()
+                        .setToken("alt" + k)
+                        .setLogprob(-random.nextDouble() * 10)
+                        .setBytes(("alt" + k).getBytes())
+                        .setTopLogprobs(new ArrayList<>()));
+                }
+                items.add(new dtos.LogprobItem()
+                    .setToken(token)
+                    .setLogprob(-random.nextDouble())
+                    .setBytes(token.getBytes())
+                    .setTopLogprobs(tops));
+            }
+            to.add(new dtos.Choice()
+                .setIndex(c)
+                .setFinishReason("stop")
+                .setMessage(new dtos.ChoiceMessage().setRole("assistant").setContent(content.toString()))
+                .setLogprobs(new dtos.Logprobs().setContent(items)));
+        }
+        return new dtos.ChatResponse()
+            .setId("chatcmpl-benchmark")
+            .setModel("openai/gpt-oss-120b")
+            .setCreated(1735689600L)
+            .setObject("chat.completion")
+            .setChoices(to)
+            .setUsage(new dtos.AiUsage().setPromptTokens(512L).setCompletionTokens((long) choices * tokens).setTotalTokens(512L + (long) choices * tokens));
+    }
+
+    /** A page of rows RequestLog's as returned by AdminQueryRequestLogs */
+    public static QueryResponse<RequestLog> requestLogs(int rows) {
+        var results = new ArrayList<RequestLog>(rows);
+        for (var i = 0; i < rows; i++) {
+            var headers = new HashMap<String,String>();
+            headers.put("Content-Type", "application/json");
+            headers.put("User-Agent", "Java/21");
+            headers.put("Accept", "application/json");
+            var items = new HashMap<String,String>();
+            items.put("_requestDurationStopwatch", "42");
+            results.add(new RequestLog()
+                .setId((long) i)
+                .setTraceId("trace-" + i)
+                .setOperationName("ChatCompletion")
+                .setDateTime(new Date(1735689600000L + i * 1000L))
+                .setStatusCode(200)
+                .setHttpMethod("POST")
+                .setAbsoluteUri("https://localhost:5001/api/ChatCompletion")
+                .setPathInfo("/api/ChatCompletion")
+                .setRequestBody("{\"model\":\"openai/gpt-oss-120b\",\"messages\":[{\"role\":\"user\",\"content\":\"" + Lorem + "\"}]}")
+                .setUserAuthId("1")
+                .setSessionId("session-" + (i % 50))
+                .setIpAddress("10.0.0." + (i % 255))
+                .setReferer("https://localhost:5001/chat")
+                .setHeaders(headers)
+                .setItems(items)
+                .setResponseBody("{\"id\":\"chatcmpl-" + i + "\",\"choices\":[{\"message\":{\"content\":\"" + Lorem + "\"}}]}"));
+        }
+        return new QueryResponse<RequestLog>()
+            .setOffset(0)
+            .setTotal(rows * 30)
+            .setResults(results);
+    }
+
+    /** AppMetadata returned by MetadataApp for an App with operations APIs */
+    public static AppMetadata appMetadata(int operations) {
+        var contentTypeFormats = new HashMap<String,String>();
+        contentTypeFormats.put("application/json", "json");
+        contentTypeFormats.put("text/csv", "csv");
+        var api = new MetadataTypes()
+            .setNamespaces(list("MyApp", "MyApp.ServiceModel", "ServiceStack"))
+            .setTypes(new ArrayList<>())
+            .setOperations(new ArrayList<>());
+        for (var i = 0; i < operations; i++) {
+            api.types.add(type("Type" + i, 12, i));
+            var method = i % 2 == 0 ? "GET" : "POST";
+            api.operations.add(new MetadataOperationType()
+                .setRequest(type("Query" + i, 8, i))
+                .setResponse(type("Query" + i + "Response", 4, i))
+                .setActions(list("GET", "POST"))
+                .setMethod(method)
+                .setReturnsVoid(false)
+                .setRoutes(list(new MetadataRoute().setPath("/query" + i + "/{Id}").setVerbs(method)))
+                .setTags(list("tag" + (i % 5))));
+        }
+        return new AppMetadata()
+            .setDate(new Date(1735689600000L))
+            .setApp(new AppInfo()
+                .setBaseUrl("https://localhost:5001")
+                .setServiceStackVersion("10.0")
+                .setServiceName("Benchmark")
+                .setJsTextCase("CamelCase"))
+            .setContentTypeFormats(contentTypeFormats)
+            .setHttpHandlers(new HashMap<>())
+            .setApi(api);
+    }
+
+    static MetadataType type(String name, int props, int seed) {
+        var properties = new ArrayList<MetadataPropertyType>(props);
+        for (var p = 0; p < props; p++) {
+            var prop = "Property" + p;
+            properties.add(new MetadataPropertyType()
+                .setName(prop)
+                .setType(p % 3 == 0 ? "String" : p % 3 == 1 ? "Int32" : "List`1")
+                .setGenericArgs(p % 3 == 2 ? list("String") : null)
+                .setIsValueType(p % 3 == 1 ? true : null)
+                .setIsRequired((p + seed) % 4 == 0 ? true : null)
+                .setDescription(p % 2 == 0 ? "The " + prop : null));
+        }
+        return new MetadataType()
+            .setName(name)
+            .setNamespace("MyApp.ServiceModel")
+            .setDescription("Description of " + name)
+            .setProperties(properties);
+    }
+
+    @SafeVarargs
+    static <T> ArrayList<T> list(T... items) {
+        return new ArrayList<>(List.of(items));
+    }
+
+    static String base64(int bytes, int seed) {
+        var data = new byte[bytes];
+        new Random(seed).nextBytes(data);
+        return java.util.Base64.getEncoder().encodeToString(data);
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.jmh;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.example.AsyncServiceClient;
+import org.example.jmh.metadata.dtos.QueryResponse;
+import org.example.jmh.metadata.dtos.RequestLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page of 1000 RequestLog rows as returned by AdminQueryRequestLogs
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class QueryResponseBenchmark {
+    static final Type ResponseType = new TypeToken<QueryResponse<RequestLog>>(){}.getType();
+
+    @Param({"1000"})
+    int rows;
+
+    Gson gson;
+    QueryResponse<RequestLog> response;
+    String json;
+
+    @Setup
+    public void setup() {
+        gson = AsyncServiceClient.createGsonBuilder().create();
+        response = Payloads.requestLogs(rows);
+        json = gson.toJson(response, ResponseType);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return gson.toJson(response, ResponseType);
+    }
+
+    @Benchmark
+    public QueryResponse<RequestLog> deserialize() {
+        return gson.fromJson(json, ResponseType);
+    }
+}
@@ -0,0 +1,1755 @@
+/* Options:
+Date: 2025-11-06 11:47:32
+Version: 8.91
+Tip: To override a DTO option, remove "//" prefix before updating
+BaseUrl: http://localhost:20000
+
+Package: org.example.jmh.metadata
+//GlobalNamespace: dtos
+//AddPropertyAccessors: True
+//SettersReturnThis: True
+//AddServiceStackTypes: True
+//AddResponseStatus: False
+//AddDescriptionAsComments: True
+//AddImplicitVersion: 
+IncludeTypes: MetadataApp.*,AdminQueryRequestLogs.*
+//ExcludeTypes: 
+//TreatTypesAsStrings: 
+//DefaultImports: java.math.*,java.util.*,java.io.InputStream,net.servicestack.client.*,com.google.gson.annotations.*,com.google.gson.reflect.*
+*/
+
+package org.example.jmh.metadata;
+
+import java.math.*;
+import java.util.*;
+import java.io.InputStream;
+import net.servicestack.client.*;
+import com.google.gson.annotations.*;
+import com.google.gson.reflect.*;
+
+public class dtos
+{
+
+    @Route(Path="/metadata/app")
+    @DataContract
+    public static class MetadataApp implements IReturn<AppMetadata>, IGet
+    {
+        @DataMember(Order=1)
+        public String view = null;
+
+        @DataMember(Order=2)
+        public ArrayList<String> includeTypes = null;
+        
+        public String getView() { return view; }
+        public MetadataApp setView(String value) { this.view = value; return this; }
+        public ArrayList<String> getIncludeTypes() { return includeTypes; }
+        public MetadataApp setIncludeTypes(ArrayList<String> value) { this.includeTypes = value; return this; }
+        private static Object responseType = AppMetadata.class;
+        public Object getResponseType() { return responseType; }
+    }
+
+    public static class AdminQueryRequestLogs extends QueryDb<RequestLog> implements IReturn<QueryResponse<RequestLog>>
+    {
+        public Date month = null;
+        
+        public Date getMonth() { return month; }
+        public AdminQueryRequestLogs setMonth(Date value) { this.month = value; return this; }
+        private static Object responseType = new TypeToken<QueryResponse<RequestLog>>(){}.getType();
+        public Object getResponseType() { return responseType; }
+    }
+
+    public static class AppMetadata
+    {
+        public Date date = null;
+        public AppInfo app = null;
+        public UiInfo ui = null;
+        public ConfigInfo config = null;
+        public HashMap<String,String> contentTypeFormats = null;
+        public HashMap<String,String> httpHandlers = null;
+        public PluginInfo plugins = null;
+        public HashMap<String,CustomPluginInfo> customPlugins = null;
+        public MetadataTypes api = null;
+        public HashMap<String,String> meta = null;
+        
+        public Date getDate() { return date; }
+        public AppMetadata setDate(Date value) { this.date = value; return this; }
+        public AppInfo getApp() { return app; }
+        public AppMetadata setApp(AppInfo value) { this.app = value; return this; }
+        public UiInfo getUi() { return ui; }
+        public AppMetadata setUi(UiInfo value) { this.ui = value; return this; }
+        public ConfigInfo getConfig() { return config; }
+        public AppMetadata setConfig(ConfigInfo value) { this.config = value; return this; }
+        public HashMap<String,String> getContentTypeFormats() { return contentTypeFormats; }
+        public AppMetadata setContentTypeFormats(HashMap<String,String> value) { this.contentTypeFormats = value; return this; }
+        public HashMap<String,String> getHttpHandlers() { return httpHandlers; }
+        public AppMetadata setHttpHandlers(HashMap<String,String> value) { this.httpHandlers = value; return this; }
+        public PluginInfo getPlugins() { return plugins; }
+        public AppMetadata setPlugins(PluginInfo value) { this.plugins = value; return this; }
+        public HashMap<String,CustomPluginInfo> getCustomPlugins() { return customPlugins; }
+        public AppMetadata setCustomPlugins(HashMap<String,CustomPluginInfo> value) { this.customPlugins = value; return this; }
+        public MetadataTypes getApi() { return api; }
+        public AppMetadata setApi(MetadataTypes value) { this.api = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public AppMetadata setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    @DataContract
+    public static class QueryResponse<T>
+    {
+        @DataMember(Order=1)
+        public Integer offset = null;
+
+        @DataMember(Order=2)
+        public Integer total = null;
+
+        @DataMember(Order=3)
+        public ArrayList<T> results = new ArrayList<T>();
+
+        @DataMember(Order=4)
+        public HashMap<String,String> meta = null;
+
+        @DataMember(Order=5)
+        public ResponseStatus responseStatus = null;
+        
+        public Integer getOffset() { return offset; }
+        public QueryResponse<T> setOffset(Integer value) { this.offset = value; return this; }
+        public Integer getTotal() { return total; }
+        public QueryResponse<T> setTotal(Integer value) { this.total = value; return this; }
+        public ArrayList<T> getResults() { return results; }
+        public QueryResponse<T> setResults(ArrayList<T> value) { this.results = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public QueryResponse<T> setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+        public ResponseStatus getResponseStatus() { return responseStatus; }
+        public QueryResponse<T> setResponseStatus(ResponseStatus value) { this.responseStatus = value; return this; }
+    }
+
+    public static class QueryDb<T> extends QueryBase
+    {
+        
+    }
+
+    public static class RequestLog
+    {
+        public Long id = null;
+        public String traceId = null;
+        public String operationName = null;
+        public Date dateTime = null;
+        public Integer statusCode = null;
+        public String statusDescription = null;
+        public String httpMethod = null;
+        public String absoluteUri = null;
+        public String pathInfo = null;
+        public String request = null;
+        @StringLength(MaximumLength=2147483647)
+        public String requestBody = null;
+
+        public String userAuthId = null;
+        public String sessionId = null;
+        public String ipAddress = null;
+        public String forwardedFor = null;
+        public String referer = null;
+        public HashMap<String,String> headers = new HashMap<String,String>();
+        public HashMap<String,String> formData = null;
+        public HashMap<String,String> items = new HashMap<String,String>();
+        public HashMap<String,String> responseHeaders = null;
+        public String response = null;
+        @StringLength(MaximumLength=2147483647)
+        public String responseBody = null;
+
+        @StringLength(MaximumLength=2147483647)
+        public String sessionBody = null;
+
+        public ResponseStatus error = null;
+        public String exceptionSource = null;
+        public String exceptionDataBody = null;
+        public TimeSpan requestDuration = null;
+        public HashMap<String,String> meta = null;
+        
+        public Long getId() { return id; }
+        public RequestLog setId(Long value) { this.id = value; return this; }
+        public String getTraceId() { return traceId; }
+        public RequestLog setTraceId(String value) { this.traceId = value; return this; }
+        public String getOperationName() { return operationName; }
+        public RequestLog setOperationName(String value) { this.operationName = value; return this; }
+        public Date getDateTime() { return dateTime; }
+        public RequestLog setDateTime(Date value) { this.dateTime = value; return this; }
+        public Integer getStatusCode() { return statusCode; }
+        public RequestLog setStatusCode(Integer value) { this.statusCode = value; return this; }
+        public String getStatusDescription() { return statusDescription; }
+        public RequestLog setStatusDescription(String value) { this.statusDescription = value; return this; }
+        public String getHttpMethod() { return httpMethod; }
+        public RequestLog setHttpMethod(String value) { this.httpMethod = value; return this; }
+        public String getAbsoluteUri() { return absoluteUri; }
+        public RequestLog setAbsoluteUri(String value) { this.absoluteUri = value; return this; }
+        public String getPathInfo() { return pathInfo; }
+        public RequestLog setPathInfo(String value) { this.pathInfo = value; return this; }
+        public String getRequest() { return request; }
+        public RequestLog setRequest(String value) { this.request = value; return this; }
+        public String getRequestBody() { return requestBody; }
+        public RequestLog setRequestBody(String value) { this.requestBody = value; return this; }
+        public String getUserAuthId() { return userAuthId; }
+        public RequestLog setUserAuthId(String value) { this.userAuthId = value; return this; }
+        public String getSessionId() { return sessionId; }
+        public RequestLog setSessionId(String value) { this.sessionId = value; return this; }
+        public String getIpAddress() { return ipAddress; }
+        public RequestLog setIpAddress(String value) { this.ipAddress = value; return this; }
+        public String getForwardedFor() { return forwardedFor; }
+        public RequestLog setForwardedFor(String value) { this.forwardedFor = value; return this; }
+        public String getReferer() { return referer; }
+        public RequestLog setReferer(String value) { this.referer = value; return this; }
+        public HashMap<String,String> getHeaders() { return headers; }
+        public RequestLog setHeaders(HashMap<String,String> value) { this.headers = value; return this; }
+        public HashMap<String,String> getFormData() { return formData; }
+        public RequestLog setFormData(HashMap<String,String> value) { this.formData = value; return this; }
+        public HashMap<String,String> getItems() { return items; }
+        public RequestLog setItems(HashMap<String,String> value) { this.items = value; return this; }
+        public HashMap<String,String> getResponseHeaders() { return responseHeaders; }
+        public RequestLog setResponseHeaders(HashMap<String,String> value) { this.responseHeaders = value; return this; }
+        public String getResponse() { return response; }
+        public RequestLog setResponse(String value) { this.response = value; return this; }
+        public String getResponseBody() { return responseBody; }
+        public RequestLog setResponseBody(String value) { this.responseBody = value; return this; }
+        public String getSessionBody() { return sessionBody; }
+        public RequestLog setSessionBody(String value) { this.sessionBody = value; return this; }
+        public ResponseStatus getError() { return error; }
+        public RequestLog setError(ResponseStatus value) { this.error = value; return this; }
+        public String getExceptionSource() { return exceptionSource; }
+        public RequestLog setExceptionSource(String value) { this.exceptionSource = value; return this; }
+        public String getExceptionDataBody() { return exceptionDataBody; }
+        public RequestLog setExceptionDataBody(String value) { this.exceptionDataBody = value; return this; }
+        public TimeSpan getRequestDuration() { return requestDuration; }
+        public RequestLog setRequestDuration(TimeSpan value) { this.requestDuration = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public RequestLog setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class RedisEndpointInfo
+    {
+        public String host = null;
+        public Integer port = null;
+        public Boolean ssl = null;
+        public Long db = null;
+        public String username = null;
+        public String password = null;
+        
+        public String getHost() { return host; }
+        public RedisEndpointInfo setHost(String value) { this.host = value; return this; }
+        public Integer getPort() { return port; }
+        public RedisEndpointInfo setPort(Integer value) { this.port = value; return this; }
+        public Boolean isSsl() { return ssl; }
+        public RedisEndpointInfo setSsl(Boolean value) { this.ssl = value; return this; }
+        public Long getDb() { return db; }
+        public RedisEndpointInfo setDb(Long value) { this.db = value; return this; }
+        public String getUsername() { return username; }
+        public RedisEndpointInfo setUsername(String value) { this.username = value; return this; }
+        public String getPassword() { return password; }
+        public RedisEndpointInfo setPassword(String value) { this.password = value; return this; }
+    }
+
+    public static class AppInfo
+    {
+        public String baseUrl = null;
+        public String serviceStackVersion = null;
+        public String serviceName = null;
+        public String apiVersion = null;
+        public String serviceDescription = null;
+        public String serviceIconUrl = null;
+        public String brandUrl = null;
+        public String brandImageUrl = null;
+        public String textColor = null;
+        public String linkColor = null;
+        public String backgroundColor = null;
+        public String backgroundImageUrl = null;
+        public String iconUrl = null;
+        public String jsTextCase = null;
+        public String useSystemJson = null;
+        public ArrayList<String> endpointRouting = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getBaseUrl() { return baseUrl; }
+        public AppInfo setBaseUrl(String value) { this.baseUrl = value; return this; }
+        public String getServiceStackVersion() { return serviceStackVersion; }
+        public AppInfo setServiceStackVersion(String value) { this.serviceStackVersion = value; return this; }
+        public String getServiceName() { return serviceName; }
+        public AppInfo setServiceName(String value) { this.serviceName = value; return this; }
+        public String getApiVersion() { return apiVersion; }
+        public AppInfo setApiVersion(String value) { this.apiVersion = value; return this; }
+        public String getServiceDescription() { return serviceDescription; }
+        public AppInfo setServiceDescription(String value) { this.serviceDescription = value; return this; }
+        public String getServiceIconUrl() { return serviceIconUrl; }
+        public AppInfo setServiceIconUrl(String value) { this.serviceIconUrl = value; return this; }
+        public String getBrandUrl() { return brandUrl; }
+        public AppInfo setBrandUrl(String value) { this.brandUrl = value; return this; }
+        public String getBrandImageUrl() { return brandImageUrl; }
+        public AppInfo setBrandImageUrl(String value) { this.brandImageUrl = value; return this; }
+        public String getTextColor() { return textColor; }
+        public AppInfo setTextColor(String value) { this.textColor = value; return this; }
+        public String getLinkColor() { return linkColor; }
+        public AppInfo setLinkColor(String value) { this.linkColor = value; return this; }
+        public String getBackgroundColor() { return backgroundColor; }
+        public AppInfo setBackgroundColor(String value) { this.backgroundColor = value; return this; }
+        public String getBackgroundImageUrl() { return backgroundImageUrl; }
+        public AppInfo setBackgroundImageUrl(String value) { this.backgroundImageUrl = value; return this; }
+        public String getIconUrl() { return iconUrl; }
+        public AppInfo setIconUrl(String value) { this.iconUrl = value; return this; }
+        public String getJsTextCase() { return jsTextCase; }
+        public AppInfo setJsTextCase(String value) { this.jsTextCase = value; return this; }
+        public String getUseSystemJson() { return useSystemJson; }
+        public AppInfo setUseSystemJson(String value) { this.useSystemJson = value; return this; }
+        public ArrayList<String> getEndpointRouting() { return endpointRouting; }
+        public AppInfo setEndpointRouting(ArrayList<String> value) { this.endpointRouting = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public AppInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class UiInfo
+    {
+        public ImageInfo brandIcon = null;
+        public ImageInfo userIcon = null;
+        public ArrayList<String> hideTags = null;
+        public ArrayList<String> modules = null;
+        public ArrayList<String> alwaysHideTags = null;
+        public ArrayList<LinkInfo> adminLinks = null;
+        public ArrayList<String> adminLinksOrder = null;
+        public ThemeInfo theme = null;
+        public LocodeUi locode = null;
+        public ExplorerUi explorer = null;
+        public AdminUi admin = null;
+        public ApiFormat defaultFormats = null;
+        public HashMap<String,String> meta = null;
+        
+        public ImageInfo getBrandIcon() { return brandIcon; }
+        public UiInfo setBrandIcon(ImageInfo value) { this.brandIcon = value; return this; }
+        public ImageInfo getUserIcon() { return userIcon; }
+        public UiInfo setUserIcon(ImageInfo value) { this.userIcon = value; return this; }
+        public ArrayList<String> getHideTags() { return hideTags; }
+        public UiInfo setHideTags(ArrayList<String> value) { this.hideTags = value; return this; }
+        public ArrayList<String> getModules() { return modules; }
+        public UiInfo setModules(ArrayList<String> value) { this.modules = value; return this; }
+        public ArrayList<String> getAlwaysHideTags() { return alwaysHideTags; }
+        public UiInfo setAlwaysHideTags(ArrayList<String> value) { this.alwaysHideTags = value; return this; }
+        public ArrayList<LinkInfo> getAdminLinks() { return adminLinks; }
+        public UiInfo setAdminLinks(ArrayList<LinkInfo> value) { this.adminLinks = value; return this; }
+        public ArrayList<String> getAdminLinksOrder() { return adminLinksOrder; }
+        public UiInfo setAdminLinksOrder(ArrayList<String> value) { this.adminLinksOrder = value; return this; }
+        public ThemeInfo getTheme() { return theme; }
+        public UiInfo setTheme(ThemeInfo value) { this.theme = value; return this; }
+        public LocodeUi getLocode() { return locode; }
+        public UiInfo setLocode(LocodeUi value) { this.locode = value; return this; }
+        public ExplorerUi getExplorer() { return explorer; }
+        public UiInfo setExplorer(ExplorerUi value) { this.explorer = value; return this; }
+        public AdminUi getAdmin() { return admin; }
+        public UiInfo setAdmin(AdminUi value) { this.admin = value; return this; }
+        public ApiFormat getDefaultFormats() { return defaultFormats; }
+        public UiInfo setDefaultFormats(ApiFormat value) { this.defaultFormats = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public UiInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class ConfigInfo
+    {
+        public Boolean debugMode = null;
+        public HashMap<String,String> meta = null;
+        
+        public Boolean isDebugMode() { return debugMode; }
+        public ConfigInfo setDebugMode(Boolean value) { this.debugMode = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public ConfigInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class PluginInfo
+    {
+        public ArrayList<String> loaded = null;
+        public AuthInfo auth = null;
+        public ApiKeyInfo apiKey = null;
+        public CommandsInfo commands = null;
+        public AutoQueryInfo autoQuery = null;
+        public ValidationInfo validation = null;
+        public SharpPagesInfo sharpPages = null;
+        public RequestLogsInfo requestLogs = null;
+        public ProfilingInfo profiling = null;
+        public FilesUploadInfo filesUpload = null;
+        public AdminUsersInfo adminUsers = null;
+        public AdminIdentityUsersInfo adminIdentityUsers = null;
+        public AdminRedisInfo adminRedis = null;
+        public AdminDatabaseInfo adminDatabase = null;
+        public HashMap<String,String> meta = null;
+        
+        public ArrayList<String> getLoaded() { return loaded; }
+        public PluginInfo setLoaded(ArrayList<String> value) { this.loaded = value; return this; }
+        public AuthInfo getAuth() { return auth; }
+        public PluginInfo setAuth(AuthInfo value) { this.auth = value; return this; }
+        public ApiKeyInfo getApiKey() { return apiKey; }
+        public PluginInfo setApiKey(ApiKeyInfo value) { this.apiKey = value; return this; }
+        public CommandsInfo getCommands() { return commands; }
+        public PluginInfo setCommands(CommandsInfo value) { this.commands = value; return this; }
+        public AutoQueryInfo getAutoQuery() { return autoQuery; }
+        public PluginInfo setAutoQuery(AutoQueryInfo value) { this.autoQuery = value; return this; }
+        public ValidationInfo getValidation() { return validation; }
+        public PluginInfo setValidation(ValidationInfo value) { this.validation = value; return this; }
+        public SharpPagesInfo getSharpPages() { return sharpPages; }
+        public PluginInfo setSharpPages(SharpPagesInfo value) { this.sharpPages = value; return this; }
+        public RequestLogsInfo getRequestLogs() { return requestLogs; }
+        public PluginInfo setRequestLogs(RequestLogsInfo value) { this.requestLogs = value; return this; }
+        public ProfilingInfo getProfiling() { return profiling; }
+        public PluginInfo setProfiling(ProfilingInfo value) { this.profiling = value; return this; }
+        public FilesUploadInfo getFilesUpload() { return filesUpload; }
+        public PluginInfo setFilesUpload(FilesUploadInfo value) { this.filesUpload = value; return this; }
+        public AdminUsersInfo getAdminUsers() { return adminUsers; }
+        public PluginInfo setAdminUsers(AdminUsersInfo value) { this.adminUsers = value; return this; }
+        public AdminIdentityUsersInfo getAdminIdentityUsers() { return adminIdentityUsers; }
+        public PluginInfo setAdminIdentityUsers(AdminIdentityUsersInfo value) { this.adminIdentityUsers = value; return this; }
+        public AdminRedisInfo getAdminRedis() { return adminRedis; }
+        public PluginInfo setAdminRedis(AdminRedisInfo value) { this.adminRedis = value; return this; }
+        public AdminDatabaseInfo getAdminDatabase() { return adminDatabase; }
+        public PluginInfo setAdminDatabase(AdminDatabaseInfo value) { this.adminDatabase = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public PluginInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class CustomPluginInfo
+    {
+        public String accessRole = null;
+        public HashMap<String,ArrayList<String>> serviceRoutes = null;
+        public ArrayList<String> enabled = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getAccessRole() { return accessRole; }
+        public CustomPluginInfo setAccessRole(String value) { this.accessRole = value; return this; }
+        public HashMap<String,ArrayList<String>> getServiceRoutes() { return serviceRoutes; }
+        public CustomPluginInfo setServiceRoutes(HashMap<String,ArrayList<String>> value) { this.serviceRoutes = value; return this; }
+        public ArrayList<String> getEnabled() { return enabled; }
+        public CustomPluginInfo setEnabled(ArrayList<String> value) { this.enabled = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public CustomPluginInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class MetadataTypes
+    {
+        public MetadataTypesConfig config = null;
+        public ArrayList<String> namespaces = null;
+        public ArrayList<MetadataType> types = null;
+        public ArrayList<MetadataOperationType> operations = null;
+        
+        public MetadataTypesConfig getConfig() { return config; }
+        public MetadataTypes setConfig(MetadataTypesConfig value) { this.config = value; return this; }
+        public ArrayList<String> getNamespaces() { return namespaces; }
+        public MetadataTypes setNamespaces(ArrayList<String> value) { this.namespaces = value; return this; }
+        public ArrayList<MetadataType> getTypes() { return types; }
+        public MetadataTypes setTypes(ArrayList<MetadataType> value) { this.types = value; return this; }
+        public ArrayList<MetadataOperationType> getOperations() { return operations; }
+        public MetadataTypes setOperations(ArrayList<MetadataOperationType> value) { this.operations = value; return this; }
+    }
+
+    public static class MetadataPropertyType
+    {
+        public String name = null;
+        public String type = null;
+        public String namespace = null;
+        public Boolean isValueType = null;
+        public Boolean isEnum = null;
+        public Boolean isPrimaryKey = null;
+        public ArrayList<String> genericArgs = null;
+        public String value = null;
+        public String description = null;
+        public MetadataDataMember dataMember = null;
+        public Boolean readOnly = null;
+        public String paramType = null;
+        public String displayType = null;
+        public Boolean isRequired = null;
+        public ArrayList<String> allowableValues = null;
+        public Integer allowableMin = null;
+        public Integer allowableMax = null;
+        public ArrayList<MetadataAttribute> attributes = null;
+        public String uploadTo = null;
+        public InputInfo input = null;
+        public FormatInfo format = null;
+        public RefInfo ref = null;
+        
+        public String getName() { return name; }
+        public MetadataPropertyType setName(String value) { this.name = value; return this; }
+        public String getType() { return type; }
+        public MetadataPropertyType setType(String value) { this.type = value; return this; }
+        public String getNamespace() { return namespace; }
+        public MetadataPropertyType setNamespace(String value) { this.namespace = value; return this; }
+        public Boolean getIsValueType() { return isValueType; }
+        public MetadataPropertyType setIsValueType(Boolean value) { this.isValueType = value; return this; }
+        public Boolean getIsEnum() { return isEnum; }
+        public MetadataPropertyType setIsEnum(Boolean value) { this.isEnum = value; return this; }
+        public Boolean getIsPrimaryKey() { return isPrimaryKey; }
+        public MetadataPropertyType setIsPrimaryKey(Boolean value) { this.isPrimaryKey = value; return this; }
+        public ArrayList<String> getGenericArgs() { return genericArgs; }
+        public MetadataPropertyType setGenericArgs(ArrayList<String> value) { this.genericArgs = value; return this; }
+        public String getValue() { return value; }
+        public MetadataPropertyType setValue(String value) { this.value = value; return this; }
+        public String getDescription() { return description; }
+        public MetadataPropertyType setDescription(String value) { this.description = value; return this; }
+        public MetadataDataMember getDataMember() { return dataMember; }
+        public MetadataPropertyType setDataMember(MetadataDataMember value) { this.dataMember = value; return this; }
+        public Boolean isReadOnly() { return readOnly; }
+        public MetadataPropertyType setReadOnly(Boolean value) { this.readOnly = value; return this; }
+        public String getParamType() { return paramType; }
+        public MetadataPropertyType setParamType(String value) { this.paramType = value; return this; }
+        public String getDisplayType() { return displayType; }
+        public MetadataPropertyType setDisplayType(String value) { this.displayType = value; return this; }
+        public Boolean getIsRequired() { return isRequired; }
+        public MetadataPropertyType setIsRequired(Boolean value) { this.isRequired = value; return this; }
+        public ArrayList<String> getAllowableValues() { return allowableValues; }
+        public MetadataPropertyType setAllowableValues(ArrayList<String> value) { this.allowableValues = value; return this; }
+        public Integer getAllowableMin() { return allowableMin; }
+        public MetadataPropertyType setAllowableMin(Integer value) { this.allowableMin = value; return this; }
+        public Integer getAllowableMax() { return allowableMax; }
+        public MetadataPropertyType setAllowableMax(Integer value) { this.allowableMax = value; return this; }
+        public ArrayList<MetadataAttribute> getAttributes() { return attributes; }
+        public MetadataPropertyType setAttributes(ArrayList<MetadataAttribute> value) { this.attributes = value; return this; }
+        public String getUploadTo() { return uploadTo; }
+        public MetadataPropertyType setUploadTo(String value) { this.uploadTo = value; return this; }
+        public InputInfo getInput() { return input; }
+        public MetadataPropertyType setInput(InputInfo value) { this.input = value; return this; }
+        public FormatInfo getFormat() { return format; }
+        public MetadataPropertyType setFormat(FormatInfo value) { this.format = value; return this; }
+        public RefInfo getRef() { return ref; }
+        public MetadataPropertyType setRef(RefInfo value) { this.ref = value; return this; }
+    }
+
+    @DataContract
+    public static class QueryBase
+    {
+        @DataMember(Order=1)
+        public Integer skip = null;
+
+        @DataMember(Order=2)
+        public Integer take = null;
+
+        @DataMember(Order=3)
+        public String orderBy = null;
+
+        @DataMember(Order=4)
+        public String orderByDesc = null;
+
+        @DataMember(Order=5)
+        public String include = null;
+
+        @DataMember(Order=6)
+        public String fields = null;
+
+        @DataMember(Order=7)
+        public HashMap<String,String> meta = null;
+        
+        public Integer getSkip() { return skip; }
+        public QueryBase setSkip(Integer value) { this.skip = value; return this; }
+        public Integer getTake() { return take; }
+        public QueryBase setTake(Integer value) { this.take = value; return this; }
+        public String getOrderBy() { return orderBy; }
+        public QueryBase setOrderBy(String value) { this.orderBy = value; return this; }
+        public String getOrderByDesc() { return orderByDesc; }
+        public QueryBase setOrderByDesc(String value) { this.orderByDesc = value; return this; }
+        public String getInclude() { return include; }
+        public QueryBase setInclude(String value) { this.include = value; return this; }
+        public String getFields() { return fields; }
+        public QueryBase setFields(String value) { this.fields = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public QueryBase setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class ImageInfo
+    {
+        public String svg = null;
+        public String uri = null;
+        public String alt = null;
+        public String cls = null;
+        
+        public String getSvg() { return svg; }
+        public ImageInfo setSvg(String value) { this.svg = value; return this; }
+        public String getUri() { return uri; }
+        public ImageInfo setUri(String value) { this.uri = value; return this; }
+        public String getAlt() { return alt; }
+        public ImageInfo setAlt(String value) { this.alt = value; return this; }
+        public String getCls() { return cls; }
+        public ImageInfo setCls(String value) { this.cls = value; return this; }
+    }
+
+    public static class LinkInfo
+    {
+        public String id = null;
+        public String href = null;
+        public String label = null;
+        public ImageInfo icon = null;
+        public String show = null;
+        public String hide = null;
+        
+        public String getId() { return id; }
+        public LinkInfo setId(String value) { this.id = value; return this; }
+        public String getHref() { return href; }
+        public LinkInfo setHref(String value) { this.href = value; return this; }
+        public String getLabel() { return label; }
+        public LinkInfo setLabel(String value) { this.label = value; return this; }
+        public ImageInfo getIcon() { return icon; }
+        public LinkInfo setIcon(ImageInfo value) { this.icon = value; return this; }
+        public String getShow() { return show; }
+        public LinkInfo setShow(String value) { this.show = value; return this; }
+        public String getHide() { return hide; }
+        public LinkInfo setHide(String value) { this.hide = value; return this; }
+    }
+
+    public static class ThemeInfo
+    {
+        public String form = null;
+        public ImageInfo modelIcon = null;
+        
+        public String getForm() { return form; }
+        public ThemeInfo setForm(String value) { this.form = value; return this; }
+        public ImageInfo getModelIcon() { return modelIcon; }
+        public ThemeInfo setModelIcon(ImageInfo value) { this.modelIcon = value; return this; }
+    }
+
+    public static class LocodeUi
+    {
+        public ApiCss css = null;
+        public AppTags tags = null;
+        public Integer maxFieldLength = null;
+        public Integer maxNestedFields = null;
+        public Integer maxNestedFieldLength = null;
+        
+        public ApiCss getCss() { return css; }
+        public LocodeUi setCss(ApiCss value) { this.css = value; return this; }
+        public AppTags getTags() { return tags; }
+        public LocodeUi setTags(AppTags value) { this.tags = value; return this; }
+        public Integer getMaxFieldLength() { return maxFieldLength; }
+        public LocodeUi setMaxFieldLength(Integer value) { this.maxFieldLength = value; return this; }
+        public Integer getMaxNestedFields() { return maxNestedFields; }
+        public LocodeUi setMaxNestedFields(Integer value) { this.maxNestedFields = value; return this; }
+        public Integer getMaxNestedFieldLength() { return maxNestedFieldLength; }
+        public LocodeUi setMaxNestedFieldLength(Integer value) { this.maxNestedFieldLength = value; return this; }
+    }
+
+    public static class ExplorerUi
+    {
+        public ApiCss css = null;
+        public AppTags tags = null;
+        public String jsConfig = null;
+        
+        public ApiCss getCss() { return css; }
+        public ExplorerUi setCss(ApiCss value) { this.css = value; return this; }
+        public AppTags getTags() { return tags; }
+        public ExplorerUi setTags(AppTags value) { this.tags = value; return this; }
+        public String getJsConfig() { return jsConfig; }
+        public ExplorerUi setJsConfig(String value) { this.jsConfig = value; return this; }
+    }
+
+    public static class AdminUi
+    {
+        public ApiCss css = null;
+        public ArrayList<PageInfo> pages = null;
+        
+        public ApiCss getCss() { return css; }
+        public AdminUi setCss(ApiCss value) { this.css = value; return this; }
+        public ArrayList<PageInfo> getPages() { return pages; }
+        public AdminUi setPages(ArrayList<PageInfo> value) { this.pages = value; return this; }
+    }
+
+    public static class ApiFormat
+    {
+        public String locale = null;
+        public Boolean assumeUtc = null;
+        public FormatInfo number = null;
+        public FormatInfo date = null;
+        
+        public String getLocale() { return locale; }
+        public ApiFormat setLocale(String value) { this.locale = value; return this; }
+        public Boolean isAssumeUtc() { return assumeUtc; }
+        public ApiFormat setAssumeUtc(Boolean value) { this.assumeUtc = value; return this; }
+        public FormatInfo getNumber() { return number; }
+        public ApiFormat setNumber(FormatInfo value) { this.number = value; return this; }
+        public FormatInfo getDate() { return date; }
+        public ApiFormat setDate(FormatInfo value) { this.date = value; return this; }
+    }
+
+    public static class AuthInfo
+    {
+        public Boolean hasAuthSecret = null;
+        public Boolean hasAuthRepository = null;
+        public Boolean includesRoles = null;
+        public Boolean includesOAuthTokens = null;
+        public String htmlRedirect = null;
+        public ArrayList<MetaAuthProvider> authProviders = null;
+        public IdentityAuthInfo identityAuth = null;
+        public HashMap<String,ArrayList<LinkInfo>> roleLinks = null;
+        public HashMap<String,ArrayList<String>> serviceRoutes = null;
+        public HashMap<String,String> meta = null;
+        
+        public Boolean isHasAuthSecret() { return hasAuthSecret; }
+        public AuthInfo setHasAuthSecret(Boolean value) { this.hasAuthSecret = value; return this; }
+        public Boolean isHasAuthRepository() { return hasAuthRepository; }
+        public AuthInfo setHasAuthRepository(Boolean value) { this.hasAuthRepository = value; return this; }
+        public Boolean isIncludesRoles() { return includesRoles; }
+        public AuthInfo setIncludesRoles(Boolean value) { this.includesRoles = value; return this; }
+        public Boolean isIncludesOAuthTokens() { return includesOAuthTokens; }
+        public AuthInfo setIncludesOAuthTokens(Boolean value) { this.includesOAuthTokens = value; return this; }
+        public String getHtmlRedirect() { return htmlRedirect; }
+        public AuthInfo setHtmlRedirect(String value) { this.htmlRedirect = value; return this; }
+        public ArrayList<MetaAuthProvider> getAuthProviders() { return authProviders; }
+        public AuthInfo setAuthProviders(ArrayList<MetaAuthProvider> value) { this.authProviders = value; return this; }
+        public IdentityAuthInfo getIdentityAuth() { return identityAuth; }
+        public AuthInfo setIdentityAuth(IdentityAuthInfo value) { this.identityAuth = value; return this; }
+        public HashMap<String,ArrayList<LinkInfo>> getRoleLinks() { return roleLinks; }
+        public AuthInfo setRoleLinks(HashMap<String,ArrayList<LinkInfo>> value) { this.roleLinks = value; return this; }
+        public HashMap<String,ArrayList<String>> getServiceRoutes() { return serviceRoutes; }
+        public AuthInfo setServiceRoutes(HashMap<String,ArrayList<String>> value) { this.serviceRoutes = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public AuthInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class ApiKeyInfo
+    {
+        public String label = null;
+        public String httpHeader = null;
+        public ArrayList<String> scopes = null;
+        public ArrayList<String> features = null;
+        public ArrayList<String> requestTypes = null;
+        public ArrayList<KeyValuePair<String,String>> expiresIn = null;
+        public ArrayList<String> hide = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getLabel() { return label; }
+        public ApiKeyInfo setLabel(String value) { this.label = value; return this; }
+        public String getHttpHeader() { return httpHeader; }
+        public ApiKeyInfo setHttpHeader(String value) { this.httpHeader = value; return this; }
+        public ArrayList<String> getScopes() { return scopes; }
+        public ApiKeyInfo setScopes(ArrayList<String> value) { this.scopes = value; return this; }
+        public ArrayList<String> getFeatures() { return features; }
+        public ApiKeyInfo setFeatures(ArrayList<String> value) { this.features = value; return this; }
+        public ArrayList<String> getRequestTypes() { return requestTypes; }
+        public ApiKeyInfo setRequestTypes(ArrayList<String> value) { this.requestTypes = value; return this; }
+        public ArrayList<KeyValuePair<String,String>> getExpiresIn() { return expiresIn; }
+        public ApiKeyInfo setExpiresIn(ArrayList<KeyValuePair<String,String>> value) { this.expiresIn = value; return this; }
+        public ArrayList<String> getHide() { return hide; }
+        public ApiKeyInfo setHide(ArrayList<String> value) { this.hide = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public ApiKeyInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class CommandsInfo
+    {
+        public ArrayList<CommandInfo> commands = null;
+        public HashMap<String,String> meta = null;
+        
+        public ArrayList<CommandInfo> getCommands() { return commands; }
+        public CommandsInfo setCommands(ArrayList<CommandInfo> value) { this.commands = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public CommandsInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class AutoQueryInfo
+    {
+        public Integer maxLimit = null;
+        public Boolean untypedQueries = null;
+        public Boolean rawSqlFilters = null;
+        public Boolean autoQueryViewer = null;
+        public Boolean async = null;
+        public Boolean orderByPrimaryKey = null;
+        public Boolean crudEvents = null;
+        public Boolean crudEventsServices = null;
+        public String accessRole = null;
+        public String namedConnection = null;
+        public ArrayList<AutoQueryConvention> viewerConventions = null;
+        public HashMap<String,String> meta = null;
+        
+        public Integer getMaxLimit() { return maxLimit; }
+        public AutoQueryInfo setMaxLimit(Integer value) { this.maxLimit = value; return this; }
+        public Boolean isUntypedQueries() { return untypedQueries; }
+        public AutoQueryInfo setUntypedQueries(Boolean value) { this.untypedQueries = value; return this; }
+        public Boolean isRawSqlFilters() { return rawSqlFilters; }
+        public AutoQueryInfo setRawSqlFilters(Boolean value) { this.rawSqlFilters = value; return this; }
+        public Boolean isAutoQueryViewer() { return autoQueryViewer; }
+        public AutoQueryInfo setAutoQueryViewer(Boolean value) { this.autoQueryViewer = value; return this; }
+        public Boolean isAsync() { return async; }
+        public AutoQueryInfo setAsync(Boolean value) { this.async = value; return this; }
+        public Boolean isOrderByPrimaryKey() { return orderByPrimaryKey; }
+        public AutoQueryInfo setOrderByPrimaryKey(Boolean value) { this.orderByPrimaryKey = value; return this; }
+        public Boolean isCrudEvents() { return crudEvents; }
+        public AutoQueryInfo setCrudEvents(Boolean value) { this.crudEvents = value; return this; }
+        public Boolean isCrudEventsServices() { return crudEventsServices; }
+        public AutoQueryInfo setCrudEventsServices(Boolean value) { this.crudEventsServices = value; return this; }
+        public String getAccessRole() { return accessRole; }
+        public AutoQueryInfo setAccessRole(String value) { this.accessRole = value; return this; }
+        public String getNamedConnection() { return namedConnection; }
+        public AutoQueryInfo setNamedConnection(String value) { this.namedConnection = value; return this; }
+        public ArrayList<AutoQueryConvention> getViewerConventions() { return viewerConventions; }
+        public AutoQueryInfo setViewerConventions(ArrayList<AutoQueryConvention> value) { this.viewerConventions = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public AutoQueryInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class ValidationInfo
+    {
+        public Boolean hasValidationSource = null;
+        public Boolean hasValidationSourceAdmin = null;
+        public HashMap<String,ArrayList<String>> serviceRoutes = null;
+        public ArrayList<ScriptMethodType> typeValidators = null;
+        public ArrayList<ScriptMethodType> propertyValidators = null;
+        public String accessRole = null;
+        public HashMap<String,String> meta = null;
+        
+        public Boolean isHasValidationSource() { return hasValidationSource; }
+        public ValidationInfo setHasValidationSource(Boolean value) { this.hasValidationSource = value; return this; }
+        public Boolean isHasValidationSourceAdmin() { return hasValidationSourceAdmin; }
+        public ValidationInfo setHasValidationSourceAdmin(Boolean value) { this.hasValidationSourceAdmin = value; return this; }
+        public HashMap<String,ArrayList<String>> getServiceRoutes() { return serviceRoutes; }
+        public ValidationInfo setServiceRoutes(HashMap<String,ArrayList<String>> value) { this.serviceRoutes = value; return this; }
+        public ArrayList<ScriptMethodType> getTypeValidators() { return typeValidators; }
+        public ValidationInfo setTypeValidators(ArrayList<ScriptMethodType> value) { this.typeValidators = value; return this; }
+        public ArrayList<ScriptMethodType> getPropertyValidators() { return propertyValidators; }
+        public ValidationInfo setPropertyValidators(ArrayList<ScriptMethodType> value) { this.propertyValidators = value; return this; }
+        public String getAccessRole() { return accessRole; }
+        public ValidationInfo setAccessRole(String value) { this.accessRole = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public ValidationInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class SharpPagesInfo
+    {
+        public String apiPath = null;
+        public String scriptAdminRole = null;
+        public String metadataDebugAdminRole = null;
+        public Boolean metadataDebug = null;
+        public Boolean spaFallback = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getApiPath() { return apiPath; }
+        public SharpPagesInfo setApiPath(String value) { this.apiPath = value; return this; }
+        public String getScriptAdminRole() { return scriptAdminRole; }
+        public SharpPagesInfo setScriptAdminRole(String value) { this.scriptAdminRole = value; return this; }
+        public String getMetadataDebugAdminRole() { return metadataDebugAdminRole; }
+        public SharpPagesInfo setMetadataDebugAdminRole(String value) { this.metadataDebugAdminRole = value; return this; }
+        public Boolean isMetadataDebug() { return metadataDebug; }
+        public SharpPagesInfo setMetadataDebug(Boolean value) { this.metadataDebug = value; return this; }
+        public Boolean isSpaFallback() { return spaFallback; }
+        public SharpPagesInfo setSpaFallback(Boolean value) { this.spaFallback = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public SharpPagesInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class RequestLogsInfo
+    {
+        public String accessRole = null;
+        public String requestLogger = null;
+        public Integer defaultLimit = null;
+        public HashMap<String,ArrayList<String>> serviceRoutes = null;
+        public RequestLogsAnalytics analytics = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getAccessRole() { return accessRole; }
+        public RequestLogsInfo setAccessRole(String value) { this.accessRole = value; return this; }
+        public String getRequestLogger() { return requestLogger; }
+        public RequestLogsInfo setRequestLogger(String value) { this.requestLogger = value; return this; }
+        public Integer getDefaultLimit() { return defaultLimit; }
+        public RequestLogsInfo setDefaultLimit(Integer value) { this.defaultLimit = value; return this; }
+        public HashMap<String,ArrayList<String>> getServiceRoutes() { return serviceRoutes; }
+        public RequestLogsInfo setServiceRoutes(HashMap<String,ArrayList<String>> value) { this.serviceRoutes = value; return this; }
+        public RequestLogsAnalytics getAnalytics() { return analytics; }
+        public RequestLogsInfo setAnalytics(RequestLogsAnalytics value) { this.analytics = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public RequestLogsInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class ProfilingInfo
+    {
+        public String accessRole = null;
+        public Integer defaultLimit = null;
+        public ArrayList<String> summaryFields = null;
+        public String tagLabel = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getAccessRole() { return accessRole; }
+        public ProfilingInfo setAccessRole(String value) { this.accessRole = value; return this; }
+        public Integer getDefaultLimit() { return defaultLimit; }
+        public ProfilingInfo setDefaultLimit(Integer value) { this.defaultLimit = value; return this; }
+        public ArrayList<String> getSummaryFields() { return summaryFields; }
+        public ProfilingInfo setSummaryFields(ArrayList<String> value) { this.summaryFields = value; return this; }
+        public String getTagLabel() { return tagLabel; }
+        public ProfilingInfo setTagLabel(String value) { this.tagLabel = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public ProfilingInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class FilesUploadInfo
+    {
+        public String basePath = null;
+        public ArrayList<FilesUploadLocation> locations = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getBasePath() { return basePath; }
+        public FilesUploadInfo setBasePath(String value) { this.basePath = value; return this; }
+        public ArrayList<FilesUploadLocation> getLocations() { return locations; }
+        public FilesUploadInfo setLocations(ArrayList<FilesUploadLocation> value) { this.locations = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public FilesUploadInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class AdminUsersInfo
+    {
+        public String accessRole = null;
+        public ArrayList<String> enabled = null;
+        public MetadataType userAuth = null;
+        public ArrayList<String> allRoles = null;
+        public ArrayList<String> allPermissions = null;
+        public ArrayList<String> queryUserAuthProperties = null;
+        public ArrayList<MediaRule> queryMediaRules = null;
+        public ArrayList<InputInfo> formLayout = null;
+        public ApiCss css = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getAccessRole() { return accessRole; }
+        public AdminUsersInfo setAccessRole(String value) { this.accessRole = value; return this; }
+        public ArrayList<String> getEnabled() { return enabled; }
+        public AdminUsersInfo setEnabled(ArrayList<String> value) { this.enabled = value; return this; }
+        public MetadataType getUserAuth() { return userAuth; }
+        public AdminUsersInfo setUserAuth(MetadataType value) { this.userAuth = value; return this; }
+        public ArrayList<String> getAllRoles() { return allRoles; }
+        public AdminUsersInfo setAllRoles(ArrayList<String> value) { this.allRoles = value; return this; }
+        public ArrayList<String> getAllPermissions() { return allPermissions; }
+        public AdminUsersInfo setAllPermissions(ArrayList<String> value) { this.allPermissions = value; return this; }
+        public ArrayList<String> getQueryUserAuthProperties() { return queryUserAuthProperties; }
+        public AdminUsersInfo setQueryUserAuthProperties(ArrayList<String> value) { this.queryUserAuthProperties = value; return this; }
+        public ArrayList<MediaRule> getQueryMediaRules() { return queryMediaRules; }
+        public AdminUsersInfo setQueryMediaRules(ArrayList<MediaRule> value) { this.queryMediaRules = value; return this; }
+        public ArrayList<InputInfo> getFormLayout() { return formLayout; }
+        public AdminUsersInfo setFormLayout(ArrayList<InputInfo> value) { this.formLayout = value; return this; }
+        public ApiCss getCss() { return css; }
+        public AdminUsersInfo setCss(ApiCss value) { this.css = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public AdminUsersInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class AdminIdentityUsersInfo
+    {
+        public String accessRole = null;
+        public ArrayList<String> enabled = null;
+        public MetadataType identityUser = null;
+        public ArrayList<String> allRoles = null;
+        public ArrayList<String> allPermissions = null;
+        public ArrayList<String> queryIdentityUserProperties = null;
+        public ArrayList<MediaRule> queryMediaRules = null;
+        public ArrayList<InputInfo> formLayout = null;
+        public ApiCss css = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getAccessRole() { return accessRole; }
+        public AdminIdentityUsersInfo setAccessRole(String value) { this.accessRole = value; return this; }
+        public ArrayList<String> getEnabled() { return enabled; }
+        public AdminIdentityUsersInfo setEnabled(ArrayList<String> value) { this.enabled = value; return this; }
+        public MetadataType getIdentityUser() { return identityUser; }
+        public AdminIdentityUsersInfo setIdentityUser(MetadataType value) { this.identityUser = value; return this; }
+        public ArrayList<String> getAllRoles() { return allRoles; }
+        public AdminIdentityUsersInfo setAllRoles(ArrayList<String> value) { this.allRoles = value; return this; }
+        public ArrayList<String> getAllPermissions() { return allPermissions; }
+        public AdminIdentityUsersInfo setAllPermissions(ArrayList<String> value) { this.allPermissions = value; return this; }
+        public ArrayList<String> getQueryIdentityUserProperties() { return queryIdentityUserProperties; }
+        public AdminIdentityUsersInfo setQueryIdentityUserProperties(ArrayList<String> value) { this.queryIdentityUserProperties = value; return this; }
+        public ArrayList<MediaRule> getQueryMediaRules() { return queryMediaRules; }
+        public AdminIdentityUsersInfo setQueryMediaRules(ArrayList<MediaRule> value) { this.queryMediaRules = value; return this; }
+        public ArrayList<InputInfo> getFormLayout() { return formLayout; }
+        public AdminIdentityUsersInfo setFormLayout(ArrayList<InputInfo> value) { this.formLayout = value; return this; }
+        public ApiCss getCss() { return css; }
+        public AdminIdentityUsersInfo setCss(ApiCss value) { this.css = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public AdminIdentityUsersInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class AdminRedisInfo
+    {
+        public Integer queryLimit = null;
+        public ArrayList<Integer> databases = null;
+        public Boolean modifiableConnection = null;
+        public RedisEndpointInfo endpoint = null;
+        public HashMap<String,String> meta = null;
+        
+        public Integer getQueryLimit() { return queryLimit; }
+        public AdminRedisInfo setQueryLimit(Integer value) { this.queryLimit = value; return this; }
+        public ArrayList<Integer> getDatabases() { return databases; }
+        public AdminRedisInfo setDatabases(ArrayList<Integer> value) { this.databases = value; return this; }
+        public Boolean isModifiableConnection() { return modifiableConnection; }
+        public AdminRedisInfo setModifiableConnection(Boolean value) { this.modifiableConnection = value; return this; }
+        public RedisEndpointInfo getEndpoint() { return endpoint; }
+        public AdminRedisInfo setEndpoint(RedisEndpointInfo value) { this.endpoint = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public AdminRedisInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class AdminDatabaseInfo
+    {
+        public Integer queryLimit = null;
+        public ArrayList<DatabaseInfo> databases = null;
+        public HashMap<String,String> meta = null;
+        
+        public Integer getQueryLimit() { return queryLimit; }
+        public AdminDatabaseInfo setQueryLimit(Integer value) { this.queryLimit = value; return this; }
+        public ArrayList<DatabaseInfo> getDatabases() { return databases; }
+        public AdminDatabaseInfo setDatabases(ArrayList<DatabaseInfo> value) { this.databases = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public AdminDatabaseInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class MetadataTypesConfig
+    {
+        public String baseUrl = null;
+        public Boolean makePartial = null;
+        public Boolean makeVirtual = null;
+        public Boolean makeInternal = null;
+        public String baseClass = null;
+        @SerializedName("package") public String Package = null;
+        public Boolean addReturnMarker = null;
+        public Boolean addDescriptionAsComments = null;
+        public Boolean addDocAnnotations = null;
+        public Boolean addDataContractAttributes = null;
+        public Boolean addIndexesToDataMembers = null;
+        public Boolean addGeneratedCodeAttributes = null;
+        public Integer addImplicitVersion = null;
+        public Boolean addResponseStatus = null;
+        public Boolean addServiceStackTypes = null;
+        public Boolean addModelExtensions = null;
+        public Boolean addPropertyAccessors = null;
+        public Boolean excludeGenericBaseTypes = null;
+        public Boolean settersReturnThis = null;
+        public Boolean addNullableAnnotations = null;
+        public Boolean makePropertiesOptional = null;
+        public Boolean exportAsTypes = null;
+        public Boolean excludeImplementedInterfaces = null;
+        public String addDefaultXmlNamespace = null;
+        public Boolean makeDataContractsExtensible = null;
+        public Boolean initializeCollections = null;
+        public ArrayList<String> addNamespaces = null;
+        public ArrayList<String> defaultNamespaces = null;
+        public ArrayList<String> defaultImports = null;
+        public ArrayList<String> includeTypes = null;
+        public ArrayList<String> excludeTypes = null;
+        public ArrayList<String> exportTags = null;
+        public ArrayList<String> treatTypesAsStrings = null;
+        public Boolean exportValueTypes = null;
+        public String globalNamespace = null;
+        public Boolean excludeNamespace = null;
+        public String dataClass = null;
+        public String dataClassJson = null;
+        public ArrayList<Class> ignoreTypes = null;
+        public ArrayList<Class> exportTypes = null;
+        public ArrayList<Class> exportAttributes = null;
+        public ArrayList<String> ignoreTypesInNamespaces = null;
+        
+        public String getBaseUrl() { return baseUrl; }
+        public MetadataTypesConfig setBaseUrl(String value) { this.baseUrl = value; return this; }
+        public Boolean isMakePartial() { return makePartial; }
+        public MetadataTypesConfig setMakePartial(Boolean value) { this.makePartial = value; return this; }
+        public Boolean isMakeVirtual() { return makeVirtual; }
+        public MetadataTypesConfig setMakeVirtual(Boolean value) { this.makeVirtual = value; return this; }
+        public Boolean isMakeInternal() { return makeInternal; }
+        public MetadataTypesConfig setMakeInternal(Boolean value) { this.makeInternal = value; return this; }
+        public String getBaseClass() { return baseClass; }
+        public MetadataTypesConfig setBaseClass(String value) { this.baseClass = value; return this; }
+        public String getPackage() { return Package; }
+        public MetadataTypesConfig setPackage(String value) { this.Package = value; return this; }
+        public Boolean isAddReturnMarker() { return addReturnMarker; }
+        public MetadataTypesConfig setAddReturnMarker(Boolean value) { this.addReturnMarker = value; return this; }
+        public Boolean isAddDescriptionAsComments() { return addDescriptionAsComments; }
+        public MetadataTypesConfig setAddDescriptionAsComments(Boolean value) { this.addDescriptionAsComments = value; return this; }
+        public Boolean isAddDocAnnotations() { return addDocAnnotations; }
+        public MetadataTypesConfig setAddDocAnnotations(Boolean value) { this.addDocAnnotations = value; return this; }
+        public Boolean isAddDataContractAttributes() { return addDataContractAttributes; }
+        public MetadataTypesConfig setAddDataContractAttributes(Boolean value) { this.addDataContractAttributes = value; return this; }
+        public Boolean isAddIndexesToDataMembers() { return addIndexesToDataMembers; }
+        public MetadataTypesConfig setAddIndexesToDataMembers(Boolean value) { this.addIndexesToDataMembers = value; return this; }
+        public Boolean isAddGeneratedCodeAttributes() { return addGeneratedCodeAttributes; }
+        public MetadataTypesConfig setAddGeneratedCodeAttributes(Boolean value) { this.addGeneratedCodeAttributes = value; return this; }
+        public Integer getAddImplicitVersion() { return addImplicitVersion; }
+        public MetadataTypesConfig setAddImplicitVersion(Integer value) { this.addImplicitVersion = value; return this; }
+        public Boolean isAddResponseStatus() { return addResponseStatus; }
+        public MetadataTypesConfig setAddResponseStatus(Boolean value) { this.addResponseStatus = value; return this; }
+        public Boolean isAddServiceStackTypes() { return addServiceStackTypes; }
+        public MetadataTypesConfig setAddServiceStackTypes(Boolean value) { this.addServiceStackTypes = value; return this; }
+        public Boolean isAddModelExtensions() { return addModelExtensions; }
+        public MetadataTypesConfig setAddModelExtensions(Boolean value) { this.addModelExtensions = value; return this; }
+        public Boolean isAddPropertyAccessors() { return addPropertyAccessors; }
+        public MetadataTypesConfig setAddPropertyAccessors(Boolean value) { this.addPropertyAccessors = value; return this; }
+        public Boolean isExcludeGenericBaseTypes() { return excludeGenericBaseTypes; }
+        public MetadataTypesConfig setExcludeGenericBaseTypes(Boolean value) { this.excludeGenericBaseTypes = value; return this; }
+        public Boolean isSettersReturnThis() { return settersReturnThis; }
+        public MetadataTypesConfig setSettersReturnThis(Boolean value) { this.settersReturnThis = value; return this; }
+        public Boolean isAddNullableAnnotations() { return addNullableAnnotations; }
+        public MetadataTypesConfig setAddNullableAnnotations(Boolean value) { this.addNullableAnnotations = value; return this; }
+        public Boolean isMakePropertiesOptional() { return makePropertiesOptional; }
+        public MetadataTypesConfig setMakePropertiesOptional(Boolean value) { this.makePropertiesOptional = value; return this; }
+        public Boolean isExportAsTypes() { return exportAsTypes; }
+        public MetadataTypesConfig setExportAsTypes(Boolean value) { this.exportAsTypes = value; return this; }
+        public Boolean isExcludeImplementedInterfaces() { return excludeImplementedInterfaces; }
+        public MetadataTypesConfig setExcludeImplementedInterfaces(Boolean value) { this.excludeImplementedInterfaces = value; return this; }
+        public String getAddDefaultXmlNamespace() { return addDefaultXmlNamespace; }
+        public MetadataTypesConfig setAddDefaultXmlNamespace(String value) { this.addDefaultXmlNamespace = value; return this; }
+        public Boolean isMakeDataContractsExtensible() { return makeDataContractsExtensible; }
+        public MetadataTypesConfig setMakeDataContractsExtensible(Boolean value) { this.makeDataContractsExtensible = value; return this; }
+        public Boolean isInitializeCollections() { return initializeCollections; }
+        public MetadataTypesConfig setInitializeCollections(Boolean value) { this.initializeCollections = value; return this; }
+        public ArrayList<String> getAddNamespaces() { return addNamespaces; }
+        public MetadataTypesConfig setAddNamespaces(ArrayList<String> value) { this.addNamespaces = value; return this; }
+        public ArrayList<String> getDefaultNamespaces() { return defaultNamespaces; }
+        public MetadataTypesConfig setDefaultNamespaces(ArrayList<String> value) { this.defaultNamespaces = value; return this; }
+        public ArrayList<String> getDefaultImports() { return defaultImports; }
+        public MetadataTypesConfig setDefaultImports(ArrayList<String> value) { this.defaultImports = value; return this; }
+        public ArrayList<String> getIncludeTypes() { return includeTypes; }
+        public MetadataTypesConfig setIncludeTypes(ArrayList<String> value) { this.includeTypes = value; return this; }
+        public ArrayList<String> getExcludeTypes() { return excludeTypes; }
+        public MetadataTypesConfig setExcludeTypes(ArrayList<String> value) { this.excludeTypes = value; return this; }
+        public ArrayList<String> getExportTags() { return exportTags; }
+        public MetadataTypesConfig setExportTags(ArrayList<String> value) { this.exportTags = value; return this; }
+        public ArrayList<String> getTreatTypesAsStrings() { return treatTypesAsStrings; }
+        public MetadataTypesConfig setTreatTypesAsStrings(ArrayList<String> value) { this.treatTypesAsStrings = value; return this; }
+        public Boolean isExportValueTypes() { return exportValueTypes; }
+        public MetadataTypesConfig setExportValueTypes(Boolean value) { this.exportValueTypes = value; return this; }
+        public String getGlobalNamespace() { return globalNamespace; }
+        public MetadataTypesConfig setGlobalNamespace(String value) { this.globalNamespace = value; return this; }
+        public Boolean isExcludeNamespace() { return excludeNamespace; }
+        public MetadataTypesConfig setExcludeNamespace(Boolean value) { this.excludeNamespace = value; return this; }
+        public String getDataClass() { return dataClass; }
+        public MetadataTypesConfig setDataClass(String value) { this.dataClass = value; return this; }
+        public String getDataClassJson() { return dataClassJson; }
+        public MetadataTypesConfig setDataClassJson(String value) { this.dataClassJson = value; return this; }
+        public ArrayList<Class> getIgnoreTypes() { return ignoreTypes; }
+        public MetadataTypesConfig setIgnoreTypes(ArrayList<Class> value) { this.ignoreTypes = value; return this; }
+        public ArrayList<Class> getExportTypes() { return exportTypes; }
+        public MetadataTypesConfig setExportTypes(ArrayList<Class> value) { this.exportTypes = value; return this; }
+        public ArrayList<Class> getExportAttributes() { return exportAttributes; }
+        public MetadataTypesConfig setExportAttributes(ArrayList<Class> value) { this.exportAttributes = value; return this; }
+        public ArrayList<String> getIgnoreTypesInNamespaces() { return ignoreTypesInNamespaces; }
+        public MetadataTypesConfig setIgnoreTypesInNamespaces(ArrayList<String> value) { this.ignoreTypesInNamespaces = value; return this; }
+    }
+
+    public static class MetadataType
+    {
+        public String name = null;
+        public String namespace = null;
+        public ArrayList<String> genericArgs = null;
+        public MetadataTypeName inherits = null;
+        @SerializedName("implements") public ArrayList<MetadataTypeName> Implements = null;
+        public String displayType = null;
+        public String description = null;
+        public String notes = null;
+        public ImageInfo icon = null;
+        public Boolean isNested = null;
+        public Boolean isEnum = null;
+        public Boolean isEnumInt = null;
+        public Boolean isInterface = null;
+        public Boolean isAbstract = null;
+        public Boolean isGenericTypeDef = null;
+        public MetadataDataContract dataContract = null;
+        public ArrayList<MetadataPropertyType> properties = null;
+        public ArrayList<MetadataAttribute> attributes = null;
+        public ArrayList<MetadataTypeName> innerTypes = null;
+        public ArrayList<String> enumNames = null;
+        public ArrayList<String> enumValues = null;
+        public ArrayList<String> enumMemberValues = null;
+        public ArrayList<String> enumDescriptions = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getName() { return name; }
+        public MetadataType setName(String value) { this.name = value; return this; }
+        public String getNamespace() { return namespace; }
+        public MetadataType setNamespace(String value) { this.namespace = value; return this; }
+        public ArrayList<String> getGenericArgs() { return genericArgs; }
+        public MetadataType setGenericArgs(ArrayList<String> value) { this.genericArgs = value; return this; }
+        public MetadataTypeName getInherits() { return inherits; }
+        public MetadataType setInherits(MetadataTypeName value) { this.inherits = value; return this; }
+        public ArrayList<MetadataTypeName> getImplements() { return Implements; }
+        public MetadataType setImplements(ArrayList<MetadataTypeName> value) { this.Implements = value; return this; }
+        public String getDisplayType() { return displayType; }
+        public MetadataType setDisplayType(String value) { this.displayType = value; return this; }
+        public String getDescription() { return description; }
+        public MetadataType setDescription(String value) { this.description = value; return this; }
+        public String getNotes() { return notes; }
+        public MetadataType setNotes(String value) { this.notes = value; return this; }
+        public ImageInfo getIcon() { return icon; }
+        public MetadataType setIcon(ImageInfo value) { this.icon = value; return this; }
+        public Boolean getIsNested() { return isNested; }
+        public MetadataType setIsNested(Boolean value) { this.isNested = value; return this; }
+        public Boolean getIsEnum() { return isEnum; }
+        public MetadataType setIsEnum(Boolean value) { this.isEnum = value; return this; }
+        public Boolean getIsEnumInt() { return isEnumInt; }
+        public MetadataType setIsEnumInt(Boolean value) { this.isEnumInt = value; return this; }
+        public Boolean getIsInterface() { return isInterface; }
+        public MetadataType setIsInterface(Boolean value) { this.isInterface = value; return this; }
+        public Boolean getIsAbstract() { return isAbstract; }
+        public MetadataType setIsAbstract(Boolean value) { this.isAbstract = value; return this; }
+        public Boolean getIsGenericTypeDef() { return isGenericTypeDef; }
+        public MetadataType setIsGenericTypeDef(Boolean value) { this.isGenericTypeDef = value; return this; }
+        public MetadataDataContract getDataContract() { return dataContract; }
+        public MetadataType setDataContract(MetadataDataContract value) { this.dataContract = value; return this; }
+        public ArrayList<MetadataPropertyType> getProperties() { return properties; }
+        public MetadataType setProperties(ArrayList<MetadataPropertyType> value) { this.properties = value; return this; }
+        public ArrayList<MetadataAttribute> getAttributes() { return attributes; }
+        public MetadataType setAttributes(ArrayList<MetadataAttribute> value) { this.attributes = value; return this; }
+        public ArrayList<MetadataTypeName> getInnerTypes() { return innerTypes; }
+        public MetadataType setInnerTypes(ArrayList<MetadataTypeName> value) { this.innerTypes = value; return this; }
+        public ArrayList<String> getEnumNames() { return enumNames; }
+        public MetadataType setEnumNames(ArrayList<String> value) { this.enumNames = value; return this; }
+        public ArrayList<String> getEnumValues() { return enumValues; }
+        public MetadataType setEnumValues(ArrayList<String> value) { this.enumValues = value; return this; }
+        public ArrayList<String> getEnumMemberValues() { return enumMemberValues; }
+        public MetadataType setEnumMemberValues(ArrayList<String> value) { this.enumMemberValues = value; return this; }
+        public ArrayList<String> getEnumDescriptions() { return enumDescriptions; }
+        public MetadataType setEnumDescriptions(ArrayList<String> value) { this.enumDescriptions = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public MetadataType setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class MetadataOperationType
+    {
+        public MetadataType request = null;
+        public MetadataType response = null;
+        public ArrayList<String> actions = null;
+        public Boolean returnsVoid = null;
+        public String method = null;
+        public MetadataTypeName returnType = null;
+        public ArrayList<MetadataRoute> routes = null;
+        public MetadataTypeName dataModel = null;
+        public MetadataTypeName viewModel = null;
+        public Boolean requiresAuth = null;
+        public Boolean requiresApiKey = null;
+        public ArrayList<String> requiredRoles = null;
+        public ArrayList<String> requiresAnyRole = null;
+        public ArrayList<String> requiredPermissions = null;
+        public ArrayList<String> requiresAnyPermission = null;
+        public ArrayList<String> tags = null;
+        public ApiUiInfo ui = null;
+        
+        public MetadataType getRequest() { return request; }
+        public MetadataOperationType setRequest(MetadataType value) { this.request = value; return this; }
+        public MetadataType getResponse() { return response; }
+        public MetadataOperationType setResponse(MetadataType value) { this.response = value; return this; }
+        public ArrayList<String> getActions() { return actions; }
+        public MetadataOperationType setActions(ArrayList<String> value) { this.actions = value; return this; }
+        public Boolean isReturnsVoid() { return returnsVoid; }
+        public MetadataOperationType setReturnsVoid(Boolean value) { this.returnsVoid = value; return this; }
+        public String getMethod() { return method; }
+        public MetadataOperationType setMethod(String value) { this.method = value; return this; }
+        public MetadataTypeName getReturnType() { return returnType; }
+        public MetadataOperationType setReturnType(MetadataTypeName value) { this.returnType = value; return this; }
+        public ArrayList<MetadataRoute> getRoutes() { return routes; }
+        public MetadataOperationType setRoutes(ArrayList<MetadataRoute> value) { this.routes = value; return this; }
+        public MetadataTypeName getDataModel() { return dataModel; }
+        public MetadataOperationType setDataModel(MetadataTypeName value) { this.dataModel = value; return this; }
+        public MetadataTypeName getViewModel() { return viewModel; }
+        public MetadataOperationType setViewModel(MetadataTypeName value) { this.viewModel = value; return this; }
+        public Boolean isRequiresAuth() { return requiresAuth; }
+        public MetadataOperationType setRequiresAuth(Boolean value) { this.requiresAuth = value; return this; }
+        public Boolean isRequiresApiKey() { return requiresApiKey; }
+        public MetadataOperationType setRequiresApiKey(Boolean value) { this.requiresApiKey = value; return this; }
+        public ArrayList<String> getRequiredRoles() { return requiredRoles; }
+        public MetadataOperationType setRequiredRoles(ArrayList<String> value) { this.requiredRoles = value; return this; }
+        public ArrayList<String> getRequiresAnyRole() { return requiresAnyRole; }
+        public MetadataOperationType setRequiresAnyRole(ArrayList<String> value) { this.requiresAnyRole = value; return this; }
+        public ArrayList<String> getRequiredPermissions() { return requiredPermissions; }
+        public MetadataOperationType setRequiredPermissions(ArrayList<String> value) { this.requiredPermissions = value; return this; }
+        public ArrayList<String> getRequiresAnyPermission() { return requiresAnyPermission; }
+        public MetadataOperationType setRequiresAnyPermission(ArrayList<String> value) { this.requiresAnyPermission = value; return this; }
+        public ArrayList<String> getTags() { return tags; }
+        public MetadataOperationType setTags(ArrayList<String> value) { this.tags = value; return this; }
+        public ApiUiInfo getUi() { return ui; }
+        public MetadataOperationType setUi(ApiUiInfo value) { this.ui = value; return this; }
+    }
+
+    public static class MetadataDataMember
+    {
+        public String name = null;
+        public Integer order = null;
+        public Boolean isRequired = null;
+        public Boolean emitDefaultValue = null;
+        
+        public String getName() { return name; }
+        public MetadataDataMember setName(String value) { this.name = value; return this; }
+        public Integer getOrder() { return order; }
+        public MetadataDataMember setOrder(Integer value) { this.order = value; return this; }
+        public Boolean getIsRequired() { return isRequired; }
+        public MetadataDataMember setIsRequired(Boolean value) { this.isRequired = value; return this; }
+        public Boolean isEmitDefaultValue() { return emitDefaultValue; }
+        public MetadataDataMember setEmitDefaultValue(Boolean value) { this.emitDefaultValue = value; return this; }
+    }
+
+    public static class MetadataAttribute
+    {
+        public String name = null;
+        public ArrayList<MetadataPropertyType> constructorArgs = null;
+        public ArrayList<MetadataPropertyType> args = null;
+        
+        public String getName() { return name; }
+        public MetadataAttribute setName(String value) { this.name = value; return this; }
+        public ArrayList<MetadataPropertyType> getConstructorArgs() { return constructorArgs; }
+        public MetadataAttribute setConstructorArgs(ArrayList<MetadataPropertyType> value) { this.constructorArgs = value; return this; }
+        public ArrayList<MetadataPropertyType> getArgs() { return args; }
+        public MetadataAttribute setArgs(ArrayList<MetadataPropertyType> value) { this.args = value; return this; }
+    }
+
+    public static class InputInfo
+    {
+        public String id = null;
+        public String name = null;
+        public String type = null;
+        public String value = null;
+        public String placeholder = null;
+        public String help = null;
+        public String label = null;
+        public String title = null;
+        public String size = null;
+        public String pattern = null;
+        public Boolean readOnly = null;
+        public Boolean required = null;
+        public Boolean disabled = null;
+        public String autocomplete = null;
+        public String autofocus = null;
+        public String min = null;
+        public String max = null;
+        public String step = null;
+        public Integer minLength = null;
+        public Integer maxLength = null;
+        public String accept = null;
+        public String capture = null;
+        public Boolean multiple = null;
+        public ArrayList<String> allowableValues = null;
+        public ArrayList<KeyValuePair<String, String>> allowableEntries = null;
+        public String options = null;
+        public Boolean ignore = null;
+        public FieldCss css = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getId() { return id; }
+        public InputInfo setId(String value) { this.id = value; return this; }
+        public String getName() { return name; }
+        public InputInfo setName(String value) { this.name = value; return this; }
+        public String getType() { return type; }
+        public InputInfo setType(String value) { this.type = value; return this; }
+        public String getValue() { return value; }
+        public InputInfo setValue(String value) { this.value = value; return this; }
+        public String getPlaceholder() { return placeholder; }
+        public InputInfo setPlaceholder(String value) { this.placeholder = value; return this; }
+        public String getHelp() { return help; }
+        public InputInfo setHelp(String value) { this.help = value; return this; }
+        public String getLabel() { return label; }
+        public InputInfo setLabel(String value) { this.label = value; return this; }
+        public String getTitle() { return title; }
+        public InputInfo setTitle(String value) { this.title = value; return this; }
+        public String getSize() { return size; }
+        public InputInfo setSize(String value) { this.size = value; return this; }
+        public String getPattern() { return pattern; }
+        public InputInfo setPattern(String value) { this.pattern = value; return this; }
+        public Boolean isReadOnly() { return readOnly; }
+        public InputInfo setReadOnly(Boolean value) { this.readOnly = value; return this; }
+        public Boolean isRequired() { return required; }
+        public InputInfo setRequired(Boolean value) { this.required = value; return this; }
+        public Boolean isDisabled() { return disabled; }
+        public InputInfo setDisabled(Boolean value) { this.disabled = value; return this; }
+        public String getAutocomplete() { return autocomplete; }
+        public InputInfo setAutocomplete(String value) { this.autocomplete = value; return this; }
+        public String getAutofocus() { return autofocus; }
+        public InputInfo setAutofocus(String value) { this.autofocus = value; return this; }
+        public String getMin() { return min; }
+        public InputInfo setMin(String value) { this.min = value; return this; }
+        public String getMax() { return max; }
+        public InputInfo setMax(String value) { this.max = value; return this; }
+        public String getStep() { return step; }
+        public InputInfo setStep(String value) { this.step = value; return this; }
+        public Integer getMinLength() { return minLength; }
+        public InputInfo setMinLength(Integer value) { this.minLength = value; return this; }
+        public Integer getMaxLength() { return maxLength; }
+        public InputInfo setMaxLength(Integer value) { this.maxLength = value; return this; }
+        public String getAccept() { return accept; }
+        public InputInfo setAccept(String value) { this.accept = value; return this; }
+        public String getCapture() { return capture; }
+        public InputInfo setCapture(String value) { this.capture = value; return this; }
+        public Boolean isMultiple() { return multiple; }
+        public InputInfo setMultiple(Boolean value) { this.multiple = value; return this; }
+        public ArrayList<String> getAllowableValues() { return allowableValues; }
+        public InputInfo setAllowableValues(ArrayList<String> value) { this.allowableValues = value; return this; }
+        public ArrayList<KeyValuePair<String, String>> getAllowableEntries() { return allowableEntries; }
+        public InputInfo setAllowableEntries(ArrayList<KeyValuePair<String, String>> value) { this.allowableEntries = value; return this; }
+        public String getOptions() { return options; }
+        public InputInfo setOptions(String value) { this.options = value; return this; }
+        public Boolean isIgnore() { return ignore; }
+        public InputInfo setIgnore(Boolean value) { this.ignore = value; return this; }
+        public FieldCss getCss() { return css; }
+        public InputInfo setCss(FieldCss value) { this.css = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public InputInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class FormatInfo
+    {
+        public String method = null;
+        public String options = null;
+        public String locale = null;
+        
+        public String getMethod() { return method; }
+        public FormatInfo setMethod(String value) { this.method = value; return this; }
+        public String getOptions() { return options; }
+        public FormatInfo setOptions(String value) { this.options = value; return this; }
+        public String getLocale() { return locale; }
+        public FormatInfo setLocale(String value) { this.locale = value; return this; }
+    }
+
+    public static class RefInfo
+    {
+        public String model = null;
+        public String selfId = null;
+        public String refId = null;
+        public String refLabel = null;
+        public String queryApi = null;
+        
+        public String getModel() { return model; }
+        public RefInfo setModel(String value) { this.model = value; return this; }
+        public String getSelfId() { return selfId; }
+        public RefInfo setSelfId(String value) { this.selfId = value; return this; }
+        public String getRefId() { return refId; }
+        public RefInfo setRefId(String value) { this.refId = value; return this; }
+        public String getRefLabel() { return refLabel; }
+        public RefInfo setRefLabel(String value) { this.refLabel = value; return this; }
+        public String getQueryApi() { return queryApi; }
+        public RefInfo setQueryApi(String value) { this.queryApi = value; return this; }
+    }
+
+    public static class ApiCss
+    {
+        public String form = null;
+        public String fieldset = null;
+        public String field = null;
+        
+        public String getForm() { return form; }
+        public ApiCss setForm(String value) { this.form = value; return this; }
+        public String getFieldset() { return fieldset; }
+        public ApiCss setFieldset(String value) { this.fieldset = value; return this; }
+        public String getField() { return field; }
+        public ApiCss setField(String value) { this.field = value; return this; }
+    }
+
+    public static class AppTags
+    {
+        @SerializedName("default") public String Default = null;
+        public String other = null;
+        
+        public String getDefault() { return Default; }
+        public AppTags setDefault(String value) { this.Default = value; return this; }
+        public String getOther() { return other; }
+        public AppTags setOther(String value) { this.other = value; return this; }
+    }
+
+    public static class PageInfo
+    {
+        public String page = null;
+        public String component = null;
+        
+        public String getPage() { return page; }
+        public PageInfo setPage(String value) { this.page = value; return this; }
+        public String getComponent() { return component; }
+        public PageInfo setComponent(String value) { this.component = value; return this; }
+    }
+
+    public static class MetaAuthProvider
+    {
+        public String name = null;
+        public String label = null;
+        public String type = null;
+        public NavItem navItem = null;
+        public ImageInfo icon = null;
+        public ArrayList<InputInfo> formLayout = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getName() { return name; }
+        public MetaAuthProvider setName(String value) { this.name = value; return this; }
+        public String getLabel() { return label; }
+        public MetaAuthProvider setLabel(String value) { this.label = value; return this; }
+        public String getType() { return type; }
+        public MetaAuthProvider setType(String value) { this.type = value; return this; }
+        public NavItem getNavItem() { return navItem; }
+        public MetaAuthProvider setNavItem(NavItem value) { this.navItem = value; return this; }
+        public ImageInfo getIcon() { return icon; }
+        public MetaAuthProvider setIcon(ImageInfo value) { this.icon = value; return this; }
+        public ArrayList<InputInfo> getFormLayout() { return formLayout; }
+        public MetaAuthProvider setFormLayout(ArrayList<InputInfo> value) { this.formLayout = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public MetaAuthProvider setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class IdentityAuthInfo
+    {
+        public Boolean hasRefreshToken = null;
+        public HashMap<String,String> meta = null;
+        
+        public Boolean isHasRefreshToken() { return hasRefreshToken; }
+        public IdentityAuthInfo setHasRefreshToken(Boolean value) { this.hasRefreshToken = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public IdentityAuthInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class KeyValuePair<TKey, TValue>
+    {
+        public TKey key = null;
+        public TValue value = null;
+        
+        public TKey getKey() { return key; }
+        public KeyValuePair<TKey, TValue> setKey(TKey value) { this.key = value; return this; }
+        public TValue getValue() { return value; }
+        public KeyValuePair<TKey, TValue> setValue(TValue value) { this.value = value; return this; }
+    }
+
+    public static class CommandInfo
+    {
+        public String name = null;
+        public String tag = null;
+        public MetadataType request = null;
+        public MetadataType response = null;
+        
+        public String getName() { return name; }
+        public CommandInfo setName(String value) { this.name = value; return this; }
+        public String getTag() { return tag; }
+        public CommandInfo setTag(String value) { this.tag = value; return this; }
+        public MetadataType getRequest() { return request; }
+        public CommandInfo setRequest(MetadataType value) { this.request = value; return this; }
+        public MetadataType getResponse() { return response; }
+        public CommandInfo setResponse(MetadataType value) { this.response = value; return this; }
+    }
+
+    public static class AutoQueryConvention
+    {
+        public String name = null;
+        public String value = null;
+        public String types = null;
+        public String valueType = null;
+        
+        public String getName() { return name; }
+        public AutoQueryConvention setName(String value) { this.name = value; return this; }
+        public String getValue() { return value; }
+        public AutoQueryConvention setValue(String value) { this.value = value; return this; }
+        public String getTypes() { return types; }
+        public AutoQueryConvention setTypes(String value) { this.types = value; return this; }
+        public String getValueType() { return valueType; }
+        public AutoQueryConvention setValueType(String value) { this.valueType = value; return this; }
+    }
+
+    public static class ScriptMethodType
+    {
+        public String name = null;
+        public ArrayList<String> paramNames = null;
+        public ArrayList<String> paramTypes = null;
+        public String returnType = null;
+        
+        public String getName() { return name; }
+        public ScriptMethodType setName(String value) { this.name = value; return this; }
+        public ArrayList<String> getParamNames() { return paramNames; }
+        public ScriptMethodType setParamNames(ArrayList<String> value) { this.paramNames = value; return this; }
+        public ArrayList<String> getParamTypes() { return paramTypes; }
+        public ScriptMethodType setParamTypes(ArrayList<String> value) { this.paramTypes = value; return this; }
+        public String getReturnType() { return returnType; }
+        public ScriptMethodType setReturnType(String value) { this.returnType = value; return this; }
+    }
+
+    public static class RequestLogsAnalytics
+    {
+        public ArrayList<String> months = null;
+        public HashMap<String,String> tabs = null;
+        public Boolean disableAnalytics = null;
+        public Boolean disableUserAnalytics = null;
+        public Boolean disableApiKeyAnalytics = null;
+        
+        public ArrayList<String> getMonths() { return months; }
+        public RequestLogsAnalytics setMonths(ArrayList<String> value) { this.months = value; return this; }
+        public HashMap<String,String> getTabs() { return tabs; }
+        public RequestLogsAnalytics setTabs(HashMap<String,String> value) { this.tabs = value; return this; }
+        public Boolean isDisableAnalytics() { return disableAnalytics; }
+        public RequestLogsAnalytics setDisableAnalytics(Boolean value) { this.disableAnalytics = value; return this; }
+        public Boolean isDisableUserAnalytics() { return disableUserAnalytics; }
+        public RequestLogsAnalytics setDisableUserAnalytics(Boolean value) { this.disableUserAnalytics = value; return this; }
+        public Boolean isDisableApiKeyAnalytics() { return disableApiKeyAnalytics; }
+        public RequestLogsAnalytics setDisableApiKeyAnalytics(Boolean value) { this.disableApiKeyAnalytics = value; return this; }
+    }
+
+    public static class FilesUploadLocation
+    {
+        public String name = null;
+        public String readAccessRole = null;
+        public String writeAccessRole = null;
+        public ArrayList<String> allowExtensions = null;
+        public String allowOperations = null;
+        public Integer maxFileCount = null;
+        public Long minFileBytes = null;
+        public Long maxFileBytes = null;
+        
+        public String getName() { return name; }
+        public FilesUploadLocation setName(String value) { this.name = value; return this; }
+        public String getReadAccessRole() { return readAccessRole; }
+        public FilesUploadLocation setReadAccessRole(String value) { this.readAccessRole = value; return this; }
+        public String getWriteAccessRole() { return writeAccessRole; }
+        public FilesUploadLocation setWriteAccessRole(String value) { this.writeAccessRole = value; return this; }
+        public ArrayList<String> getAllowExtensions() { return allowExtensions; }
+        public FilesUploadLocation setAllowExtensions(ArrayList<String> value) { this.allowExtensions = value; return this; }
+        public String getAllowOperations() { return allowOperations; }
+        public FilesUploadLocation setAllowOperations(String value) { this.allowOperations = value; return this; }
+        public Integer getMaxFileCount() { return maxFileCount; }
+        public FilesUploadLocation setMaxFileCount(Integer value) { this.maxFileCount = value; return this; }
+        public Long getMinFileBytes() { return minFileBytes; }
+        public FilesUploadLocation setMinFileBytes(Long value) { this.minFileBytes = value; return this; }
+        public Long getMaxFileBytes() { return maxFileBytes; }
+        public FilesUploadLocation setMaxFileBytes(Long value) { this.maxFileBytes = value; return this; }
+    }
+
+    public static class MediaRule
+    {
+        public String size = null;
+        public String rule = null;
+        public ArrayList<String> applyTo = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getSize() { return size; }
+        public MediaRule setSize(String value) { this.size = value; return this; }
+        public String getRule() { return rule; }
+        public MediaRule setRule(String value) { this.rule = value; return this; }
+        public ArrayList<String> getApplyTo() { return applyTo; }
+        public MediaRule setApplyTo(ArrayList<String> value) { this.applyTo = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public MediaRule setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class DatabaseInfo
+    {
+        public String alias = null;
+        public String name = null;
+        public ArrayList<SchemaInfo> schemas = null;
+        
+        public String getAlias() { return alias; }
+        public DatabaseInfo setAlias(String value) { this.alias = value; return this; }
+        public String getName() { return name; }
+        public DatabaseInfo setName(String value) { this.name = value; return this; }
+        public ArrayList<SchemaInfo> getSchemas() { return schemas; }
+        public DatabaseInfo setSchemas(ArrayList<SchemaInfo> value) { this.schemas = value; return this; }
+    }
+
+    public static class MetadataTypeName
+    {
+        public String name = null;
+        public String namespace = null;
+        public ArrayList<String> genericArgs = null;
+        
+        public String getName() { return name; }
+        public MetadataTypeName setName(String value) { this.name = value; return this; }
+        public String getNamespace() { return namespace; }
+        public MetadataTypeName setNamespace(String value) { this.namespace = value; return this; }
+        public ArrayList<String> getGenericArgs() { return genericArgs; }
+        public MetadataTypeName setGenericArgs(ArrayList<String> value) { this.genericArgs = value; return this; }
+    }
+
+    public static class MetadataDataContract
+    {
+        public String name = null;
+        public String namespace = null;
+        
+        public String getName() { return name; }
+        public MetadataDataContract setName(String value) { this.name = value; return this; }
+        public String getNamespace() { return namespace; }
+        public MetadataDataContract setNamespace(String value) { this.namespace = value; return this; }
+    }
+
+    public static class MetadataRoute
+    {
+        public String path = null;
+        public String verbs = null;
+        public String notes = null;
+        public String summary = null;
+        
+        public String getPath() { return path; }
+        public MetadataRoute setPath(String value) { this.path = value; return this; }
+        public String getVerbs() { return verbs; }
+        public MetadataRoute setVerbs(String value) { this.verbs = value; return this; }
+        public String getNotes() { return notes; }
+        public MetadataRoute setNotes(String value) { this.notes = value; return this; }
+        public String getSummary() { return summary; }
+        public MetadataRoute setSummary(String value) { this.summary = value; return this; }
+    }
+
+    public static class ApiUiInfo
+    {
+        public ApiCss locodeCss = null;
+        public ApiCss explorerCss = null;
+        public ArrayList<InputInfo> formLayout = null;
+        public HashMap<String,String> meta = null;
+        
+        public ApiCss getLocodeCss() { return locodeCss; }
+        public ApiUiInfo setLocodeCss(ApiCss value) { this.locodeCss = value; return this; }
+        public ApiCss getExplorerCss() { return explorerCss; }
+        public ApiUiInfo setExplorerCss(ApiCss value) { this.explorerCss = value; return this; }
+        public ArrayList<InputInfo> getFormLayout() { return formLayout; }
+        public ApiUiInfo setFormLayout(ArrayList<InputInfo> value) { this.formLayout = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public ApiUiInfo setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class FieldCss
+    {
+        public String field = null;
+        public String input = null;
+        public String label = null;
+        
+        public String getField() { return field; }
+        public FieldCss setField(String value) { this.field = value; return this; }
+        public String getInput() { return input; }
+        public FieldCss setInput(String value) { this.input = value; return this; }
+        public String getLabel() { return label; }
+        public FieldCss setLabel(String value) { this.label = value; return this; }
+    }
+
+    public static class NavItem
+    {
+        public String label = null;
+        public String href = null;
+        public Boolean exact = null;
+        public String id = null;
+        public String className = null;
+        public String iconClass = null;
+        public String iconSrc = null;
+        public String show = null;
+        public String hide = null;
+        public ArrayList<NavItem> children = null;
+        public HashMap<String,String> meta = null;
+        
+        public String getLabel() { return label; }
+        public NavItem setLabel(String value) { this.label = value; return this; }
+        public String getHref() { return href; }
+        public NavItem setHref(String value) { this.href = value; return this; }
+        public Boolean isExact() { return exact; }
+        public NavItem setExact(Boolean value) { this.exact = value; return this; }
+        public String getId() { return id; }
+        public NavItem setId(String value) { this.id = value; return this; }
+        public String getClassName() { return className; }
+        public NavItem setClassName(String value) { this.className = value; return this; }
+        public String getIconClass() { return iconClass; }
+        public NavItem setIconClass(String value) { this.iconClass = value; return this; }
+        public String getIconSrc() { return iconSrc; }
+        public NavItem setIconSrc(String value) { this.iconSrc = value; return this; }
+        public String getShow() { return show; }
+        public NavItem setShow(String value) { this.show = value; return this; }
+        public String getHide() { return hide; }
+        public NavItem setHide(String value) { this.hide = value; return this; }
+        public ArrayList<NavItem> getChildren() { return children; }
+        public NavItem setChildren(ArrayList<NavItem> value) { this.children = value; return this; }
+        public HashMap<String,String> getMeta() { return meta; }
+        public NavItem setMeta(HashMap<String,String> value) { this.meta = value; return this; }
+    }
+
+    public static class SchemaInfo
+    {
+        public String alias = null;
+        public String name = null;
+        public ArrayList<String> tables = null;
+        
+        public String getAlias() { return alias; }
+        public SchemaInfo setAlias(String value) { this.alias = value; return this; }
+        public String getName() { return name; }
+        public SchemaInfo setName(String value) { this.name = value; return this; }
+        public ArrayList<String> getTables() { return tables; }
+        public SchemaInfo setTables(ArrayList<String> value) { this.tables = value; return this; }
+    }
+
+}
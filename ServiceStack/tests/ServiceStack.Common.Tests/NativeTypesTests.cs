@@ -2,7 +2,9 @@
 
 using System;
 using System.Collections.Generic;
+using System.IO.Compression;
 using System.Linq;
+using System.Net;
 using System.Reflection;
 using System.Runtime.Serialization;
 using NUnit.Framework;
@@ -289,6 +291,186 @@ public void Custom_ValueTypes_can_be_exported_as_different_Type_in_java()
         JavaGenerator.TypeAliases.TryRemove("StructType", out value);
     }
 
+    [Test]
+    public void Does_generate_Gson_TypeAdapters_in_java()
+    {
+        var src = (string) appHost.ExecuteService(new TypesJava
+        {
+            IncludeTypes = ["OpenAiChatCompletion.*"],
+            AddGsonTypeAdapters = true,
+        });
+
+        StringAssert.Contains("public static class GsonTypeAdapters implements TypeAdapterFactory", src);
+        StringAssert.Contains("if (type == OpenAiChatCompletion.class) return (TypeAdapter<T>) new OpenAiChatCompletionAdapter(gson);", src);
+        StringAssert.Contains("if (type == OpenAiChatResponse.class) return (TypeAdapter<T>) new OpenAiChatResponseAdapter(gson);", src);
+        StringAssert.Contains("case \"system_fingerprint\":", src);
+        StringAssert.Contains("gson.getAdapter(new TypeToken<ArrayList<Choice>>(){});", src);
+        StringAssert.Contains("writeRuntimeType(gson, responseFormatAdapter, OpenAiResponseFormat.class, out, value.responseFormat);", src);
+
+        // Includes fields from base class
+        var completionAdapter = src.RightPart("public static class OpenAiChatCompletionAdapter");
+        StringAssert.Contains("case \"messages\":", completionAdapter.LeftPart("public static class"));
+    }
+
+    [Test]
+    public void Does_generate_generic_Gson_TypeAdapters_in_java()
+    {
+        var src = (string) appHost.ExecuteService(new TypesJava
+        {
+            IncludeTypes = ["AltQueryItems.*"],
+            AddGsonTypeAdapters = true,
+        });
+
+        StringAssert.Contains("if (type == QueryResponseAlt.class) return (TypeAdapter<T>) new QueryResponseAltAdapter<Object>(gson, typeToken);", src);
+        StringAssert.Contains("public static java.lang.reflect.Type[] typeArguments(TypeToken<?> typeToken, int count)", src);
+
+        var adapter = src.RightPart("public static class QueryResponseAltAdapter<T>").LeftPart("public static class");
+        StringAssert.StartsWith(" extends TypeAdapter<QueryResponseAlt<T>> implements FieldReader<QueryResponseAlt<T>>", adapter);
+        StringAssert.Contains("java.lang.reflect.Type[] typeArgs = typeArguments(typeToken, 1);", adapter);
+        StringAssert.Contains("resultsAdapter = (TypeAdapter<ArrayList<T>>) gson.getAdapter(TypeToken.get(TypeToken.getParameterized(ArrayList.class, typeArgs[0]).getType()));", adapter);
+        StringAssert.Contains("metaAdapter = gson.getAdapter(new TypeToken<HashMap<String,String>>(){});", adapter);
+        StringAssert.Contains("return readFields(in, new QueryResponseAlt<T>(), this);", adapter);
+    }
+
+#if NET8_0_OR_GREATER
+    [Test]
+    public void Does_generate_polymorphic_Gson_TypeAdapters_in_java()
+    {
+        var src = (string) appHost.ExecuteService(new TypesJava
+        {
+            IncludeTypes = ["ChatParts.*"],
+            AddGsonTypeAdapters = true,
+        });
+
+        StringAssert.Contains("if (type == ChatPart.class) return (TypeAdapter<T>) new ChatPartPolymorphicAdapter(gson);", src);
+        StringAssert.Contains("if (type == TextChatPart.class) return (TypeAdapter<T>) new TextChatPartAdapter(gson);", src);
+
+        var polymorphicAdapter = src.RightPart("public static class ChatPartPolymorphicAdapter");
+        StringAssert.Contains("if (!name.equals(\"type\"))", polymorphicAdapter);
+        StringAssert.Contains("case \"text\": value = readFields(in, new TextChatPart(), textChatPartAdapter); break;", polymorphicAdapter);
+        StringAssert.Contains("case \"image_url\": return imageChatPartAdapter.fromJsonTree(obj);", polymorphicAdapter);
+        StringAssert.Contains("value.type = discriminator;", polymorphicAdapter);
+
+        // Polymorphic properties are written by the base's adapter which dispatches on the runtime type
+        var partsAdapter = src.RightPart("public static class ChatPartsAdapter").LeftPart("public static class");
+        StringAssert.Contains("primaryAdapter = gson.getAdapter(ChatPart.class);", partsAdapter);
+        StringAssert.Contains("primaryAdapter.write(out, value.primary);", partsAdapter);
+        StringAssert.Contains("if (value instanceof TextChatPart) { textChatPartAdapter.write(out, (TextChatPart) value); return; }", polymorphicAdapter);
+    }
+#endif
+
+    [Test]
+    public void Does_return_NotModified_for_cached_java_types_with_matching_ETag()
+    {
+        var req = new BasicRequest(new TypesJava { Package = "org.example.etag" });
+        var src = appHost.ExecuteService(req.Dto, req);
+        Assert.That(src, Is.TypeOf<string>());
+
+        var eTag = req.Response.GetHeader(HttpHeaders.ETag);
+        Assert.That(eTag, Is.Not.Null);
+        Assert.That(req.Response.GetHeader(HttpHeaders.CacheControl), Is.EqualTo("max-age=0"));
+
+        var revalidate = new BasicRequest(new TypesJava { Package = "org.example.etag" });
+        revalidate.Headers[HttpHeaders.IfNoneMatch] = eTag;
+        var result = (HttpResult) appHost.ExecuteService(revalidate.Dto, revalidate);
+        Assert.That(result.StatusCode, Is.EqualTo(HttpStatusCode.NotModified));
+        Assert.That(result.ETag.Quoted(), Is.EqualTo(eTag));
+
+        var otherOptions = new BasicRequest(new TypesJava { Package = "org.example.other" });
+        otherOptions.Headers[HttpHeaders.IfNoneMatch] = eTag;
+        Assert.That(appHost.ExecuteService(otherOptions.Dto, otherOptions), Is.TypeOf<string>());
+        Assert.That(otherOptions.Response.GetHeader(HttpHeaders.ETag), Is.Not.EqualTo(eTag));
+    }
+
+    [Test]
+    public void Does_not_cache_java_types_when_Cache_is_false()
+    {
+        var req = new BasicRequest(new TypesJava { Package = "org.example.etag" });
+        appHost.ExecuteService(req.Dto, req);
+        var eTag = req.Response.GetHeader(HttpHeaders.ETag);
+
+        var uncached = new BasicRequest(new TypesJava { Package = "org.example.etag", Cache = false });
+        uncached.Headers[HttpHeaders.IfNoneMatch] = eTag;
+        var src = appHost.ExecuteService(uncached.Dto, uncached);
+        Assert.That(src, Is.TypeOf<string>());
+        StringAssert.Contains("package org.example.etag;", (string) src);
+        Assert.That(uncached.Response.GetHeader(HttpHeaders.ETag), Is.Null);
+        Assert.That(uncached.Response.GetHeader(HttpHeaders.CacheControl), Is.Null);
+    }
+
+    [Test]
+    public void Does_generate_file_per_type_in_java()
+    {
+        var result = (HttpResult) appHost.ExecuteService(new TypesJava
+        {
+            IncludeTypes = ["OpenAiChatCompletion.*"],
+            Package = "org.example.dtos",
+            FilePerType = true,
+            AddGsonTypeAdapters = true,
+        });
+
+        using var zip = new ZipArchive(result.ResponseStream, ZipArchiveMode.Read);
+        var files = zip.Entries.ToDictionary(x => x.FullName, x => x.Open().ReadToEnd());
+
+        Assert.That(files.Keys, Does.Contain("org/example/dtos/package-info.java"));
+        Assert.That(files.Keys, Does.Contain("org/example/dtos/OpenAiChatCompletion.java"));
+        Assert.That(files.Keys, Does.Contain("org/example/dtos/GsonTypeAdapters.java"));
+
+        StringAssert.Contains("FilePerType: True", files["org/example/dtos/package-info.java"]);
+        StringAssert.Contains("package org.example.dtos;", files["org/example/dtos/package-info.java"]);
+
+        var request = files["org/example/dtos/OpenAiChatCompletion.java"];
+        StringAssert.StartsWith("package org.example.dtos;", request);
+        StringAssert.Contains("public class OpenAiChatCompletion extends OpenAiChat", request);
+        StringAssert.DoesNotContain("public class dtos", request);
+        StringAssert.DoesNotContain("Options:", request);
+        StringAssert.Contains("public class Choice", files["org/example/dtos/Choice.java"]);
+        StringAssert.Contains("public class GsonTypeAdapters implements TypeAdapterFactory", files["org/example/dtos/GsonTypeAdapters.java"]);
+    }
+
+    [Test]
+    public void Does_generate_native_image_reflect_config_in_java()
+    {
+        var result = (HttpResult) appHost.ExecuteService(new TypesJava
+        {
+            IncludeTypes = ["OpenAiChatCompletion.*"],
+            Package = "org.example",
+            AddNativeImageConfig = true,
+        });
+
+        using var zip = new ZipArchive(result.ResponseStream, ZipArchiveMode.Read);
+        var files = zip.Entries.ToDictionary(x => x.FullName, x => x.Open().ReadToEnd());
+
+        StringAssert.Contains("public class dtos", files["org/example/dtos.java"]);
+
+        var reflectConfig = files["META-INF/native-image/org.example/dtos/reflect-config.json"];
+        StringAssert.Contains("\"name\": \"org.example.dtos$OpenAiChatCompletion\"", reflectConfig);
+        StringAssert.Contains("\"name\": \"org.example.dtos$Choice\"", reflectConfig);
+        StringAssert.Contains("\"name\": \"net.servicestack.client.ResponseStatus\"", reflectConfig);
+        StringAssert.Contains("\"allDeclaredFields\": true", reflectConfig);
+
+        var classNames = reflectConfig.FromJson<List<Dictionary<string, object>>>().Map(x => x["name"]);
+        Assert.That(classNames.Count, Is.EqualTo(classNames.Distinct().Count()));
+    }
+
+    [Test]
+    public void Does_generate_response_types_as_records_in_java()
+    {
+        var src = (string) appHost.ExecuteService(new TypesJava
+        {
+            IncludeTypes = ["OpenAiChatCompletion.*"],
+            UseRecords = true,
+        });
+
+        StringAssert.Contains("public static record OpenAiChatResponse(", src);
+        StringAssert.Contains("public static record Choice(", src);
+        StringAssert.Contains("choices = choices != null ? Collections.unmodifiableList(new ArrayList<>(choices)) : null;", src);
+
+        // Request DTOs and their base classes remain mutable classes
+        StringAssert.Contains("public static class OpenAiChatCompletion extends OpenAiChat", src);
+        StringAssert.Contains("public static class OpenAiChat", src);
+    }
+
     public enum ComparisonOperator
     {
         Equals = 0,
@@ -531,6 +713,10 @@ public class NativeTypesTestService : Service
     public object Any(DtoRequestWithStructProperty request) => request;
         
     public object Post(OpenAiChatCompletion request) => request;
+
+#if NET8_0_OR_GREATER
+    public object Post(ChatParts request) => request;
+#endif
 }
 
 public class CollectionTestService : Service
@@ -721,6 +907,38 @@ public class OpenAiChat
     public string? User { get; set; }
 }
 
+#if NET8_0_OR_GREATER
+public class ChatParts : IPost, IReturn<ChatParts>
+{
+    public List<ChatPart> Parts { get; set; }
+    public ChatPart Primary { get; set; }
+}
+
+[DataContract]
+[System.Text.Json.Serialization.JsonPolymorphic(TypeDiscriminatorPropertyName = "type")]
+[System.Text.Json.Serialization.JsonDerivedType(typeof(TextChatPart), typeDiscriminator: "text")]
+[System.Text.Json.Serialization.JsonDerivedType(typeof(ImageChatPart), typeDiscriminator: "image_url")]
+public class ChatPart
+{
+    [DataMember(Name = "type")]
+    public string Type { get; set; }
+}
+
+[DataContract]
+public class TextChatPart : ChatPart
+{
+    [DataMember(Name = "text")]
+    public string Text { get; set; }
+}
+
+[DataContract]
+public class ImageChatPart : ChatPart
+{
+    [DataMember(Name = "image_url")]
+    public string ImageUrl { get; set; }
+}
+#endif
+
 [DataContract]
 public class OpenAiMessage
 {
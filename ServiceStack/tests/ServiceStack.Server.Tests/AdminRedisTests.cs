@@ -0,0 +1,122 @@
+using System.Collections.Generic;
+using System.Threading.Tasks;
+using Funq;
+using NUnit.Framework;
+using ServiceStack.Admin;
+using ServiceStack.Redis;
+
+namespace ServiceStack.Server.Tests;
+
+[TestFixture]
+public class AdminRedisTests
+{
+    class AppHost() : AppSelfHostBase(nameof(AdminRedisTests), typeof(AppHost).Assembly)
+    {
+        public override void Configure(Container container)
+        {
+            SetConfig(new HostConfig {
+                AdminAuthSecret = "secret",
+            });
+
+            container.Register<IRedisClientsManager>(c => new RedisManagerPool());
+            Plugins.Add(new AdminRedisFeature());
+        }
+    }
+
+    public const string ListeningOn = "http://localhost:20000/";
+    private const int Db = 9;
+    private readonly ServiceStackHost appHost;
+
+    public AdminRedisTests()
+    {
+        appHost = new AppHost()
+            .Init()
+            .Start(ListeningOn);
+    }
+
+    [OneTimeTearDown]
+    public void OneTimeTearDown() => appHost.Dispose();
+
+    JsonServiceClient CreateClient()
+    {
+        var client = new JsonServiceClient(ListeningOn);
+        client.AddHeader(Keywords.AuthSecret, "secret");
+        return client;
+    }
+
+    [SetUp]
+    public async Task SetUp()
+    {
+        await using var redis = await appHost.GetRedisClientAsync();
+        await redis.SelectAsync(Db);
+        await redis.FlushDbAsync();
+    }
+
+    [Test]
+    public async Task Search_returns_every_key_when_following_Position()
+    {
+        await using (var redis = await appHost.GetRedisClientAsync())
+        {
+            await redis.SelectAsync(Db);
+            for (var i = 0; i < 250; i++)
+            {
+                await redis.SetValueAsync("scan:" + i, "value");
+            }
+            await redis.SetValueAsync("other", "value");
+        }
+
+        var client = CreateClient();
+        var keys = new HashSet<string>();
+        var position = 0;
+        var pages = 0;
+        do
+        {
+            var response = await client.SendAsync(new AdminRedis {
+                Db = Db,
+                Query = "scan:*",
+                Take = 10,
+                Position = position,
+            });
+            Assert.That(response.Position, Is.Not.Null);
+            response.SearchResults.Each(x => keys.Add(x.Id));
+            position = response.Position!.Value;
+            pages++;
+        } while (position != 0);
+
+        Assert.That(keys.Count, Is.EqualTo(250));
+        Assert.That(keys, Does.Not.Contain("other"));
+        Assert.That(pages, Is.GreaterThan(1));
+    }
+
+    [Test]
+    public async Task Commands_returns_each_result_of_the_pipeline()
+    {
+        var client = CreateClient();
+        var response = await client.SendAsync(new AdminRedis {
+            Db = Db,
+            Commands = [
+                ["SET", "pipeline:counter", "1"],
+                ["INCR", "pipeline:counter"],
+                ["GET", "pipeline:counter"],
+            ],
+        });
+
+        Assert.That(response.Results!.Count, Is.EqualTo(3));
+        Assert.That(response.Results[0].Text, Is.EqualTo("OK"));
+        Assert.That(response.Results[1].Text, Is.EqualTo("2"));
+        Assert.That(response.Results[2].Text, Is.EqualTo("2"));
+    }
+
+    [Test]
+    public void Commands_does_not_allow_IllegalCommands()
+    {
+        var client = CreateClient();
+        Assert.ThrowsAsync<WebServiceException>(async () => await client.SendAsync(new AdminRedis {
+            Db = Db,
+            Commands = [
+                ["SET", "pipeline:key", "1"],
+                ["FLUSHDB"],
+            ],
+        }));
+    }
+}